@@ -0,0 +1,109 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom.MappingIntent;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGround;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.dataPropertyDescriptor.FullDataPropertyDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor.FullObjectPropertyDesc;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+
+/**
+ * JMH benchmark of the read, write and reason cycles of the {@code Full...Desc} descriptors
+ * on a {@link SyntheticOntology}.
+ * <p>
+ *     Each write benchmark adds or removes (alternately) an entity to the descriptor before writing it, so that the
+ *     ontology is actually changed and the reasoner is actually synchronised. Run it with the {@code gc} profiler
+ *     (default in {@code build.gradle}) to measure also the allocation rate.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.DescriptorBenchmark <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+@State( Scope.Benchmark)
+public class DescriptorBenchmark {
+
+    @Param({"100"})
+    public int classes;
+    @Param({"100"})
+    public int individuals;
+    @Param({"4"})
+    public int assertions;
+    @Param({"FullClassDesc", "FullIndividualDesc", "FullObjectPropertyDesc", "FullDataPropertyDesc"})
+    public String descriptor;
+
+    private DescriptorGround<?> desc;
+    private Runnable add, remove;
+    private boolean added = false;
+
+    @Setup( Level.Trial)
+    public void setup(){
+        OWLReferences ontoRef = SyntheticOntology.create( classes, individuals, assertions);
+        ontoRef.synchronizeReasoner();
+        String lastClass = SyntheticOntology.getClassName( classes - 1);
+        switch ( descriptor){
+            case "FullClassDesc":
+                FullClassDesc cl = new FullClassDesc( SyntheticOntology.getClassName( 1), ontoRef);
+                add = () -> cl.addSuperClass( lastClass);
+                remove = () -> cl.removeSuperClass( lastClass);
+                desc = cl;
+                break;
+            case "FullIndividualDesc":
+                FullIndividualDesc ind = new FullIndividualDesc( SyntheticOntology.getIndividualName( 0), ontoRef);
+                add = () -> ind.addTypeIndividual( lastClass);
+                remove = () -> ind.removeTypeIndividual( lastClass);
+                desc = ind;
+                break;
+            case "FullObjectPropertyDesc":
+                FullObjectPropertyDesc op = new FullObjectPropertyDesc( SyntheticOntology.getObjectPropertyName( 0), ontoRef);
+                String inverse = SyntheticOntology.getObjectPropertyName( SyntheticOntology.PROPERTIES - 1);
+                add = () -> op.addInverseObjectProperty( inverse);
+                remove = () -> op.removeInverseObjectProperty( inverse);
+                desc = op;
+                break;
+            case "FullDataPropertyDesc":
+                FullDataPropertyDesc dp = new FullDataPropertyDesc( SyntheticOntology.getDataPropertyName( 0), ontoRef);
+                String disjoint = SyntheticOntology.getDataPropertyName( SyntheticOntology.PROPERTIES - 1);
+                add = () -> dp.addDisjointDataProperty( disjoint);
+                remove = () -> dp.removeDisjointDataProperty( disjoint);
+                desc = dp;
+                break;
+            default:
+                throw new IllegalArgumentException( "Unknown descriptor: " + descriptor);
+        }
+        desc.readAxioms();
+    }
+
+    // changes the descriptor, in order to have something to write.
+    private void toggle(){
+        if ( added)
+            remove.run();
+        else add.run();
+        added = ! added;
+    }
+
+    @Benchmark
+    public List<MappingIntent> readAxioms(){
+        return desc.readAxioms();
+    }
+
+    @Benchmark
+    public List<MappingIntent> writeAxioms(){
+        toggle();
+        return desc.writeAxioms();
+    }
+
+    @Benchmark
+    public List<MappingIntent> writeAxiomsReasonReadAxioms(){
+        toggle();
+        return desc.writeAxiomsReasonReadAxioms();
+    }
+}
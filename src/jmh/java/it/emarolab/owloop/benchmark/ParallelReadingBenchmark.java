@@ -0,0 +1,74 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom.MappingIntent;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.DescriptorBatch;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ParallelReading;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * JMH benchmark of the {@link ParallelReading} of a {@link DescriptorBatch} on a {@link SyntheticOntology}.
+ * <p>
+ *     The batch contains a {@link FullIndividualDesc} for each individual and a {@link FullClassDesc} for each class.
+ *     It is read sequentially when {@code threads} is {@code 0}, and on a pool with the given number of threads otherwise.
+ *     Note that aMOR serialises the queries to the same ontology, thus the readings of a single ontology are not
+ *     expected to scale with the number of threads.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.ParallelReadingBenchmark <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+@State( Scope.Benchmark)
+public class ParallelReadingBenchmark {
+
+    @Param({"50"})
+    public int classes;
+    @Param({"50"})
+    public int individuals;
+    @Param({"4"})
+    public int assertions;
+    @Param({"0", "1", "2", "4"})
+    public int threads;
+
+    private DescriptorBatch batch;
+    private ForkJoinPool pool;
+
+    @Setup( Level.Trial)
+    public void setup(){
+        OWLReferences ontoRef = SyntheticOntology.create( classes, individuals, assertions);
+        ontoRef.synchronizeReasoner();
+        batch = new DescriptorBatch();
+        for ( int i = 0; i < individuals; i++)
+            batch.add( new FullIndividualDesc( SyntheticOntology.getIndividualName( i), ontoRef));
+        for ( int i = 0; i < classes; i++)
+            batch.add( new FullClassDesc( SyntheticOntology.getClassName( i), ontoRef));
+        ParallelReading.setParallel( threads > 0);
+        if ( threads > 0) {
+            pool = new ForkJoinPool( threads);
+            ParallelReading.setPool( pool);
+        }
+    }
+
+    @TearDown( Level.Trial)
+    public void tearDown(){
+        ParallelReading.setParallel( false);
+        ParallelReading.setPool( null);
+        if ( pool != null)
+            pool.shutdown();
+    }
+
+    @Benchmark
+    public List<MappingIntent> readAxioms(){
+        return batch.readAxioms();
+    }
+}
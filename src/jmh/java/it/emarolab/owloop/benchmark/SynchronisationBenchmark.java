@@ -0,0 +1,90 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.owloop.core.Axiom.EntitySet.SynchronisationIntent;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Classes;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.EntityDictionary;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectLinkSet;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectLinks;
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+
+/**
+ * JMH benchmark of the differences computed by the synchronisation engine, without any ontology.
+ * <p>
+ *     It measures {@link SynchronisationIntent} (through {@link Classes#synchroniseTo(it.emarolab.owloop.core.Axiom.EntitySet)})
+ *     and the synchronisation of expressions (through {@link ObjectLinkSet#synchroniseTo(it.emarolab.owloop.core.Axiom.EntitySet)}),
+ *     between two sets of {@code size} elements that have {@code overlap} percent of elements in common.
+ *     If {@code interned}, the classes are stored as bitsets of an {@link EntityDictionary}.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.SynchronisationBenchmark <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+@State( Scope.Benchmark)
+public class SynchronisationBenchmark {
+
+    @Param({"10", "1000"})
+    public int size;
+    @Param({"90"})
+    public int overlap;
+    @Param({"4"})
+    public int valuesPerExpression;
+    @Param({"false", "true"})
+    public boolean interned;
+
+    private Classes internalClasses, queriedClasses;
+    private ObjectLinkSet internalLinks, queriedLinks;
+
+    @Setup( Level.Trial)
+    public void setup(){
+        OWLDataFactory factory = OWLManager.getOWLDataFactory();
+        int shift = size - size * overlap / 100; // the elements that are not in common
+        internalClasses = new Classes();
+        queriedClasses = new Classes();
+        internalLinks = new ObjectLinkSet();
+        queriedLinks = new ObjectLinkSet();
+        for ( int i = 0; i < size; i++){
+            internalClasses.add( getClass( factory, i));
+            queriedClasses.add( getClass( factory, i + shift));
+            internalLinks.add( getLinks( factory, i, 0));
+            queriedLinks.add( getLinks( factory, i + shift, i % 2)); // some values differ also in common expressions
+        }
+        if ( interned) {
+            EntityDictionary dictionary = new EntityDictionary();
+            internalClasses.setDictionary( dictionary);
+            queriedClasses.setDictionary( dictionary);
+        }
+    }
+
+    private OWLClass getClass( OWLDataFactory factory, int i){
+        return factory.getOWLClass( SyntheticOntology.IRI + "#" + SyntheticOntology.getClassName( i));
+    }
+    private ObjectLinks getLinks( OWLDataFactory factory, int i, int valuesShift){
+        ObjectLinks links = new ObjectLinks( factory.getOWLObjectProperty(
+                SyntheticOntology.IRI + "#" + SyntheticOntology.getObjectPropertyName( i)));
+        for ( int v = 0; v < valuesPerExpression; v++) {
+            OWLNamedIndividual value = factory.getOWLNamedIndividual(
+                    SyntheticOntology.IRI + "#" + SyntheticOntology.getIndividualName( v + valuesShift));
+            links.getValues().add( value);
+        }
+        return links;
+    }
+
+    @Benchmark
+    public SynchronisationIntent<OWLClass> synchronisationIntent(){
+        return internalClasses.synchroniseTo( queriedClasses);
+    }
+
+    @Benchmark
+    public SynchronisationIntent<ObjectLinks> synchroniseContainedIntent(){
+        return internalLinks.synchroniseTo( queriedLinks);
+    }
+}
@@ -0,0 +1,117 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom.Descriptor.OntologyReference;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * It generates, in memory, ontologies of configurable size to be used by the benchmarks.
+ * <p>
+ *     The generated ontology contains:
+ *     <ul>
+ *         <li> {@code classes} classes (named {@code C0, C1, ...}) arranged as a binary tree rooted in {@code C0},</li>
+ *         <li> {@link #PROPERTIES} object properties ({@code P0, P1, ...}) and data properties ({@code D0, D1, ...}),
+ *              where each property is a sub property of the previous one,</li>
+ *         <li> {@code individuals} individuals ({@code I0, I1, ...}), each of them belonging to a class and
+ *              having {@code assertions} object and data property assertions.</li>
+ *     </ul>
+ *     All the entities are named with the prefix of the ontology, i.e.: they can be given to the
+ *     descriptors by their names.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.SyntheticOntology <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class SyntheticOntology {
+
+    public static final int PROPERTIES = 4;
+    public static final String IRI = "http://www.emarolab.it/owloop/benchmark/syntheticOntology";
+
+    // aMOR requires a different name for each ontology reference.
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private SyntheticOntology(){} // not instantiable
+
+    /**
+     * Creates a new ontology, with the Pellet reasoner, and fills it with synthetic axioms.
+     * @param classes the number of classes, at least {@code 1}.
+     * @param individuals the number of individuals, at least {@code 1}.
+     * @param assertions the number of object and data property assertions for each individual.
+     * @return the reference to the generated ontology, the reasoner is not synchronised yet.
+     */
+    public static OWLReferences create(int classes, int individuals, int assertions){
+        OntologyReference.activateAMORlogging( false);
+        OWLReferences ontoRef = OntologyReference.newOWLReferencesCreatedWithPellet(
+                "syntheticOntology" + COUNTER.getAndIncrement(), // ontology reference name
+                "syntheticOntology.owl", // file path, the ontology is never saved
+                IRI, // IRI
+                true // synchronize the reasoner manually
+        );
+        OWLDataFactory factory = ontoRef.getOWLFactory();
+        Set<OWLAxiom> axioms = new HashSet<>();
+
+        for ( int i = 0; i < classes; i++) {
+            axioms.add( factory.getOWLDeclarationAxiom( getClass( ontoRef, i)));
+            if ( i > 0)
+                axioms.add( factory.getOWLSubClassOfAxiom( getClass( ontoRef, i), getClass( ontoRef, ( i - 1) / 2)));
+        }
+
+        for ( int p = 0; p < PROPERTIES; p++) {
+            axioms.add( factory.getOWLDeclarationAxiom( getObjectProperty( ontoRef, p)));
+            axioms.add( factory.getOWLDeclarationAxiom( getDataProperty( ontoRef, p)));
+            if ( p > 0) {
+                axioms.add( factory.getOWLSubObjectPropertyOfAxiom( getObjectProperty( ontoRef, p), getObjectProperty( ontoRef, p - 1)));
+                axioms.add( factory.getOWLSubDataPropertyOfAxiom( getDataProperty( ontoRef, p), getDataProperty( ontoRef, p - 1)));
+            }
+        }
+
+        for ( int i = 0; i < individuals; i++) {
+            OWLNamedIndividual individual = getIndividual( ontoRef, i);
+            axioms.add( factory.getOWLClassAssertionAxiom( getClass( ontoRef, i % classes), individual));
+            for ( int a = 0; a < assertions; a++) {
+                axioms.add( factory.getOWLObjectPropertyAssertionAxiom( getObjectProperty( ontoRef, a % PROPERTIES),
+                        individual, getIndividual( ontoRef, ( i + a + 1) % individuals)));
+                axioms.add( factory.getOWLDataPropertyAssertionAxiom( getDataProperty( ontoRef, a % PROPERTIES),
+                        individual, factory.getOWLLiteral( a)));
+            }
+        }
+
+        ontoRef.getOWLManager().addAxioms( ontoRef.getOWLOntology(), axioms);
+        return ontoRef;
+    }
+
+    public static String getClassName(int i){
+        return "C" + i;
+    }
+    public static String getIndividualName(int i){
+        return "I" + i;
+    }
+    public static String getObjectPropertyName(int i){
+        return "P" + i;
+    }
+    public static String getDataPropertyName(int i){
+        return "D" + i;
+    }
+
+    private static OWLClass getClass(OWLReferences ontoRef, int i){
+        return ontoRef.getOWLClass( getClassName( i));
+    }
+    private static OWLNamedIndividual getIndividual(OWLReferences ontoRef, int i){
+        return ontoRef.getOWLIndividual( getIndividualName( i));
+    }
+    private static OWLObjectProperty getObjectProperty(OWLReferences ontoRef, int i){
+        return ontoRef.getOWLObjectProperty( getObjectPropertyName( i));
+    }
+    private static OWLDataProperty getDataProperty(OWLReferences ontoRef, int i){
+        return ontoRef.getOWLDataProperty( getDataPropertyName( i));
+    }
+}
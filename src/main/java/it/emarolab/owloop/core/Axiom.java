@@ -3,6 +3,7 @@ package it.emarolab.owloop.core;
 import it.emarolab.amor.owlInterface.OWLReferencesInterface;
 
 import java.util.*;
+import java.util.function.Supplier;
 
 /**
  * This interface is a part of the core of OWLOOP architecture.
@@ -140,8 +141,14 @@ public interface Axiom {
          *           a specific {@link EntitySet} implementation.
          */
         class SynchronisationIntent<E> {
+            // shared by all the intents for the buckets that are empty (it is the one of Collections.emptySet()).
+            private static final Set<?> EMPTY = Collections.emptySet();
+
             // the output of this class
             private Set<E> toAdd, toRemove, unchanged;
+            // the expression being written and when its changes started to be applied, for Metrics only
+            private volatile String applying = null;
+            private long applyingStart;
 
             /*
              * non externally instantiable (see EntitySet class).
@@ -154,18 +161,34 @@ public interface Axiom {
             private SynchronisationIntent(EntitySet<E> a1, EntitySet<E> a2) {
                 initialise();
                 // empty set if parameter are null
-                sync( copySet( a1), copySet( a2));
+                sync( a1, a2);
+                seal();
             }
-            // copyGround this instance, used in: MappingIntent.
-            private SynchronisationIntent(SynchronisationIntent<E> copy){
-                this.toAdd = new HashSet<>( copy.toAdd);
-                this.toRemove = new HashSet<>( copy.toRemove);
-                this.unchanged = new HashSet<>( copy.unchanged);
+            /**
+             * Creates a synchronising intent with the given differences, for the {@link EntitySet}
+             * implementations that compute them on their own representation (e.g.: bitsets of identifiers).
+             * Empty sets are shared and all the sets are not modifiable afterwards.
+             * @param toAdd the elements to add to synchronise the sets.
+             * @param toRemove the elements to remove to synchronise the sets.
+             * @param unchanged the elements in both sets.
+             * @param <E> the type of entities in the {@link EntitySet}s.
+             * @return a new synchronising intent.
+             */
+            public static <E> SynchronisationIntent<E> of( Set<E> toAdd, Set<E> toRemove, Set<E> unchanged){
+                SynchronisationIntent<E> intent = new SynchronisationIntent<>();
+                if ( ! toAdd.isEmpty())
+                    intent.toAdd = toAdd;
+                if ( ! toRemove.isEmpty())
+                    intent.toRemove = toRemove;
+                if ( ! unchanged.isEmpty())
+                    intent.unchanged = unchanged;
+                return intent.seal();
             }
+
             private void initialise(){
-                toAdd = new HashSet<>();
-                unchanged = new HashSet<>();
-                toRemove = new HashSet<>();
+                toAdd = Collections.emptySet();
+                unchanged = Collections.emptySet();
+                toRemove = Collections.emptySet();
             }
 
             /*
@@ -174,47 +197,67 @@ public interface Axiom {
              * It usage and input parameters are:
              *     - read  ->  a1:queried, a2:atom.
              *     - write ->  a1:atoms,   a2:queried.
+             * Each set is iterated only once, and the output sets are allocated only if not empty.
              */
-            private void sync( Set<E> a1, Set<E> a2) {
-                // it could be faster ....
-                if ( a1.isEmpty() & a2.isEmpty())
-                    return;
-                if ( a1.isEmpty())
-                    toRemove.addAll( a2);
-                else if ( a2.isEmpty())
-                    toAdd.addAll( a1);
-                else {
-                    unchanged = new HashSet<>(a1);
-                    unchanged.retainAll( a2);
-                    toAdd = new HashSet<>(a1);
-                    toAdd.removeAll( a2);
-                    toRemove = new HashSet<>(a2);
-                    toRemove.removeAll( a1);
-                }
+            private void sync( EntitySet<E> a1, EntitySet<E> a2) {
+                E head1 = singletonHead( a1);
+                E head2 = singletonHead( a2);
+                if ( a1 != null)
+                    for ( E e : a1) {
+                        if ( contains( a2, head2, e))
+                            unchanged = add( unchanged, e);
+                        else toAdd = add( toAdd, e);
+                        if ( a1.isSingleton())
+                            break;
+                    }
+                if ( a2 != null)
+                    for ( E e : a2) {
+                        if ( ! contains( a1, head1, e))
+                            toRemove = add( toRemove, e);
+                        if ( a2.isSingleton())
+                            break;
+                    }
             }
 
             /*
-             * makes a null EntitySet as an empty set or copyGround the given
-             * set for further manipulation (in the sync(..) method).
-             * It manages also the singleton by copyGround only
-             * the first element if necessary
+             * returns the only element that is considered in a singleton set
              * (the others are discarded and a warning msg is produced).
+             * It returns null for null, empty or not singleton sets.
              */
-            private Set<E> copySet( EntitySet<E> a){
-                if ( a == null)
-                    return new HashSet<>();
-                Set<E> copy = new HashSet<>();
-                for ( E e : a){
-                    copy.add( e);
-                    if ( a.isSingleton()) {
-                        if ( a.size() > 1) {
-                            System.out.println("\t!! a singleton with size: " + a.size() + " found.");
-                            System.out.println("\t!! Only element " + e + " has been considered on set: " + a);
-                        }
-                        break;
-                    }
+            private E singletonHead( EntitySet<E> a){
+                if ( a == null || ! a.isSingleton() || a.isEmpty())
+                    return null;
+                E e = a.iterator().next();
+                if ( a.size() > 1) {
+                    System.out.println("\t!! a singleton with size: " + a.size() + " found.");
+                    System.out.println("\t!! Only element " + e + " has been considered on set: " + a);
                 }
-                return copy;
+                return e;
+            }
+            // true if the element is considered in the set, i.e.: the head for singletons, or any element otherwise.
+            private boolean contains( EntitySet<E> a, E head, E e){
+                if ( a == null)
+                    return false;
+                if ( a.isSingleton())
+                    return head != null && head.equals( e);
+                return a.contains( e);
+            }
+            // allocates a new set only when the first element is added to a bucket.
+            private Set<E> add( Set<E> bucket, E e){
+                if ( bucket == EMPTY)
+                    bucket = new HashSet<>();
+                bucket.add( e);
+                return bucket;
+            }
+            // makes the output not modifiable, in this way it can be shared by copy().
+            private SynchronisationIntent<E> seal(){
+                if ( toAdd != EMPTY)
+                    toAdd = Collections.unmodifiableSet( toAdd);
+                if ( unchanged != EMPTY)
+                    unchanged = Collections.unmodifiableSet( unchanged);
+                if ( toRemove != EMPTY)
+                    toRemove = Collections.unmodifiableSet( toRemove);
+                return this;
             }
 
             /**
@@ -223,7 +266,7 @@ public interface Axiom {
              * to add in the OWL representation.
              * During {@link Descriptor#readAxioms()} those are the axioms
              * to add to the OWLOOP representation.
-             * @return the element to add for synchronise the axioms sets.
+             * @return the element to add for synchronise the axioms sets (not modifiable).
              */
             public Set<E> getToAdd() {
                 return toAdd;
@@ -235,7 +278,7 @@ public interface Axiom {
              * to remove from the OWL representation.
              * During {@link Descriptor#readAxioms()} those are the axioms
              * to remove from the OWLOOP representation.
-             * @return the element to add for synchronise the axioms sets.
+             * @return the element to add for synchronise the axioms sets (not modifiable).
              */
             public Set<E> getToRemove() {
                 return toRemove;
@@ -245,7 +288,7 @@ public interface Axiom {
              * Returns the elements that are in both sets.
              * During {@link Descriptor#writeAxioms()} and {@link Descriptor#readAxioms()},
              * those elements can be not considered.
-             * @return the elements in both axioms sets.
+             * @return the elements in both axioms sets (not modifiable).
              */
             public Set<E> getUnchanged() {
                 return unchanged;
@@ -280,8 +323,9 @@ public interface Axiom {
                         ", unchanged=" + unchanged;
             }
 
+            // the output is not modifiable, so there is no need to copy it.
             public SynchronisationIntent<E> copy(){
-                return new SynchronisationIntent<E>( this);
+                return this;
             }
         }
 
@@ -364,54 +408,49 @@ public interface Axiom {
             private SynchronisationMultiIntent<F,?> expressionAxiomsSync(EntitySet<F> a1, EntitySet<F> a2){
                 SynchronisationMultiIntent<F,Y> sync = new SynchronisationMultiIntent<>();
 
-                // it could be faster ....
                 if ( a1.isEmpty() & a2.isEmpty())
-                    return sync;
+                    return sync.sealed();
                 if ( a1.isEmpty()) {
                     for (F a : a2)
                         sync.addSynchronised(new SynchronisationIntent<>(null, a.getValues()), a);
-                    return sync;
+                    return sync.sealed();
                 } 
                 if ( a2.isEmpty()) {
                     for (F a : a1)
                         sync.addSynchronised(new SynchronisationIntent<>( a.getValues(), null), a);
-                    return sync;
+                    return sync.sealed();
                 }
 
-                for (F b1 : a1) {
-                    boolean found = false;
-                    for (F b2 : a2) {
-                        // you may want to add here something to sync all object/data properties (now it sync only the value of the property described in the internal state of a description )
-                        if (b1.getExpression().equals(b2.getExpression())) {
-                            // sync common values between a1 and a2
-                            sync.addSynchronised(new SynchronisationIntent<>(b1.getValues(), b2.getValues()), b1);
-                            found = true;
-                            break;
-                        }
-                        if ( checkSingletton( a2, b2))
-                            break;
-                    }
+                // group by expression: a2 as seen while searching from a1 (only its first element if singleton)
+                Map<Object,F> a2Expressions = new HashMap<>( a2.size() * 4 / 3 + 1);
+                for (F b2 : a2) {
+                    a2Expressions.putIfAbsent( b2.getExpression(), b2);
+                    if ( checkSingletton( a2, b2))
+                        break;
+                }
+                // and all the expressions of a1, used to find what is only in a2
+                Set<Object> a1Expressions = new HashSet<>( a1.size() * 4 / 3 + 1);
+                for (F b1 : a1)
+                    a1Expressions.add( b1.getExpression());
 
-                    // add in case of writing (remove in case of reading) where a1 contains elements not in a2
-                    if ( ! found)
+                for (F b1 : a1) {
+                    // you may want to add here something to sync all object/data properties (now it sync only the value of the property described in the internal state of a description )
+                    F b2 = a2Expressions.get( b1.getExpression());
+                    if ( b2 != null)
+                        // sync common values between a1 and a2
+                        sync.addSynchronised(new SynchronisationIntent<>(b1.getValues(), b2.getValues()), b1);
+                    else
+                        // add in case of writing (remove in case of reading) where a1 contains elements not in a2
                         sync.addSynchronised(new SynchronisationIntent<>(b1.getValues(), null), b1);
                     if ( checkSingletton( a1, b1))
                         break;
                 }
 
-                for (F b2 : a2) {
-                    boolean found = false;
-                    for (F b1 : a1) {
-                        if (b1.getExpression().equals(b2.getExpression())) {
-                            found = true;
-                            break;
-                        }
-                    }
+                for (F b2 : a2)
                     // add in case of reading (remove in case of writing) where a2 contains element not in a1
-                    if ( !found)
+                    if ( ! a1Expressions.contains( b2.getExpression()))
                         sync.addSynchronised(new SynchronisationIntent<>(null, b2.getValues()), b2);
-                }
-                return sync;
+                return sync.sealed();
             }
 
 
@@ -457,14 +496,20 @@ public interface Axiom {
                 super();
             }
 
+            // called once all the expressions have been synchronised.
+            private SynchronisationMultiIntent<E,Y> sealed(){
+                super.seal();
+                return this;
+            }
+
             @SuppressWarnings("unchecked")
             private void addSynchronised(SynchronisationIntent<Y> intent, E t) {
                 if ( ! intent.getToAdd().isEmpty())
-                    getToAdd().add((E) t.getNewData(intent.getToAdd()));
+                    super.toAdd = super.add( super.toAdd, (E) t.getNewData(intent.getToAdd()));
                 if ( ! intent.getUnchanged().isEmpty())
-                    getUnchanged().add((E) t.getNewData(intent.getUnchanged()));
+                    super.unchanged = super.add( super.unchanged, (E) t.getNewData(intent.getUnchanged()));
                 if ( ! intent.getToRemove().isEmpty())
-                    getToRemove().add( (E) t.getNewData(intent.getToRemove()));
+                    super.toRemove = super.add( super.toRemove, (E) t.getNewData(intent.getToRemove()));
             }
         }
     }
@@ -522,10 +567,26 @@ public interface Axiom {
          *
          * @return the changes made in the {@link EntitySet} during the reading.
          * Note that the elements of the returned list, may not have the {@link MappingIntent#getOntologyChanges()} field
-         * initialised (i.e.: {@code Void}).
+         * initialised (i.e.: {@code Void}). If {@link MappingIntent#getRecording()} is {@link MappingIntent.Recording#NONE},
+         * the returned list is empty and it cannot be modified (see {@link MappingIntent#newList()}).
          */
         List<MappingIntent> readAxioms();
 
+        /**
+         * It is used by the {@code build...()} methods to read the axioms of the descriptors that they instantiate.
+         * By default, it calls {@link #readAxioms()} on the given descriptor, but it can be overridden
+         * in order to reuse descriptors that have already been read (e.g.: from a cache).
+         *
+         * @param built the new descriptor instantiated by a {@code build...()} method.
+         * @param <D> the type of the built descriptor.
+         *
+         * @return the descriptor to be returned by the {@code build...()} method, with its axioms read.
+         */
+        default <D extends Descriptor<?,?>> D readBuiltDescriptor(D built){
+            built.readAxioms();
+            return built;
+        }
+
         /**
          * This method is used to update the ontology with a specific {@link EntitySet} (or {@link ExpressionEntitySet})
          * by synchronizing the OWL representation with the internal state of the descriptor, such that they are equal.
@@ -533,7 +594,9 @@ public interface Axiom {
          *
          * @return the changes made in the OWL ontology during the writing.
          * Note that the elements of the returned list, may have the {@link MappingIntent#getOntologyChanges()} field
-         * initialised (i.e.: {@link org.semanticweb.owlapi.model.OWLOntologyChange}).
+         * initialised (i.e.: {@link org.semanticweb.owlapi.model.OWLOntologyChange}). If {@link MappingIntent#getRecording()}
+         * is {@link MappingIntent.Recording#NONE}, the returned list is empty and it cannot be modified
+         * (see {@link MappingIntent#newList()}).
          */
         List<MappingIntent> writeAxioms();
 
@@ -550,10 +613,15 @@ public interface Axiom {
          * @return the changes made by the {@link #writeAxioms()} and {@link #readAxioms()} operations.
          */
         default List< MappingIntent> writeAxiomsReasonReadAxioms(boolean reason){
-            List<MappingIntent> intent = writeAxioms();
+            List<MappingIntent> written = writeAxioms();
             if(reason)
                 groundReason();
-            intent.addAll( readAxioms());
+            List<MappingIntent> read = readAxioms();
+            if ( MappingIntent.getRecording() == MappingIntent.Recording.NONE)
+                return Collections.emptyList(); // nothing is aggregated
+            List<MappingIntent> intent = new ArrayList<>( written.size() + read.size());
+            intent.addAll( written);
+            intent.addAll( read);
             return intent;
         }
 
@@ -569,6 +637,57 @@ public interface Axiom {
          */
         default List< MappingIntent> writeAxiomsReasonReadAxioms(){return writeAxiomsReasonReadAxioms(true);}
 
+        /**
+         * It calls {@link EntitySet#synchroniseFrom(EntitySet)} on an expression of this descriptor
+         * with the result of its query, and it records their latencies if {@link Metrics#isEnabled()}.
+         * @param expression the name of the expression, e.g.: {@code "Types"}.
+         * @param state the entities of the expression, e.g.: {@code getTypes()}.
+         * @param query the query of the expression, e.g.: {@code this::queryTypes}.
+         * @param <Y> the type of entities of the expression.
+         * @return the changes to be done to synchronise the expression from the OWL representation.
+         */
+        default <Y> EntitySet.SynchronisationIntent<Y> synchroniseExpressionFrom(String expression, EntitySet<Y> state,
+                                                                                 Supplier<? extends EntitySet<Y>> query){
+            MappingIntent.started();
+            if ( ! Metrics.isEnabled())
+                return state.synchroniseFrom( query.get());
+            long start = System.nanoTime();
+            EntitySet<Y> queried = query.get();
+            Metrics.record( Metrics.Phase.QUERY, this, expression, start);
+            start = System.nanoTime();
+            EntitySet.SynchronisationIntent<Y> sync = state.synchroniseFrom( queried);
+            Metrics.record( Metrics.Phase.DIFF, this, expression, start);
+            return sync;
+        }
+        /**
+         * It calls {@link EntitySet#synchroniseTo(EntitySet)} on an expression of this descriptor
+         * with the result of its query, and it records their latencies if {@link Metrics#isEnabled()}.
+         * In this case, the latency of applying the changes is recorded by {@link #getChangingIntent(EntitySet.SynchronisationIntent, Object)},
+         * which gets its start time from the returned intent.
+         * @param expression the name of the expression, e.g.: {@code "Types"}.
+         * @param state the entities of the expression, e.g.: {@code getTypes()}.
+         * @param query the query of the expression, e.g.: {@code this::queryTypes}.
+         * @param <Y> the type of entities of the expression.
+         * @return the changes to be done to synchronise the OWL representation to the expression.
+         */
+        default <Y> EntitySet.SynchronisationIntent<Y> synchroniseExpressionTo(String expression, EntitySet<Y> state,
+                                                                               Supplier<? extends EntitySet<Y>> query){
+            MappingIntent.started();
+            if ( ! Metrics.isEnabled())
+                return state.synchroniseTo( query.get());
+            long start = System.nanoTime();
+            EntitySet<Y> queried = query.get();
+            Metrics.record( Metrics.Phase.QUERY, this, expression, start);
+            start = System.nanoTime();
+            EntitySet.SynchronisationIntent<Y> sync = state.synchroniseTo( queried);
+            Metrics.record( Metrics.Phase.DIFF, this, expression, start);
+            if ( sync != null) { // passed to getChangingIntent(..) by the caller
+                sync.applyingStart = System.nanoTime();
+                sync.applying = expression;
+            }
+            return sync;
+        }
+
         /**
          * It instantiates a lists of {@link MappingIntent} with the
          * parameters as {@link MappingIntent#getOntologyChanges()}.
@@ -579,7 +698,16 @@ public interface Axiom {
          *
          * @return the changes based on the input parameters.
          */
+        @SuppressWarnings("unchecked")
         default List<MappingIntent> getIntent(EntitySet.SynchronisationIntent sync){ // read
+            switch ( MappingIntent.getRecording()) {
+                case NONE:
+                    return Collections.emptyList();
+                case SUMMARY:
+                    List<MappingIntent> summary = new ArrayList<>( 1);
+                    summary.add( MappingIntent.summary( getGround(), sync, null, false));
+                    return summary;
+            }
             List<MappingIntent> intents = new ArrayList<>();
             EntitySet.SynchronisationIntent synchronisationIntent = null;
             if( sync != null)
@@ -603,6 +731,19 @@ public interface Axiom {
          * @return the changes based on the input parameters.
          */
         default <C> List<MappingIntent> getChangingIntent(EntitySet.SynchronisationIntent sync, C changes){ // write
+            String applying = sync == null ? null : sync.applying; // set by synchroniseExpressionTo
+            if ( applying != null) {
+                sync.applying = null; // recorded once
+                Metrics.record( Metrics.Phase.APPLY, this, applying, sync.applyingStart);
+            }
+            switch ( MappingIntent.getRecording()) {
+                case NONE:
+                    return Collections.emptyList();
+                case SUMMARY:
+                    List<MappingIntent> summary = new ArrayList<>( 1);
+                    summary.add( MappingIntent.summary( getGround(), sync, changes, true));
+                    return summary;
+            }
             List<MappingIntent> intents = new ArrayList<>();
             EntitySet.SynchronisationIntent synchronisationIntent = null;
             if( sync != null)
@@ -660,17 +801,88 @@ public interface Axiom {
      *     In case in which an {@link Exception} occurs during synchronisation,
      *     the value {@link #getIntent()} would be {@code null}.
      * </p>
+     * <p>
+     *     Since most of the callers discard them, the intents can be recorded with a lower
+     *     detail (see {@link #setRecording(Recording)}). With {@link Recording#SUMMARY}, an intent
+     *     only counts the differences and the changes, and it refers to the ground of the descriptor
+     *     without copying it. With {@link Recording#NONE}, nothing is recorded and the
+     *     synchronisations return an empty list that cannot be modified (see {@link #newList()}).
+     *     Thus, the code that aggregates the intents of several synchronisations should read the
+     *     recording once, and add nothing if it is {@link Recording#NONE}.
+     * </p>
      *
      * @param <I> the {@link Ground} used during synchronisation.
      * @param <C> the changes in the EntitySet of the ontology.
      */
     class MappingIntent<I extends Axiom.Ground,C> {
 
-        private long time;
+        /**
+         * The detail with which the {@link MappingIntent}s are recorded.
+         */
+        public enum Recording {
+            /**
+             * Nothing is recorded, {@link Descriptor#readAxioms()} and {@link Descriptor#writeAxioms()}
+             * return an empty list that cannot be modified.
+             */
+            NONE,
+            /**
+             * Only the number of differences and changes, and the duration of the synchronisation are recorded.
+             */
+            SUMMARY,
+            /**
+             * A copy of the ground and of the {@link EntitySet.SynchronisationIntent} is recorded (default).
+             */
+            FULL
+        }
+
+        private static volatile Recording recording = Recording.FULL;
+        // the System.nanoTime() at which the synchronisation of an expression started on each thread
+        private static final ThreadLocal<long[]> STARTED = ThreadLocal.withInitial( () -> new long[]{ -1});
+
+        /**
+         * @param recording the detail with which the intents are recorded from now on, {@code null} for {@link Recording#FULL}.
+         */
+        public static void setRecording(Recording recording) {
+            MappingIntent.recording = recording == null ? Recording.FULL : recording;
+        }
+        /**
+         * @return the detail with which the intents are recorded.
+         */
+        public static Recording getRecording() {
+            return recording;
+        }
+
+        /**
+         * Returns the list of intents of an operation that does not synchronise anything.
+         * @return a new list, or an empty list that cannot be modified if the {@link #getRecording()} is {@link Recording#NONE}.
+         */
+        public static List<MappingIntent> newList(){
+            if ( recording == Recording.NONE)
+                return Collections.emptyList();
+            return new ArrayList<>();
+        }
+
+        // called when the synchronisation of an expression starts, to compute the duration of its intent
+        static void started(){
+            if ( recording != Recording.NONE)
+                STARTED.get()[ 0] = System.nanoTime();
+        }
+        // the duration of the synchronisation that is ending, -1 if it is unknown
+        private static long ended(long now){
+            long[] started = STARTED.get();
+            long duration = started[ 0] < 0 ? -1 : now - started[ 0];
+            started[ 0] = -1;
+            return duration;
+        }
+
+        private long time, nanoTime, duration = -1;
+        private int added, removed;
+        private boolean summary = false, failed = false;
         private EntitySet.SynchronisationIntent intent; // null if error occurs
         private I ground;
         private boolean writing;
         private C ontologyChanges = null;
+        private int eliminatedChanges = 0;
 
         /**
          * Initialise this object without specifying any {@link #getOntologyChanges()}.
@@ -716,11 +928,86 @@ public interface Axiom {
             initialise( ground, intent, true);
             this.ontologyChanges = changes;
         }
+        /**
+         * Initialise this object with a {@link Recording#SUMMARY} of a synchronisation.
+         *
+         * @param ground the ontology and instance used during synchronisation, it is not copied.
+         * @param sync the differences between the OWL structure and internal state of the descriptor, it is not stored.
+         * @param changes the ontological changes applied during writing, only their number is stored.
+         * @param writing {@code true} if this is generated during {@link Descriptor#writeAxioms()}.
+         *                {@code false} if this is generated during {@link Descriptor#readAxioms()}.
+         * @return the summary of a synchronisation.
+         */
+        public static <I extends Axiom.Ground> MappingIntent<I,Integer> summary(I ground, EntitySet.SynchronisationIntent sync,
+                                                                              Object changes, boolean writing){
+            MappingIntent<I,Integer> summary = new MappingIntent<>( ground, null, writing);
+            summary.summary = true;
+            summary.failed = sync == null;
+            summary.count( sync);
+            if ( changes instanceof Collection)
+                summary.ontologyChanges = ((Collection<?>) changes).size();
+            return summary;
+        }
+
         private void initialise(I ground, EntitySet.SynchronisationIntent intent, boolean writing){
+            this.nanoTime = System.nanoTime();
+            this.duration = ended( nanoTime);
             this.time = System.currentTimeMillis();
             this.writing = writing;
             this.ground = ground;
             this.intent = intent;
+            count( intent);
+        }
+        private void count(EntitySet.SynchronisationIntent sync){
+            if ( sync == null)
+                return;
+            if ( sync.getToAdd() != null)
+                added = sync.getToAdd().size();
+            if ( sync.getToRemove() != null)
+                removed = sync.getToRemove().size();
+        }
+
+        /**
+         * @return {@code true} if this has been recorded with {@link Recording#SUMMARY}, i.e.: it
+         * does not have the {@link #getIntent()}, and its {@link #getOntologyChanges()} is their number.
+         */
+        public boolean isSummary(){
+            return summary;
+        }
+        /**
+         * @return the {@link System#nanoTime()} in which the changes were made.
+         */
+        public long getNanoTime() {
+            return nanoTime;
+        }
+        /**
+         * @return the nanoseconds spent to synchronise the expression (i.e.: to query, compare and apply the changes),
+         * {@code -1} if it is not known.
+         */
+        public long getDuration() {
+            return duration;
+        }
+        /**
+         * @return the number of elements to be added to the descriptor (if {@link #wasReading()}) or to the ontology (if {@link #wasWriting()}).
+         */
+        public int getAdded() {
+            return added;
+        }
+        /**
+         * @return the number of elements to be removed from the descriptor (if {@link #wasReading()}) or from the ontology (if {@link #wasWriting()}).
+         */
+        public int getRemoved() {
+            return removed;
+        }
+        /**
+         * @return the number of changes applied to the ontology.
+         */
+        public int getChanged() {
+            if ( ontologyChanges instanceof Collection)
+                return ((Collection<?>) ontologyChanges).size();
+            if ( ontologyChanges instanceof Integer) // summary
+                return (Integer) ontologyChanges;
+            return 0;
         }
 
         /**
@@ -782,13 +1069,36 @@ public interface Axiom {
         }
 
         /**
-         * Returns {@code true} if {@link #getIntent()} returns {@code null}.
+         * Gets the number of {@link #getOntologyChanges()} that have not been applied to the
+         * ontology since they were redundant (e.g.: an axiom added and removed before being applied).
+         * Changes can be eliminated only if they are collected before being applied
+         * (see {@link it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ChangeCoalescing}).
+         *
+         * @return the number of redundant changes.
+         */
+        public int getEliminatedChanges() {
+            return eliminatedChanges;
+        }
+
+        /**
+         * Sets the number of {@link #getOntologyChanges()} that have not been applied to the ontology
+         * since they were redundant.
+         *
+         * @param eliminatedChanges the number of redundant changes.
+         */
+        public void setEliminatedChanges(int eliminatedChanges) {
+            this.eliminatedChanges = eliminatedChanges;
+        }
+
+        /**
+         * Returns {@code true} if {@link #getIntent()} returns {@code null}
+         * (or, if {@link #isSummary()}, if there was no synchronisation intent to count).
          *
          * @return {@code true} if an error occurs during reading or writing.
          * {@code false} otherwise.
          */
         public boolean errorOccur(){
-            return intent == null;
+            return summary ? failed : intent == null;
         }
 
         /**
@@ -825,11 +1135,19 @@ public interface Axiom {
 
         @Override
         public String toString() {
+            if ( isSummary())
+                return "{time=" + time +
+                        ", duration=" + duration + "ns" +
+                        ", writing=" + writing +
+                        ", added=" + added + ", removed=" + removed + ", changed=" + getChanged() +
+                        ( eliminatedChanges > 0 ? ", eliminatedChanges=" + eliminatedChanges : "") +
+                        '}';
             return  "{time=" + time +
                     ", intent=" + intent +
                     ", ground=" + ground +
                     ", writing=" + writing +
                     ", ontologyChanges=" + ontologyChanges +
+                    ( eliminatedChanges > 0 ? ", eliminatedChanges=" + eliminatedChanges : "") +
                     '}';
         }
     }
@@ -72,8 +72,7 @@ public interface Class<O,J>
         default Set<D> buildEquivalentClasses(){
             Set<D> out = new HashSet<>();
             for( J cl : getEquivalentClasses()){
-                D built = getEquivalentClassDescriptor( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getEquivalentClassDescriptor( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -114,7 +113,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentClassesToExpressionAxioms(){
             try {
-                return getEquivalentClasses().synchroniseTo( queryEquivalentClasses());
+                return synchroniseExpressionTo( "EquivalentClasses", getEquivalentClasses(), this::queryEquivalentClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -131,7 +130,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentClassesFromExpressionAxioms(){
             try{
-                return getEquivalentClasses().synchroniseFrom( queryEquivalentClasses());
+                return synchroniseExpressionFrom( "EquivalentClasses", getEquivalentClasses(), this::queryEquivalentClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -178,8 +177,7 @@ public interface Class<O,J>
         default Set<D> buildDisjointClasses(){
             Set<D> out = new HashSet<>();
             for( J cl : getDisjointClasses()){
-                D built = getDisjointClassDescriptor( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getDisjointClassDescriptor( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -220,7 +218,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointClassesToExpressionAxioms(){
             try {
-                return getDisjointClasses().synchroniseTo( queryDisjointClasses());
+                return synchroniseExpressionTo( "DisjointClasses", getDisjointClasses(), this::queryDisjointClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -237,7 +235,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointClassesFromExpressionAxioms(){
             try{
-                return getDisjointClasses().synchroniseFrom( queryDisjointClasses());
+                return synchroniseExpressionFrom( "DisjointClasses", getDisjointClasses(), this::queryDisjointClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -283,8 +281,7 @@ public interface Class<O,J>
         default Set<D> buildSubClasses(){
             Set<D> out = new HashSet<>();
             for( J cl : getSubClasses()){
-                D built = getSubClassDescriptor( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getSubClassDescriptor( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -325,7 +322,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSubClassesToExpressionAxioms(){
             try {
-                return getSubClasses().synchroniseTo( querySubClasses());
+                return synchroniseExpressionTo( "SubClasses", getSubClasses(), this::querySubClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -342,7 +339,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSubClassesFromExpressionAxioms(){
             try{
-                return getSubClasses().synchroniseFrom( querySubClasses());
+                return synchroniseExpressionFrom( "SubClasses", getSubClasses(), this::querySubClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -388,8 +385,7 @@ public interface Class<O,J>
         default Set<D> buildSuperClasses(){
             Set<D> out = new HashSet<>();
             for( J cl : getSuperClasses()){
-                D built = getSuperClassDescriptor( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getSuperClassDescriptor( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -430,7 +426,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSuperClassesToExpressionAxioms(){
             try {
-                return getSuperClasses().synchroniseTo( querySuperClasses());
+                return synchroniseExpressionTo( "SuperClasses", getSuperClasses(), this::querySuperClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -447,7 +443,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSuperClassesFromExpressionAxioms(){
             try{
-                return getSuperClasses().synchroniseFrom( querySuperClasses());
+                return synchroniseExpressionFrom( "SuperClasses", getSuperClasses(), this::querySuperClasses);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -494,8 +490,7 @@ public interface Class<O,J>
         default Set<D> buildIndividuals(){
             Set<D> out = new HashSet<>();
             for( Y cl : getIndividuals()){
-                D built = getIndividualDescriptor( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getIndividualDescriptor( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -536,7 +531,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseIndividualsToExpressionAxioms(){
             try {
-                return getIndividuals().synchroniseTo( queryIndividuals());
+                return synchroniseExpressionTo( "Individuals", getIndividuals(), this::queryIndividuals);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -553,7 +548,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseIndividualsFromExpressionAxioms(){
             try{
-                return getIndividuals().synchroniseFrom( queryIndividuals());
+                return synchroniseExpressionFrom( "Individuals", getIndividuals(), this::queryIndividuals);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -630,7 +625,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseEquivalentRestrictionsToExpressionAxioms(){
             try {
-                return getEquivalentRestrictions().synchroniseTo( queryEquivalentRestrictions());
+                return synchroniseExpressionTo( "EquivalentRestrictions", getEquivalentRestrictions(), this::queryEquivalentRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -647,7 +642,7 @@ public interface Class<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseEquivalentRestrictionsFromExpressionAxioms(){
             try{
-                return getEquivalentRestrictions().synchroniseFrom( queryEquivalentRestrictions());
+                return synchroniseExpressionFrom( "EquivalentRestrictions", getEquivalentRestrictions(), this::queryEquivalentRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
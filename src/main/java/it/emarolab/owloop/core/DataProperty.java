@@ -82,8 +82,7 @@ public interface DataProperty<O,J>
         default Set<D> buildEquivalentDataProperties(){
             Set<D> out = new HashSet<>();
             for( J cl : getEquivalentDataProperties()){
-                D built = getNewEquivalentDataProperty( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewEquivalentDataProperty( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -124,7 +123,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentDataPropertiesToExpressionAxioms(){
             try {
-                return getEquivalentDataProperties().synchroniseTo( queryEquivalentDataProperties());
+                return synchroniseExpressionTo( "EquivalentDataProperties", getEquivalentDataProperties(), this::queryEquivalentDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -141,7 +140,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentDataPropertiesFromExpressionAxioms(){
             try{
-                return getEquivalentDataProperties().synchroniseFrom( queryEquivalentDataProperties());
+                return synchroniseExpressionFrom( "EquivalentDataProperties", getEquivalentDataProperties(), this::queryEquivalentDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -180,8 +179,7 @@ public interface DataProperty<O,J>
         default Set< D> buildDisjointDataProperties(){
             Set<D> out = new HashSet<>();
             for( J cl : getDisjointDataProperties()){
-                D built = getNewDisjointDataProperty( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewDisjointDataProperty( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -222,7 +220,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointDataPropertiesToExpressionAxioms(){
             try {
-                return getDisjointDataProperties().synchroniseTo( queryDisjointDataProperties());
+                return synchroniseExpressionTo( "DisjointDataProperties", getDisjointDataProperties(), this::queryDisjointDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -239,7 +237,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointDataPropertiesFromExpressionAxioms(){
             try{
-                return getDisjointDataProperties().synchroniseFrom( queryDisjointDataProperties());
+                return synchroniseExpressionFrom( "DisjointDataProperties", getDisjointDataProperties(), this::queryDisjointDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -285,8 +283,7 @@ public interface DataProperty<O,J>
         default Set< D> buildSubDataProperties(){
             Set<D> out = new HashSet<>();
             for( J cl : getSubDataProperties()){
-                D built = getNewSubDataProperty( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewSubDataProperty( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -327,7 +324,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSubDataPropertiesToExpressionAxioms(){
             try {
-                return getSubDataProperties().synchroniseTo( querySubDataProperties());
+                return synchroniseExpressionTo( "SubDataProperties", getSubDataProperties(), this::querySubDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -344,7 +341,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSubDataPropertiesFromExpressionAxioms(){
             try{
-                return getSubDataProperties().synchroniseFrom( querySubDataProperties());
+                return synchroniseExpressionFrom( "SubDataProperties", getSubDataProperties(), this::querySubDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -388,8 +385,7 @@ public interface DataProperty<O,J>
         default Set< D> buildSuperDataProperties(){
             Set<D> out = new HashSet<>();
             for( J cl : getSuperDataProperties()){
-                D built = getNewSuperDataProperty( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewSuperDataProperty( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -430,7 +426,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSuperDataPropertiesToExpressionAxioms(){
             try {
-                return getSuperDataProperties().synchroniseTo( querySuperDataProperties());
+                return synchroniseExpressionTo( "SuperDataProperties", getSuperDataProperties(), this::querySuperDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -447,7 +443,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSuperDataPropertiesFromExpressionAxioms(){
             try{
-                return getSuperDataProperties().synchroniseFrom( querySuperDataProperties());
+                return synchroniseExpressionFrom( "SuperDataProperties", getSuperDataProperties(), this::querySuperDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -522,7 +518,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseDomainDataPropertyToExpressionAxioms(){
             try {
-                return getDomainRestrictions().synchroniseTo( queryDomainRestrictions());
+                return synchroniseExpressionTo( "DomainRestrictions", getDomainRestrictions(), this::queryDomainRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -539,7 +535,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseDomainDataPropertyFromExpressionAxioms(){
             try{
-                return getDomainRestrictions().synchroniseFrom( queryDomainRestrictions());
+                return synchroniseExpressionFrom( "DomainRestrictions", getDomainRestrictions(), this::queryDomainRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -614,7 +610,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseRangeDataPropertyToExpressionAxioms(){
             try {
-                return getRangeRestrictions().synchroniseTo( queryRangeRestrictions());
+                return synchroniseExpressionTo( "RangeRestrictions", getRangeRestrictions(), this::queryRangeRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -631,7 +627,7 @@ public interface DataProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseRangeDataPropertyFromExpressionAxioms(){
             try{
-                return getRangeRestrictions().synchroniseFrom( queryRangeRestrictions());
+                return synchroniseExpressionFrom( "RangeRestrictions", getRangeRestrictions(), this::queryRangeRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -73,8 +73,7 @@ public interface Individual<O,J>
         default Set<D> buildTypes(){
             Set<D> out = new HashSet<>();
             for( Y cl : getTypes()){
-                D built = getNewType( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewType( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -115,7 +114,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseTypesToExpressionAxioms(){
             try {
-                return getTypes().synchroniseTo( queryTypes());
+                return synchroniseExpressionTo( "Types", getTypes(), this::queryTypes);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -132,7 +131,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseTypesFromExpressionAxioms(){
             try{
-                return getTypes().synchroniseFrom( queryTypes());
+                return synchroniseExpressionFrom( "Types", getTypes(), this::queryTypes);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -178,8 +177,7 @@ public interface Individual<O,J>
         default Set<D> buildDisjointIndividuals(){
             Set<D> out = new HashSet<>();
             for( J cl : getDisjointIndividuals()){
-                D built = getNewDisjointIndividual( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewDisjointIndividual( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -220,7 +218,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointIndividualsToExpressionAxioms(){
             try {
-                return getDisjointIndividuals().synchroniseTo( queryDisjointIndividuals());
+                return synchroniseExpressionTo( "DisjointIndividuals", getDisjointIndividuals(), this::queryDisjointIndividuals);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -237,7 +235,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointIndividualsFromExpressionAxioms(){
             try{
-                return getDisjointIndividuals().synchroniseFrom( queryDisjointIndividuals());
+                return synchroniseExpressionFrom( "DisjointIndividuals", getDisjointIndividuals(), this::queryDisjointIndividuals);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -281,8 +279,7 @@ public interface Individual<O,J>
         default Set<D> buildEquivalentIndividuals(){
             Set<D> out = new HashSet<>();
             for( J cl : getEquivalentIndividuals()){
-                D built = getNewEquivalentIndividual( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewEquivalentIndividual( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -323,7 +320,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentIndividualsToExpressionAxioms(){
             try {
-                return getEquivalentIndividuals().synchroniseTo( queryEquivalentIndividuals());
+                return synchroniseExpressionTo( "EquivalentIndividuals", getEquivalentIndividuals(), this::queryEquivalentIndividuals);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -340,7 +337,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentIndividualsFromExpressionAxioms(){
             try{
-                return getEquivalentIndividuals().synchroniseFrom( queryEquivalentIndividuals());
+                return synchroniseExpressionFrom( "EquivalentIndividuals", getEquivalentIndividuals(), this::queryEquivalentIndividuals);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -397,8 +394,7 @@ public interface Individual<O,J>
         default Set<D> buildDataProperties(){
             Set<D> out = new HashSet<>();
             for( Y cl : getDataProperties()){
-                D built = getNewDataProperty( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewDataProperty( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -439,7 +435,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseDataPropertiesToExpressionAxioms(){
             try {
-                return getDataProperties().synchroniseTo( queryDataProperties());
+                return synchroniseExpressionTo( "DataProperties", getDataProperties(), this::queryDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -456,7 +452,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseDataPropertiesFromExpressionAxioms(){
             try{
-                return getDataProperties().synchroniseFrom( queryDataProperties());
+                return synchroniseExpressionFrom( "DataProperties", getDataProperties(), this::queryDataProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -513,8 +509,7 @@ public interface Individual<O,J>
         default Set< D> buildObjectProperties(){
             Set<D> out = new HashSet<>();
             for( Y cl : getObjectProperties()){
-                D built = getNewObjectProperty( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewObjectProperty( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -555,7 +550,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseObjectPropertiesToExpressionAxioms(){
             try {
-                return getObjectProperties().synchroniseTo( queryObjectProperties());
+                return synchroniseExpressionTo( "ObjectProperties", getObjectProperties(), this::queryObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -572,7 +567,7 @@ public interface Individual<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseObjectPropertiesFromExpressionAxioms(){
             try{
-                return getObjectProperties().synchroniseFrom( queryObjectProperties());
+                return synchroniseExpressionFrom( "ObjectProperties", getObjectProperties(), this::queryObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
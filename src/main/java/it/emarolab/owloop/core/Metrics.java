@@ -0,0 +1,115 @@
+package it.emarolab.owloop.core;
+
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+
+/**
+ * This interface is a part of the core of OWLOOP architecture.
+ * It is the service provider interface to measure where the time goes during the synchronisation
+ * of the descriptors with the ontology. <p>
+ * When an implementation is {@link #install(Metrics)}ed, it is given the latency of each {@link Phase}, tagged by
+ * the class of the descriptor, by its expression (e.g.: {@code "Types"}, {@code "SubClasses"}, etc.), and by
+ * the name of the ontology. By default, nothing is measured and the synchronisation does not
+ * have any overhead. A default implementation, which aggregates the latencies in histograms,
+ * is {@link it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.HistogramMetrics}.
+ * Implementations are called concurrently by the threads that read and write descriptors,
+ * thus they must be thread safe and return quickly.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.core.Metrics <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public interface Metrics {
+
+    /**
+     * The measured phases of the synchronisation.
+     */
+    enum Phase {
+        /**
+         * The {@code query...()} of an expression (e.g.: {@code queryTypes()}).
+         */
+        QUERY,
+        /**
+         * The computation of the differences between an expression and its query
+         * (i.e.: {@link Axiom.EntitySet#synchroniseFrom(Axiom.EntitySet)} and {@link Axiom.EntitySet#synchroniseTo(Axiom.EntitySet)}).
+         */
+        DIFF,
+        /**
+         * The application of the changes computed for an expression to the ontology, during {@link Axiom.Descriptor#writeAxioms()}.
+         */
+        APPLY,
+        /**
+         * The synchronisation of the reasoner.
+         */
+        REASON
+    }
+
+    /**
+     * The implementation that does not measure anything, it is installed by default.
+     */
+    Metrics NONE = (phase, descriptor, expression, ontology, nanos) -> {};
+
+    /**
+     * Records the latency of a phase.
+     * @param phase the measured phase.
+     * @param descriptor the simple name of the class of the descriptor.
+     * @param expression the name of the expression.
+     * @param ontology the name of the ontology.
+     * @param nanos the latency in nanoseconds.
+     */
+    void record(Phase phase, String descriptor, String expression, String ontology, long nanos);
+
+    /**
+     * Installs the metrics used by all the descriptors.
+     * @param metrics the metrics implementation, {@code null} for {@link #NONE}.
+     */
+    static void install(Metrics metrics){
+        Installed.metrics = metrics == null ? NONE : metrics;
+    }
+    /**
+     * @return the metrics used by all the descriptors, {@link #NONE} if nothing is measured.
+     */
+    static Metrics get(){
+        return Installed.metrics;
+    }
+    /**
+     * @return {@code true} if some metrics have been {@link #install(Metrics)}ed.
+     */
+    static boolean isEnabled(){
+        return Installed.metrics != NONE;
+    }
+
+    /**
+     * It records the latency of a phase for a descriptor, if {@link #isEnabled()}.
+     * @param phase the measured phase.
+     * @param descriptor the measured descriptor.
+     * @param expression the name of the expression.
+     * @param start the {@link System#nanoTime()} at the beginning of the phase.
+     */
+    static void record(Phase phase, Axiom.Descriptor<?,?> descriptor, String expression, long start){
+        Metrics metrics = Installed.metrics;
+        if ( metrics == NONE)
+            return;
+        long nanos = System.nanoTime() - start;
+        Object ontology = descriptor.getOntologyReference();
+        String ontologyName = ontology instanceof OWLReferencesInterface ?
+                ((OWLReferencesInterface) ontology).getReferenceName() : String.valueOf( ontology);
+        metrics.record( phase, descriptor.getClass().getSimpleName(), expression, ontologyName, nanos);
+    }
+
+    /**
+     * Keeps the installed metrics, and the expression that is being written by each thread.
+     * It is not meant to be used outside this interface and {@link Axiom.Descriptor}.
+     */
+    final class Installed {
+
+        private static volatile Metrics metrics = NONE;
+
+        private Installed() {
+        }
+    }
+}
@@ -137,8 +137,7 @@ public interface ObjectProperty<O,J>
         default Set<D> buildInverseObjectProperties(){
             Set<D> out = new HashSet<>();
             for( J cl : getInverseObjectProperties()){
-                D built = getNewInverseObjectProperty( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewInverseObjectProperty( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -179,7 +178,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseInverseObjectPropertiesToExpressionAxioms(){
             try {
-                return getInverseObjectProperties().synchroniseTo( queryInverseObjectProperties());
+                return synchroniseExpressionTo( "InverseObjectProperties", getInverseObjectProperties(), this::queryInverseObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -196,7 +195,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseInverseObjectPropertiesFromExpressionAxioms(){
             try{
-                return getInverseObjectProperties().synchroniseFrom( queryInverseObjectProperties());
+                return synchroniseExpressionFrom( "InverseObjectProperties", getInverseObjectProperties(), this::queryInverseObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -242,8 +241,7 @@ public interface ObjectProperty<O,J>
         default Set< D> buildDisjointObjectProperties(){
             Set<D> out = new HashSet<>();
             for( J cl : getDisjointObjectProperties()){
-                D built = getNewDisjointObjectProperty( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewDisjointObjectProperty( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -284,7 +282,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointObjectPropertiesToExpressionAxioms(){
             try {
-                return getDisjointObjectProperties().synchroniseTo( queryDisjointObjectProperties());
+                return synchroniseExpressionTo( "DisjointObjectProperties", getDisjointObjectProperties(), this::queryDisjointObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -301,7 +299,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseDisjointObjectPropertiesFromExpressionAxioms(){
             try{
-                return getDisjointObjectProperties().synchroniseFrom( queryDisjointObjectProperties());
+                return synchroniseExpressionFrom( "DisjointObjectProperties", getDisjointObjectProperties(), this::queryDisjointObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -347,8 +345,7 @@ public interface ObjectProperty<O,J>
         default Set<D> buildEquivalentObjectProperties(){
             Set<D> out = new HashSet<>();
             for( J cl : getEquivalentObjectProperties()){
-                D built = getNewEquivalentObjectProperty( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewEquivalentObjectProperty( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -389,7 +386,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentObjectPropertiesToExpressionAxioms(){
             try {
-                return getEquivalentObjectProperties().synchroniseTo( queryEquivalentObjectProperties());
+                return synchroniseExpressionTo( "EquivalentObjectProperties", getEquivalentObjectProperties(), this::queryEquivalentObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -406,7 +403,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseEquivalentObjectPropertiesFromExpressionAxioms(){
             try{
-                return getEquivalentObjectProperties().synchroniseFrom( queryEquivalentObjectProperties());
+                return synchroniseExpressionFrom( "EquivalentObjectProperties", getEquivalentObjectProperties(), this::queryEquivalentObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -452,8 +449,7 @@ public interface ObjectProperty<O,J>
         default Set<D> buildSubObjectProperties(){
             Set<D> out = new HashSet<>();
             for( J cl : getSubObjectProperties()){
-                D built = getNewSubObjectProperty( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewSubObjectProperty( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -494,7 +490,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSubObjectPropertiesToExpressionAxioms(){
             try {
-                return getSubObjectProperties().synchroniseTo( querySubObjectProperties());
+                return synchroniseExpressionTo( "SubObjectProperties", getSubObjectProperties(), this::querySubObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -511,7 +507,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSubObjectPropertiesFromExpressionAxioms(){
             try{
-                return getSubObjectProperties().synchroniseFrom( querySubObjectProperties());
+                return synchroniseExpressionFrom( "SubObjectProperties", getSubObjectProperties(), this::querySubObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -557,8 +553,7 @@ public interface ObjectProperty<O,J>
         default Set<D> buildSuperObjectProperties(){
             Set<D> out = new HashSet<>();
             for( J cl : getSuperObjectProperties()){
-                D built = getNewSuperObjectProperty( cl, getOntologyReference());
-                built.readAxioms();
+                D built = readBuiltDescriptor( getNewSuperObjectProperty( cl, getOntologyReference()));
                 out.add( built);
             }
             return out;
@@ -599,7 +594,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSuperObjectPropertiesToExpressionAxioms(){
             try {
-                return getSuperObjectProperties().synchroniseTo( querySuperObjectProperties());
+                return synchroniseExpressionTo( "SuperObjectProperties", getSuperObjectProperties(), this::querySuperObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -616,7 +611,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<J> synchroniseSuperObjectPropertiesFromExpressionAxioms(){
             try{
-                return getSuperObjectProperties().synchroniseFrom( querySuperObjectProperties());
+                return synchroniseExpressionFrom( "SuperObjectProperties", getSuperObjectProperties(), this::querySuperObjectProperties);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -689,7 +684,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseDomainObjectPropertyToExpressionAxioms(){
             try {
-                return getDomainRestrictions().synchroniseTo( queryDomainRestrictions());
+                return synchroniseExpressionTo( "DomainRestrictions", getDomainRestrictions(), this::queryDomainRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -706,7 +701,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseDomainObjectPropertyFromExpressionAxioms(){
             try{
-                return getDomainRestrictions().synchroniseFrom( queryDomainRestrictions());
+                return synchroniseExpressionFrom( "DomainRestrictions", getDomainRestrictions(), this::queryDomainRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -781,7 +776,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseRangeObjectPropertyToExpressionAxioms(){
             try {
-                return getRangeRestrictions().synchroniseTo( queryRangeRestrictions());
+                return synchroniseExpressionTo( "RangeRestrictions", getRangeRestrictions(), this::queryRangeRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
@@ -798,7 +793,7 @@ public interface ObjectProperty<O,J>
          */
         default EntitySet.SynchronisationIntent<Y> synchroniseRangeObjectPropertyFromExpressionAxioms(){
             try{
-                return getRangeRestrictions().synchroniseFrom( queryRangeRestrictions());
+                return synchroniseExpressionFrom( "RangeRestrictions", getRangeRestrictions(), this::queryRangeRestrictions);
             } catch ( Exception e){
                 e.printStackTrace();
                 return null;
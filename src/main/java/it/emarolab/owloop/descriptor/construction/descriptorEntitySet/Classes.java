@@ -34,4 +34,7 @@ public class Classes
     public Classes(int initialCapacity) {
         super(initialCapacity);
     }
+    public Classes(EntityDictionary dictionary, Collection<? extends OWLClass> c) {
+        super(dictionary, c);
+    }
 }
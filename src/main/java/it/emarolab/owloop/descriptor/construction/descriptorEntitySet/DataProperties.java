@@ -35,4 +35,7 @@ public class DataProperties
     public DataProperties(int initialCapacity) {
         super(initialCapacity);
     }
+    public DataProperties(EntityDictionary dictionary, Collection<? extends OWLDataProperty> c) {
+        super(dictionary, c);
+    }
 }
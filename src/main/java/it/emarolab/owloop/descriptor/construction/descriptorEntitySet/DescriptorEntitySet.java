@@ -6,9 +6,7 @@ import it.emarolab.amor.owlInterface.SemanticRestriction;
 import it.emarolab.owloop.core.*;
 import org.semanticweb.owlapi.model.*;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 /**
  * This interface contains classes that can be used to instantiate EntitySets containing
@@ -117,7 +115,15 @@ public interface DescriptorEntitySet extends Axiom {
     /**
      * An extension of {@link EntitySetBase} for type extending {@link OWLObject}.
      * <p>
-     *     This class only override the {@link EntitySetBase#toString()} method.
+     *     This class override the {@link EntitySetBase#toString()} method.
+     *     Also, if it is associated to an {@link EntityDictionary} (see {@link #setDictionary(EntityDictionary)}),
+     *     its elements are stored as a {@link BitSet} of their identifiers, instead of an {@link HashSet}.
+     *     In this case, if the other set has the same dictionary,
+     *     {@link #synchroniseTo(EntitySet)} and {@link #synchroniseFrom(EntitySet)} are computed through
+     *     bitwise operations, and their results are views of the bitsets.
+     *     Since bitwise operations take a time and a memory proportional to the highest identifier,
+     *     the sets are compared element by element (as an {@link HashSet}) if they are too sparse, i.e.:
+     *     if they have less than one element every {@link #SPARSENESS} identifiers.
      *     Refer to the super class for documentation
      *     (constructors only call {@code super(..)}).
      * </p>
@@ -127,6 +133,15 @@ public interface DescriptorEntitySet extends Axiom {
     class OWLEntitySetBase<T extends OWLObject>
             extends EntitySetBase<T> {
 
+        /**
+         * The number of identifiers for each element below which the bitsets are not compared bitwise.
+         */
+        public static final int SPARSENESS = 64; // i.e.: a word of the bitset
+
+        private EntityDictionary dictionary = null; // null if elements are in the HashSet
+        private BitSet bits = null;
+        private int count = 0; // the cardinality of the bits
+
         public OWLEntitySetBase() {
         }
         public OWLEntitySetBase(Collection<? extends T> c) {
@@ -138,12 +153,164 @@ public interface DescriptorEntitySet extends Axiom {
         public OWLEntitySetBase(int initialCapacity) {
             super(initialCapacity);
         }
+        public OWLEntitySetBase(EntityDictionary dictionary, Collection<? extends T> c) {
+            setDictionary( dictionary);
+            addAll( c);
+        }
+
+        /**
+         * Changes the representation of the elements of this set, which are kept.
+         * @param dictionary the dictionary used to store the elements as a bitset,
+         *                   {@code null} to store them in an {@link HashSet}.
+         */
+        public void setDictionary(EntityDictionary dictionary) {
+            if ( dictionary == this.dictionary)
+                return;
+            List<T> elements = new ArrayList<>( this);
+            clear();
+            this.dictionary = dictionary;
+            this.bits = dictionary == null ? null : new BitSet();
+            addAll( elements);
+        }
+        /**
+         * @return the dictionary used to store the elements as a bitset,
+         * {@code null} if they are stored in an {@link HashSet}.
+         */
+        public EntityDictionary getDictionary() {
+            return dictionary;
+        }
+
+        @Override // see Axiom.EntitySet for documentation
+        public SynchronisationIntent<T> synchroniseTo(EntitySet<T> queried) {
+            if ( isBitwise( queried))
+                return bitwise( bits, ( (OWLEntitySetBase<T>) queried).bits);
+            return super.synchroniseTo( queried);
+        }
+        @Override // see Axiom.EntitySet for documentation
+        public SynchronisationIntent<T> synchroniseFrom(EntitySet<T> queried) {
+            if ( isBitwise( queried))
+                return bitwise( ( (OWLEntitySetBase<T>) queried).bits, bits);
+            return super.synchroniseFrom( queried);
+        }
+        // singletons and sparse sets are synchronised as usual
+        private boolean isBitwise(EntitySet<T> other){
+            if ( dictionary == null || isSingleton() || !( other instanceof OWLEntitySetBase)
+                    || ( (OWLEntitySetBase<?>) other).dictionary != dictionary || other.isSingleton())
+                return false;
+            OWLEntitySetBase<?> o = (OWLEntitySetBase<?>) other;
+            long length = Math.max( bits.length(), o.bits.length()); // the highest identifier + 1
+            return length <= (long) SPARSENESS * ( count + o.count + 1);
+        }
+        // a1 and a2 as in SynchronisationIntent: read -> (queried, this), write -> (this, queried)
+        private SynchronisationIntent<T> bitwise(BitSet a1, BitSet a2){
+            BitSet toAdd = (BitSet) a1.clone();
+            toAdd.andNot( a2);
+            BitSet unchanged = (BitSet) a1.clone();
+            unchanged.and( a2);
+            BitSet toRemove = (BitSet) a2.clone();
+            toRemove.andNot( a1);
+            return SynchronisationIntent.of( new BitSetView<>( dictionary, toAdd),
+                    new BitSetView<>( dictionary, toRemove), new BitSetView<>( dictionary, unchanged));
+        }
+
+        @Override
+        public boolean add(T t) {
+            if ( bits == null)
+                return super.add( t);
+            int id = dictionary.id( t);
+            if ( bits.get( id))
+                return false;
+            bits.set( id);
+            count++;
+            return true;
+        }
+        @Override
+        public boolean remove(Object o) {
+            if ( bits == null)
+                return super.remove( o);
+            int id = dictionary.find( o);
+            if ( id < 0 || ! bits.get( id))
+                return false;
+            bits.clear( id);
+            count--;
+            return true;
+        }
+        @Override
+        public boolean contains(Object o) {
+            if ( bits == null)
+                return super.contains( o);
+            int id = dictionary.find( o);
+            return id >= 0 && bits.get( id);
+        }
+        @Override
+        public int size() {
+            if ( bits == null)
+                return super.size();
+            return count;
+        }
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+        @Override
+        public void clear() {
+            if ( bits == null)
+                super.clear();
+            else {
+                bits.clear();
+                count = 0;
+            }
+        }
+        @Override
+        public Iterator<T> iterator() {
+            if ( bits == null)
+                return super.iterator();
+            return new BitSetIterator<T>( dictionary, bits) {
+                @Override
+                public void remove() {
+                    super.remove();
+                    count--;
+                }
+            };
+        }
+        @Override
+        public Spliterator<T> spliterator() {
+            if ( bits == null)
+                return super.spliterator();
+            return Spliterators.spliterator( this, Spliterator.DISTINCT);
+        }
+        @Override
+        public Object[] toArray() {
+            if ( bits == null)
+                return super.toArray();
+            return new ArrayList<>( new BitSetView<>( dictionary, bits)).toArray();
+        }
+        @Override
+        public <A> A[] toArray(A[] a) {
+            if ( bits == null)
+                return super.toArray( a);
+            return new ArrayList<>( new BitSetView<>( dictionary, bits)).toArray( a);
+        }
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object clone() {
+            OWLEntitySetBase<T> clone = (OWLEntitySetBase<T>) super.clone();
+            if ( bits != null)
+                clone.bits = (BitSet) bits.clone();
+            return clone;
+        }
 
         @Override
         public String toString() {
             String out = "{";
             int cnt = size();
-            for ( T l : this) {
+            if ( bits != null) {
+                for ( int i = bits.nextSetBit( 0); i >= 0; i = bits.nextSetBit( i + 1)) {
+                    out += dictionary.getName( i); // cached
+                    if ( cnt-- > 1)
+                        out += ", ";
+                }
+            } else for ( T l : this) {
                 out += OWLReferencesInterface.getOWLName( l);
                 if ( cnt-- > 1)
                     out += ", ";
@@ -153,6 +320,72 @@ public interface DescriptorEntitySet extends Axiom {
                 out += "(singleton)";
             return out;
         }
+
+        // iterates over the entities whose identifiers are set in a bitset.
+        private static class BitSetIterator<T> implements Iterator<T> {
+            private final EntityDictionary dictionary;
+            private final BitSet bits;
+            private int next, last = -1;
+
+            BitSetIterator(EntityDictionary dictionary, BitSet bits) {
+                this.dictionary = dictionary;
+                this.bits = bits;
+                this.next = bits.nextSetBit( 0);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if ( next < 0)
+                    throw new NoSuchElementException();
+                last = next;
+                next = bits.nextSetBit( next + 1);
+                return (T) dictionary.get( last);
+            }
+            @Override
+            public void remove() {
+                if ( last < 0)
+                    throw new IllegalStateException();
+                bits.clear( last);
+                last = -1;
+            }
+        }
+
+        // a not modifiable set of the entities whose identifiers are set in a bitset, which should not change.
+        private static class BitSetView<T> extends AbstractSet<T> {
+            private final EntityDictionary dictionary;
+            private final BitSet bits;
+            private final int size;
+
+            BitSetView(EntityDictionary dictionary, BitSet bits) {
+                this.dictionary = dictionary;
+                this.bits = bits;
+                this.size = bits.cardinality();
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                return new BitSetIterator<T>( dictionary, bits) {
+                    @Override
+                    public void remove() {
+                        throw new UnsupportedOperationException();
+                    }
+                };
+            }
+            @Override
+            public boolean contains(Object o) {
+                int id = dictionary.find( o);
+                return id >= 0 && bits.get( id);
+            }
+            @Override
+            public int size() {
+                return size;
+            }
+        }
     }
 
     /**
@@ -170,10 +403,14 @@ public interface DescriptorEntitySet extends Axiom {
             extends EntitySetBase<X>
             implements ExpressionEntitySet<X,A> {
 
+        // secondary index, it maps each expression to the only element of this set that has it.
+        private Map<S,X> index = new HashMap<>();
+
         public ExpressionEntitySetBase() {
         }
         public ExpressionEntitySetBase(Collection<? extends X> c) {
-            super(c);
+            super( c.size());
+            addAll( c); // not in super(c) since the index is not initialised yet
         }
         public ExpressionEntitySetBase(int initialCapacity, float loadFactor) {
             super(initialCapacity, loadFactor);
@@ -182,6 +419,17 @@ public interface DescriptorEntitySet extends Axiom {
             super(initialCapacity);
         }
 
+        /**
+         * Returns the element of this set that describes the given property, without
+         * iterating over all the {@link ExpressionEntity} of this set.
+         * @param semantic the properties to look for.
+         * @return the element with the given {@link ExpressionEntity#getExpression()}.
+         * {@code null} if this set does not contain such a property.
+         */
+        public X getExpressionEntity(S semantic){
+            return index.get( semantic);
+        }
+
         /**
          * Searches in the {@link ExpressionEntity} for the given property and
          * returns all its values.
@@ -190,10 +438,9 @@ public interface DescriptorEntitySet extends Axiom {
          * An {@code empty} {@link HashSet} if the values is not available.
          */
         public EntitySet<A> getLinks(S semantic){
-            for ( X s : this){
-                if ( semantic.equals( s.getExpression()))
-                    return s.getValues();
-            }
+            X s = index.get( semantic);
+            if ( s != null)
+                return s.getValues();
             return new EntitySetBase<>();
         }
 
@@ -206,14 +453,13 @@ public interface DescriptorEntitySet extends Axiom {
          * An {@code null} if the values is not available.
          */
         public A getLink(S semantic){
-            for ( X s : this){
-                if ( semantic.equals( s.getExpression())) {
-                    if ( ! s.getValues().isSingleton() & s.getValues().size() > 1)
-                        System.out.println( " !![WARNING] Uncertainty in the element that is returned, if there is more than 1 element in the EntitySet: " + s);
-                    for (A l : s.getValues())
-                        return l;
-                }
-            }
+            X s = index.get( semantic);
+            if ( s == null)
+                return null;
+            if ( ! s.getValues().isSingleton() & s.getValues().size() > 1)
+                System.out.println( " !![WARNING] Uncertainty in the element that is returned, if there is more than 1 element in the EntitySet: " + s);
+            for (A l : s.getValues())
+                return l;
             return null;
         }
 
@@ -233,14 +479,15 @@ public interface DescriptorEntitySet extends Axiom {
          */
         @Override
         public boolean add(X dataSemantic) {
-            for ( X d : this)//.set)
-                if( d.getExpression().equals( dataSemantic.getExpression())){
-                    if ( dataSemantic.getValues().isSingleton())
-                        d.getValues().clear();
-                    d.getValues().setSingleton( dataSemantic.getValues().isSingleton());
-                    return d.getValues().addAll( dataSemantic.getValues());
-                }
+            X d = index.get( dataSemantic.getExpression());
+            if( d != null){
+                if ( dataSemantic.getValues().isSingleton())
+                    d.getValues().clear();
+                d.getValues().setSingleton( dataSemantic.getValues().isSingleton());
+                return d.getValues().addAll( dataSemantic.getValues());
+            }
 
+            index.put( dataSemantic.getExpression(), dataSemantic);
             return super.add( dataSemantic);
         }
 
@@ -255,20 +502,66 @@ public interface DescriptorEntitySet extends Axiom {
          */
         @Override
         public boolean remove(Object o) {
-            for (X d : this){//.set) {
-                if (d.equals(o))
-                    return super.remove(d);
-                if (d.getExpression().equals(o))
-                    return super.remove(d);
-                if( o instanceof  ObjectLinks) {
-                    ObjectLinks objLink = (ObjectLinks) o;
-                    if (d.getExpression().equals( objLink.getExpression())) {
-                        return d.getValues().removeAll( objLink.getValues());
-                    }
-                }
+            if ( o instanceof ExpressionEntity) {
+                X d = index.get( ((ExpressionEntity<?, ?>) o).getExpression());
+                if ( d == null)
+                    return false;
+                if ( d.equals( o))
+                    return removeIndexed( d);
+                if( o instanceof  ObjectLinks)
+                    return d.getValues().removeAll( ((ObjectLinks) o).getValues());
+                return false;
             }
+            X d = index.get( o);
+            if ( d != null)
+                return removeIndexed( d);
             return false;
         }
+        // remove from the set and from the index.
+        private boolean removeIndexed( X d){
+            index.remove( d.getExpression());
+            return super.remove( d);
+        }
+
+        @Override
+        public void clear() {
+            index.clear();
+            super.clear();
+        }
+
+        @Override
+        public Iterator<X> iterator() {
+            // keeps the index consistent when elements are removed through the iterator (e.g.: removeAll and retainAll)
+            Iterator<X> it = super.iterator();
+            return new Iterator<X>() {
+                private X last;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public X next() {
+                    last = it.next();
+                    return last;
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                    index.remove( last.getExpression());
+                }
+            };
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object clone() {
+            ExpressionEntitySetBase<X,S,A> copy = (ExpressionEntitySetBase<X,S,A>) super.clone();
+            copy.index = new HashMap<>( index);
+            return copy;
+        }
 
         @Override
         public String toString() {
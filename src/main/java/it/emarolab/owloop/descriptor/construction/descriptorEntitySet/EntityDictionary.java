@@ -0,0 +1,144 @@
+package it.emarolab.owloop.descriptor.construction.descriptorEntitySet;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyRegistry;
+import org.semanticweb.owlapi.model.OWLObject;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class interns the entities of an ontology as dense integer identifiers.
+ * <p>
+ *     Each entity gets the next identifier the first time it is given to {@link #id(OWLObject)}, and it
+ *     keeps it for the lifetime of the dictionary. The entity sets that are associated to a dictionary
+ *     (see {@link DescriptorEntitySet.OWLEntitySetBase#setDictionary(EntityDictionary)}) store
+ *     their elements as bits, and their synchronisation
+ *     (see {@link it.emarolab.owloop.core.Axiom.EntitySet.SynchronisationIntent}) is computed through
+ *     bitwise operations when both sets have the same dictionary. The dictionary also caches the names of the
+ *     entities, used to print the sets.
+ * </p>
+ * <p>
+ *     There is a shared dictionary for each ontology (see {@link #of(OWLReferences)}), which is dropped when the
+ *     ontology is released (see {@link OntologyRegistry#release(OWLReferences)}), but a dictionary
+ *     can also be instantiated, e.g.: for sets that are not related to an ontology.
+ *     A dictionary is thread safe.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorEntitySet.EntityDictionary <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class EntityDictionary {
+
+    // the dictionaries of all the ontologies, there is at most one dictionary for each OWLReferences.
+    private static final OntologyRegistry.Entries<EntityDictionary> DICTIONARIES =
+            OntologyRegistry.register( EntityDictionary.class, null);
+
+    /**
+     * Returns the dictionary associated to the given ontology, it is created the first time this method
+     * is called for an {@link OWLReferences}.
+     * @param ontology the ontology of the entities.
+     * @return the dictionary shared by all the entity sets of the given ontology.
+     */
+    public static EntityDictionary of(OWLReferences ontology){
+        return DICTIONARIES.of( ontology, o -> new EntityDictionary());
+    }
+
+    /**
+     * @param set an entity set.
+     * @return the dictionary used by the given set (see {@link DescriptorEntitySet.OWLEntitySetBase#getDictionary()}),
+     * {@code null} if it does not have a dictionary.
+     */
+    public static EntityDictionary from(Collection<?> set){
+        if ( set instanceof DescriptorEntitySet.OWLEntitySetBase)
+            return ( (DescriptorEntitySet.OWLEntitySetBase<?>) set).getDictionary();
+        return null;
+    }
+
+    private final Map<OWLObject, Integer> ids = new ConcurrentHashMap<>();
+    // written only while synchronised, an identifier is published in ids after its entity is stored
+    private volatile OWLObject[] entities = new OWLObject[ 64];
+    private volatile String[] names = new String[ 64];
+    private int size = 0;
+
+    /**
+     * Creates an empty dictionary, use {@link #of(OWLReferences)} to share it among the sets of an ontology.
+     */
+    public EntityDictionary() {
+    }
+
+    /**
+     * @param entity the entity to intern.
+     * @return the identifier of the given entity, which is assigned if it is not in the dictionary yet.
+     */
+    public int id(OWLObject entity){
+        Integer id = ids.get( entity);
+        if ( id != null)
+            return id;
+        synchronized ( this) {
+            id = ids.get( entity);
+            if ( id != null)
+                return id;
+            if ( size == entities.length) {
+                names = Arrays.copyOf( names, size * 2);
+                entities = Arrays.copyOf( entities, size * 2);
+            }
+            entities[ size] = entity;
+            ids.put( entity, size);
+            return size++;
+        }
+    }
+
+    /**
+     * @param entity the entity to look for.
+     * @return the identifier of the given entity, or {@code -1} if it is not in the dictionary.
+     */
+    public int find(Object entity){
+        if ( entity == null)
+            return -1;
+        Integer id = ids.get( entity);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * @param id an identifier returned by {@link #id(OWLObject)}.
+     * @return the entity with the given identifier.
+     */
+    public OWLObject get(int id){
+        return entities[ id];
+    }
+
+    /**
+     * @param id an identifier returned by {@link #id(OWLObject)}.
+     * @return the name of the entity with the given identifier (see {@link OWLReferencesInterface#getOWLName(OWLObject)}).
+     */
+    public String getName(int id){
+        String[] cache = names;
+        if ( id < cache.length && cache[ id] != null)
+            return cache[ id];
+        String name = OWLReferencesInterface.getOWLName( get( id));
+        if ( id < cache.length)
+            cache[ id] = name; // it might be lost if the cache is resized meanwhile
+        return name;
+    }
+
+    /**
+     * @return the number of entities in the dictionary.
+     */
+    public synchronized int size(){
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityDictionary{size=" + size() + "}";
+    }
+}
@@ -34,4 +34,7 @@ public class Individuals
     public Individuals(int initialCapacity) {
         super(initialCapacity);
     }
+    public Individuals(EntityDictionary dictionary, Collection<? extends OWLNamedIndividual> c) {
+        super(dictionary, c);
+    }
 }
\ No newline at end of file
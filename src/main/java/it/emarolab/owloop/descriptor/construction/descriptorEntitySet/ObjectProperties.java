@@ -35,4 +35,7 @@ public class ObjectProperties
     public ObjectProperties(int initialCapacity) {
         super(initialCapacity);
     }
+    public ObjectProperties(EntityDictionary dictionary, Collection<? extends OWLObjectProperty> c) {
+        super(dictionary, c);
+    }
 }
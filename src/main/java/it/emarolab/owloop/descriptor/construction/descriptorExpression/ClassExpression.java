@@ -5,9 +5,11 @@ import it.emarolab.amor.owlInterface.SemanticRestriction;
 import it.emarolab.amor.owlInterface.SemanticRestriction.*;
 import it.emarolab.owloop.core.Class;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Classes;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.EntityDictionary;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Individuals;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.CollectedWriting;
 import org.semanticweb.owlapi.model.*;
 
 import java.util.ArrayList;
@@ -112,27 +114,30 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Individuals queryIndividuals(){
-            Individuals set = new Individuals(getOntologyReference().getIndividualB2Class(getInstance()));
+            // the index takes the read lock to query aMOR, if needed
+            Individuals set = new Individuals( EntityDictionary.from( getIndividuals()), getInferenceIndex().getIndividualB2Class(getInstance()));
             set.setSingleton( getIndividuals().isSingleton());
             return set;
         }
 
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLNamedIndividual> to = synchroniseIndividualsToExpressionAxioms();
-                if (to == null)
-                    return getIntent(null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLNamedIndividual a : to.getToAdd())
-                    changes.add(getOntologyReference().addIndividualB2Class(a, getInstance()));
-                for (OWLNamedIndividual b : to.getToRemove())
-                    changes.add(getOntologyReference().removeIndividualB2Class(b, getInstance()));
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLNamedIndividual> to = synchroniseIndividualsToExpressionAxioms();
+                    if (to == null)
+                        return getIntent(null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for (OWLNamedIndividual a : to.getToAdd())
+                        changes.add(getOntologyReference().addIndividualB2Class(a, getInstance()));
+                    for (OWLNamedIndividual b : to.getToRemove())
+                        changes.add(getOntologyReference().removeIndividualB2Class(b, getInstance()));
+                    return getChangingIntent(to, changes);
+                } catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
+            });
         }
     }
 
@@ -203,38 +208,42 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Classes queryDisjointClasses(){
-            Classes set = new Classes(getOntologyReference().getDisjointClasses(getInstance()));
-            set.remove( getInstance());
-            set.remove( getOntologyReference().getOWLFactory().getOWLNothing());
-            set.setSingleton( getDisjointClasses().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                Classes set = new Classes( EntityDictionary.from( getDisjointClasses()), getOntologyReference().getDisjointClasses(getInstance()));
+                set.remove( getInstance());
+                set.remove( getOntologyReference().getOWLFactory().getOWLNothing());
+                set.setSingleton( getDisjointClasses().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLClass> to = synchroniseDisjointClassesToExpressionAxioms();
-                if ( to == null)
-                    return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLClass a : to.getToAdd())
-                    if ( ! a.isOWLNothing()){
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLClass> to = synchroniseDisjointClassesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for( OWLClass a : to.getToAdd())
+                        if ( ! a.isOWLNothing()){
+                            Set<OWLClass> s = new HashSet<>();
+                            s.add( getInstance());
+                            s.add( a);
+                            changes.add( getOntologyReference().makeDisjointClasses( s));
+                        }
+                    for( OWLClass r : to.getToRemove()){
                         Set<OWLClass> s = new HashSet<>();
                         s.add( getInstance());
-                        s.add( a);
-                        changes.add( getOntologyReference().makeDisjointClasses( s));
+                        s.add( r);
+                        changes.add( getOntologyReference().removeDisjointClasses( s));
                     }
-                for( OWLClass r : to.getToRemove()){
-                    Set<OWLClass> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeDisjointClasses( s));
+                    return getChangingIntent(to, changes);
+                } catch ( Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
                 }
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -296,38 +305,42 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Classes queryEquivalentClasses(){
-            Classes set = new Classes(getOntologyReference().getEquivalentClasses(getInstance()));
-            set.remove( getInstance());
-            //set.remove( getOntology().getOWLFactory().getOWLNothing());
-            set.setSingleton( getEquivalentClasses().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                Classes set = new Classes( EntityDictionary.from( getEquivalentClasses()), getOntologyReference().getEquivalentClasses(getInstance()));
+                set.remove( getInstance());
+                //set.remove( getOntology().getOWLFactory().getOWLNothing());
+                set.setSingleton( getEquivalentClasses().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLClass> to = synchroniseEquivalentClassesToExpressionAxioms();
-                if ( to == null)
-                    return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLClass a : to.getToAdd())
-                    if ( ! a.isOWLNothing()){
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLClass> to = synchroniseEquivalentClassesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for( OWLClass a : to.getToAdd())
+                        if ( ! a.isOWLNothing()){
+                            Set<OWLClass> s = new HashSet<>();
+                            s.add( getInstance());
+                            s.add( a);
+                            changes.add( getOntologyReference().makeEquivalentClasses( s));
+                        }
+                    for( OWLClass r : to.getToRemove()){
                         Set<OWLClass> s = new HashSet<>();
                         s.add( getInstance());
-                        s.add( a);
-                        changes.add( getOntologyReference().makeEquivalentClasses( s));
+                        s.add( r);
+                        changes.add( getOntologyReference().removeEquivalentClasses( s));
                     }
-                for( OWLClass r : to.getToRemove()){
-                    Set<OWLClass> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeEquivalentClasses( s));
+                    return getChangingIntent(to, changes);
+                } catch ( Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
                 }
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -389,7 +402,8 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Classes querySubClasses(){
-            Classes set = new Classes(getOntologyReference().getSubClassOf(getInstance()));
+            // the index takes the read lock to query aMOR, if needed
+            Classes set = new Classes( EntityDictionary.from( getSubClasses()), getInferenceIndex().getSubClassOf(getInstance()));
             //set.remove( getOntology().getOWLFactory().getOWLNothing());
             set.setSingleton( getSubClasses().isSingleton());
             return set;
@@ -397,21 +411,23 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLClass> to = synchroniseSubClassesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLClass> to = synchroniseSubClassesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for (OWLClass a : to.getToAdd())
+                        if ( ! a.isOWLNothing())
+                            changes.add(getOntologyReference().addSubClassOf(getInstance(), a));
+                    for (OWLClass r : to.getToRemove())
+                        changes.add(getOntologyReference().removeSubClassOf(getInstance(), r));
+                    return getChangingIntent(to, changes);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLClass a : to.getToAdd())
-                    if ( ! a.isOWLNothing())
-                        changes.add(getOntologyReference().addSubClassOf(getInstance(), a));
-                for (OWLClass r : to.getToRemove())
-                    changes.add(getOntologyReference().removeSubClassOf(getInstance(), r));
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -481,28 +497,31 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Classes querySuperClasses(){
-            Classes set = new Classes( getOntologyReference().getSuperClassOf(getInstance()));
+            // the index takes the read lock to query aMOR, if needed
+            Classes set = new Classes( EntityDictionary.from( getSuperClasses()), getInferenceIndex().getSuperClassOf(getInstance()));
             set.setSingleton( getSuperClasses().isSingleton());
             return set;
         }
 
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLClass> to = synchroniseSuperClassesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLClass> to = synchroniseSuperClassesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for (OWLClass a : to.getToAdd())
+                        if( ! a.isOWLNothing())
+                            changes.add(getOntologyReference().addSubClassOf(a, getInstance()));
+                    for (OWLClass r : to.getToRemove())
+                        changes.add(getOntologyReference().removeSubClassOf(r, getInstance()));
+                    return getChangingIntent(to, changes);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLClass a : to.getToAdd())
-                    if( ! a.isOWLNothing())
-                        changes.add(getOntologyReference().addSubClassOf(a, getInstance()));
-                for (OWLClass r : to.getToRemove())
-                    changes.add(getOntologyReference().removeSubClassOf(r, getInstance()));
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -1254,56 +1273,68 @@ public interface ClassExpression
 
         @Override // did not name it as getEquivalentRestrictions because this interface implements from a more generic interface Class.Restriction
         default Restrictions queryEquivalentRestrictions(){
-            Set< Set<ApplyingRestriction>> restrictionsSet = getOntologyReference().getClassRestrictions( getInstance());
-            Set<ApplyingRestriction> restrictions = new HashSet<>();
-            for ( Set<ApplyingRestriction> r : restrictionsSet){
-                restrictions = r;
-                break;
-            }
-            if ( restrictionsSet.size() > 1)
-                System.err.println( "WARNING: all the restrictions that define a class should be contained in a single axiom." +
-                        " Only axiom \'" + restrictions + "\' is considered in \'" + restrictionsSet + "\'");
-            // remove self
-            for ( ApplyingRestriction a : restrictions)
-                if ( a.getRestrictionType().isRestrictionOnClass())
-                    if ( a.getValue().equals( getInstance())){
-                        restrictions.remove( a);
-                        break;
-                    }
-            Restrictions set = new Restrictions( restrictions);
-            set.setSingleton( getEquivalentRestrictions().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                Set< Set<ApplyingRestriction>> restrictionsSet = getOntologyReference().getClassRestrictions( getInstance());
+                Set<ApplyingRestriction> restrictions = new HashSet<>();
+                for ( Set<ApplyingRestriction> r : restrictionsSet){
+                    restrictions = r;
+                    break;
+                }
+                if ( restrictionsSet.size() > 1)
+                    System.err.println( "WARNING: all the restrictions that define a class should be contained in a single axiom." +
+                            " Only axiom \'" + restrictions + "\' is considered in \'" + restrictionsSet + "\'");
+                // remove self
+                for ( ApplyingRestriction a : restrictions)
+                    if ( a.getRestrictionType().isRestrictionOnClass())
+                        if ( a.getValue().equals( getInstance())){
+                            restrictions.remove( a);
+                            break;
+                        }
+                Restrictions set = new Restrictions( restrictions);
+                set.setSingleton( getEquivalentRestrictions().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseEquivalentRestrictionsToExpressionAxioms();
-                if ( to == null)
-                    return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseEquivalentRestrictionsToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
 
-                if ( to.getToAdd().size() > 0 | to.getToRemove().size() > 0){
-                    //noinspection unchecked
-                    changes.addAll( getOntologyReference().convertEquivalentClassesToSuperClasses( getInstance()));
-                    for (SemanticRestriction r : to.getToRemove()) {
-                        changes.add( getOntologyReference().removeRestriction(r));
-                        if( r instanceof ClassRestrictedOnClass)
-                            changes.add( getOntologyReference().removeSubClassOf( (OWLClass) r.getSubject(), (OWLClass) r.getValue()));
-                    }
+                    if ( to.getToAdd().size() > 0 | to.getToRemove().size() > 0){
+                        // the conversions query the ontology, thus buffered changes (if any) should be applied before,
+                        // unless they are buffered on purpose, i.e.: by the user or to be applied together
+                        boolean buffering = CollectedWriting.isBuffering( getOntologyReference());
+                        if ( ! buffering)
+                            getOntologyReference().applyOWLManipulatorChanges();
+                        //noinspection unchecked
+                        changes.addAll( getOntologyReference().convertEquivalentClassesToSuperClasses( getInstance()));
+                        for (SemanticRestriction r : to.getToRemove()) {
+                            changes.add( getOntologyReference().removeRestriction(r));
+                            if( r instanceof ClassRestrictedOnClass)
+                                changes.add( getOntologyReference().removeSubClassOf( (OWLClass) r.getSubject(), (OWLClass) r.getValue()));
+                        }
 
-                    for (SemanticRestriction a : to.getToAdd())
-                        changes.add(getOntologyReference().addRestriction(a));
+                        for (SemanticRestriction a : to.getToAdd())
+                            changes.add(getOntologyReference().addRestriction(a));
 
-                    if ( ! getEquivalentRestrictions().isEmpty())
-                        changes.addAll(getOntologyReference().convertSuperClassesToEquivalentClass(getInstance()));//getEquivalentRestrictions()));
-                }
+                        if ( ! getEquivalentRestrictions().isEmpty()) {
+                            if ( ! buffering)
+                                getOntologyReference().applyOWLManipulatorChanges();
+                            changes.addAll(getOntologyReference().convertSuperClassesToEquivalentClass(getInstance()));//getEquivalentRestrictions()));
+                        }
+                    }
 
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                    return getChangingIntent(to, changes);
+                } catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
+            });
         }
     }
 }
@@ -5,6 +5,7 @@ import it.emarolab.amor.owlInterface.SemanticRestriction;
 import it.emarolab.amor.owlInterface.SemanticRestriction.*;
 import it.emarolab.owloop.core.DataProperty;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DataProperties;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.EntityDictionary;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface;
 import org.semanticweb.owlapi.model.OWLClass;
@@ -128,37 +129,41 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default DataProperties queryDisjointDataProperties(){
-            DataProperties set = new DataProperties(getOntologyReference().getDisjointDataProperty(getInstance()));
-            set.remove( getInstance());
-            set.remove( getOntologyReference().getOWLFactory().getOWLBottomDataProperty());
-            set.setSingleton( getDisjointDataProperties().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                DataProperties set = new DataProperties( EntityDictionary.from( getDisjointDataProperties()), getOntologyReference().getDisjointDataProperty(getInstance()));
+                set.remove( getInstance());
+                set.remove( getOntologyReference().getOWLFactory().getOWLBottomDataProperty());
+                set.setSingleton( getDisjointDataProperties().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseDisjointDataPropertiesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseDisjointDataPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for( OWLDataProperty a : to.getToAdd()){
+                        Set<OWLDataProperty> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( a);
+                        changes.add( getOntologyReference().makeDisjointDataProperties( s));
+                    }
+                    for( OWLDataProperty r : to.getToRemove()){
+                        Set<OWLDataProperty> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( r);
+                        changes.add( getOntologyReference().removeDisjointDataProperties( s));
+                    }
+                    return getChangingIntent(to, changes);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLDataProperty a : to.getToAdd()){
-                    Set<OWLDataProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( a);
-                    changes.add( getOntologyReference().makeDisjointDataProperties( s));
-                }
-                for( OWLDataProperty r : to.getToRemove()){
-                    Set<OWLDataProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeDisjointDataProperties( s));
                 }
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -223,36 +228,40 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default DataProperties queryEquivalentDataProperties(){
-            DataProperties set = new DataProperties(getOntologyReference().getEquivalentDataProperty(getInstance()));
-            set.remove( getInstance());
-            set.setSingleton( getEquivalentDataProperties().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                DataProperties set = new DataProperties( EntityDictionary.from( getEquivalentDataProperties()), getOntologyReference().getEquivalentDataProperty(getInstance()));
+                set.remove( getInstance());
+                set.setSingleton( getEquivalentDataProperties().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseEquivalentDataPropertiesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseEquivalentDataPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for( OWLDataProperty a : to.getToAdd()){
+                        Set<OWLDataProperty> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( a);
+                        changes.add( getOntologyReference().makeEquivalentDataProperties( s));
+                    }
+                    for( OWLDataProperty r : to.getToRemove()){
+                        Set<OWLDataProperty> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( r);
+                        changes.add( getOntologyReference().removeEquivalentDataProperties( s));
+                    }
+                    return getChangingIntent(to, changes);
+                } catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLDataProperty a : to.getToAdd()){
-                    Set<OWLDataProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( a);
-                    changes.add( getOntologyReference().makeEquivalentDataProperties( s));
                 }
-                for( OWLDataProperty r : to.getToRemove()){
-                    Set<OWLDataProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeEquivalentDataProperties( s));
-                }
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -314,27 +323,31 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default DataProperties querySubDataProperties(){
-            DataProperties set = new DataProperties(getOntologyReference().getSubDataPropertyOf(getInstance()));
-            set.setSingleton( getSubDataProperties().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                DataProperties set = new DataProperties( EntityDictionary.from( getSubDataProperties()), getOntologyReference().getSubDataPropertyOf(getInstance()));
+                set.setSingleton( getSubDataProperties().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseSubDataPropertiesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseSubDataPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for (OWLDataProperty a : to.getToAdd())
+                        changes.add(getOntologyReference().addSubDataPropertyOf(getInstance(), a));
+                    for (OWLDataProperty r : to.getToRemove())
+                        changes.add(getOntologyReference().removeSubDataPropertyOf(getInstance(), r));
+                    return getChangingIntent(to, changes);
+                } catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLDataProperty a : to.getToAdd())
-                    changes.add(getOntologyReference().addSubDataPropertyOf(getInstance(), a));
-                for (OWLDataProperty r : to.getToRemove())
-                    changes.add(getOntologyReference().removeSubDataPropertyOf(getInstance(), r));
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -399,27 +412,31 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default DataProperties querySuperDataProperties(){
-            DataProperties set = new DataProperties(getOntologyReference().getSuperDataPropertyOf(getInstance()));
-            set.setSingleton( getSuperDataProperties().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                DataProperties set = new DataProperties( EntityDictionary.from( getSuperDataProperties()), getOntologyReference().getSuperDataPropertyOf(getInstance()));
+                set.setSingleton( getSuperDataProperties().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try{
-                EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseSuperDataPropertiesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try{
+                    EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseSuperDataPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for( OWLDataProperty a : to.getToAdd())
+                        changes.add( getOntologyReference().addSubDataPropertyOf( a, getInstance()));
+                    for( OWLDataProperty r : to.getToRemove())
+                        changes.add( getOntologyReference().removeSubDataPropertyOf( r, getInstance()));
+                    return getChangingIntent( to, changes);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLDataProperty a : to.getToAdd())
-                    changes.add( getOntologyReference().addSubDataPropertyOf( a, getInstance()));
-                for( OWLDataProperty r : to.getToRemove())
-                    changes.add( getOntologyReference().removeSubDataPropertyOf( r, getInstance()));
-                return getChangingIntent( to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -1227,47 +1244,51 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default Restrictions queryDomainRestrictions(){
-            Set< Set<ApplyingRestriction>> restrictionsSet = getOntologyReference().getDataDomainRestrictions(getInstance());
-            Set<ApplyingRestriction> restrictions = new HashSet<>();
-            for ( Set<ApplyingRestriction> r : restrictionsSet){
-                restrictions = r;
-                break;
-            }
-            if ( restrictionsSet.size() > 1)
-                System.err.println( "WARNING: all the restriction that define a data property domain should be contained in a single axiom." +
-                        " Only axiom \'" + restrictions + "\' is considered in \'" + restrictionsSet + "\'");
-            // remove self
-            for ( ApplyingRestriction a : restrictions)
-                if ( a.getRestrictionType().isRestrictionOnClass())
-                    if ( a.getValue().equals( getInstance())){
-                        restrictions.remove( a);
-                        break;
-                    }
-            Restrictions set = new Restrictions( restrictions);
-            set.setSingleton( getDomainRestrictions().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                Set< Set<ApplyingRestriction>> restrictionsSet = getOntologyReference().getDataDomainRestrictions(getInstance());
+                Set<ApplyingRestriction> restrictions = new HashSet<>();
+                for ( Set<ApplyingRestriction> r : restrictionsSet){
+                    restrictions = r;
+                    break;
+                }
+                if ( restrictionsSet.size() > 1)
+                    System.err.println( "WARNING: all the restriction that define a data property domain should be contained in a single axiom." +
+                            " Only axiom \'" + restrictions + "\' is considered in \'" + restrictionsSet + "\'");
+                // remove self
+                for ( ApplyingRestriction a : restrictions)
+                    if ( a.getRestrictionType().isRestrictionOnClass())
+                        if ( a.getValue().equals( getInstance())){
+                            restrictions.remove( a);
+                            break;
+                        }
+                Restrictions set = new Restrictions( restrictions);
+                set.setSingleton( getDomainRestrictions().isSingleton());
+                return set;
 
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseDomainDataPropertyToExpressionAxioms();
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                // not optimised: it does not sync only the changes but it removes and re-add the axiom
-                if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
-                    for( Set<ApplyingRestriction> r : getOntologyReference().getDataDomainRestrictions( getInstance()))
-                        changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
-                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
-                    copy.addAll( to.getUnchanged());
-                    changes.add(getOntologyReference().addRestrictionAxiom( copy));
-                }
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseDomainDataPropertyToExpressionAxioms();
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    // not optimised: it does not sync only the changes but it removes and re-add the axiom
+                    if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
+                        for( Set<ApplyingRestriction> r : getOntologyReference().getDataDomainRestrictions( getInstance()))
+                            changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
+                        HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
+                        copy.addAll( to.getUnchanged());
+                        changes.add(getOntologyReference().addRestrictionAxiom( copy));
+                    }
 
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                    return getChangingIntent(to, changes);
+                } catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
+            });
         }
     }
 
@@ -1321,29 +1342,33 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default Restrictions queryRangeRestrictions(){
-            Restrictions set = new Restrictions(getOntologyReference().getDataRangeRestrictions(getInstance()));
-            set.setSingleton( getRangeRestrictions().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                Restrictions set = new Restrictions(getOntologyReference().getDataRangeRestrictions(getInstance()));
+                set.setSingleton( getRangeRestrictions().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseRangeDataPropertyToExpressionAxioms();
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                // not optimised: it does not sync only the changes but it removes and re-add the axiom
-                if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
-                    changes.remove(getOntologyReference().removeRestrictionAxiom(queryRangeRestrictions()));
-                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
-                    copy.addAll( to.getUnchanged());
-                    changes.add(getOntologyReference().addRestrictionAxiom( copy));
-                }
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseRangeDataPropertyToExpressionAxioms();
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    // not optimised: it does not sync only the changes but it removes and re-add the axiom
+                    if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
+                        changes.remove(getOntologyReference().removeRestrictionAxiom(queryRangeRestrictions()));
+                        HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
+                        copy.addAll( to.getUnchanged());
+                        changes.add(getOntologyReference().addRestrictionAxiom( copy));
+                    }
 
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                    return getChangingIntent(to, changes);
+                } catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
+            });
         }
     }
 
@@ -110,27 +110,30 @@ public interface IndividualExpression
 
         @Override // see super classes for documentation
         default Classes queryTypes(){
-            Classes set = new Classes(getOntologyReference().getIndividualClasses(getInstance()));
+            // the index takes the read lock to query aMOR, if needed
+            Classes set = new Classes( EntityDictionary.from( getTypes()), getInferenceIndex().getIndividualClasses(getInstance()));
             set.setSingleton( getTypes().isSingleton());
             return set;
         }
 
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLClass> to = synchroniseTypesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLClass> to = synchroniseTypesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for (OWLClass a : to.getToAdd())
+                        changes.add(getOntologyReference().addIndividualB2Class(getInstance(), a));
+                    for (OWLClass b : to.getToRemove())
+                        changes.add(getOntologyReference().removeIndividualB2Class(getInstance(), b));
+                    return getChangingIntent(to, changes);
+                } catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLClass a : to.getToAdd())
-                    changes.add(getOntologyReference().addIndividualB2Class(getInstance(), a));
-                for (OWLClass b : to.getToRemove())
-                    changes.add(getOntologyReference().removeIndividualB2Class(getInstance(), b));
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -195,36 +198,40 @@ public interface IndividualExpression
 
         @Override // see super classes for documentation
         default Individuals queryDisjointIndividuals(){
-            Individuals set = new Individuals(getOntologyReference().getDisjointIndividuals(getInstance()));
-            set.remove( getInstance());
-            set.setSingleton( getDisjointIndividuals().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                Individuals set = new Individuals( EntityDictionary.from( getDisjointIndividuals()), getOntologyReference().getDisjointIndividuals(getInstance()));
+                set.remove( getInstance());
+                set.setSingleton( getDisjointIndividuals().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLNamedIndividual> to = synchroniseDisjointIndividualsToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLNamedIndividual> to = synchroniseDisjointIndividualsToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for( OWLNamedIndividual a : to.getToAdd()){
+                        Set<OWLNamedIndividual> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( a);
+                        changes.add( getOntologyReference().makeDisjointIndividuals( s));
+                    }
+                    for( OWLNamedIndividual r : to.getToRemove()){
+                        Set<OWLNamedIndividual> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( r);
+                        changes.add( getOntologyReference().removeDisjointIndividuals( s));
+                    }
+                    return getChangingIntent(to, changes);
+                } catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLNamedIndividual a : to.getToAdd()){
-                    Set<OWLNamedIndividual> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( a);
-                    changes.add( getOntologyReference().makeDisjointIndividuals( s));
-                }
-                for( OWLNamedIndividual r : to.getToRemove()){
-                    Set<OWLNamedIndividual> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeDisjointIndividuals( s));
                 }
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -289,36 +296,40 @@ public interface IndividualExpression
 
         @Override // see super classes for documentation
         default Individuals queryEquivalentIndividuals(){
-            Individuals set = new Individuals(getOntologyReference().getEquivalentIndividuals(getInstance()));
-            set.remove( getInstance());
-            set.setSingleton( getEquivalentIndividuals().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                Individuals set = new Individuals( EntityDictionary.from( getEquivalentIndividuals()), getOntologyReference().getEquivalentIndividuals(getInstance()));
+                set.remove( getInstance());
+                set.setSingleton( getEquivalentIndividuals().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLNamedIndividual> to = synchroniseEquivalentIndividualsToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLNamedIndividual> to = synchroniseEquivalentIndividualsToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for( OWLNamedIndividual a : to.getToAdd()){
+                        Set<OWLNamedIndividual> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( a);
+                        changes.add( getOntologyReference().makeEquivalentIndividuals( s));
+                    }
+                    for( OWLNamedIndividual r : to.getToRemove()){
+                        Set<OWLNamedIndividual> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( r);
+                        changes.add( getOntologyReference().removeEquivalentIndividuals( s));
+                    }
+                    return getChangingIntent(to, changes);
+                } catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLNamedIndividual a : to.getToAdd()){
-                    Set<OWLNamedIndividual> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( a);
-                    changes.add( getOntologyReference().makeEquivalentIndividuals( s));
-                }
-                for( OWLNamedIndividual r : to.getToRemove()){
-                    Set<OWLNamedIndividual> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeEquivalentIndividuals( s));
                 }
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -362,10 +373,7 @@ public interface IndividualExpression
          * @return {@code true} if an element was removed as a result of this call.
          */
         default boolean removeData( OWLDataProperty dataProperty){
-            for (DataLinks d : getDataProperties())
-                if( d.getExpression().equals( dataProperty))
-                    return getDataProperties().remove( d);
-            return false;
+            return getDataProperties().remove( dataProperty);
         }
 
         /**
@@ -461,11 +469,10 @@ public interface IndividualExpression
          * (a change of singleton value is not considered).
          */
         default boolean addData( OWLDataProperty dataProperty, boolean singleton){
-            for (DataLinks d : getDataProperties()) {
-                if (d.getExpression().equals(dataProperty)) {
-                    d.getValues().setSingleton( singleton);
-                    return false;
-                }
+            DataLinks d = getDataProperties().getExpressionEntity( dataProperty);
+            if ( d != null) {
+                d.getValues().setSingleton( singleton);
+                return false;
             }
 
             DataLinks data = new DataLinks(dataProperty);
@@ -527,13 +534,13 @@ public interface IndividualExpression
          * (a change of singleton value is not considered).
          */
         default boolean addData( OWLDataProperty dataProperty, OWLLiteral value, boolean singleton){
-            for (DataLinks d : getDataProperties())
-                if( d.getExpression().equals( dataProperty)){
-                    if ( singleton)
-                        d.getValues().clear();
-                    d.getValues().setSingleton( singleton);
-                    return d.getValues().add( value);
-                }
+            DataLinks d = getDataProperties().getExpressionEntity( dataProperty);
+            if( d != null){
+                if ( singleton)
+                    d.getValues().clear();
+                d.getValues().setSingleton( singleton);
+                return d.getValues().add( value);
+            }
 
             DataLinks data = new DataLinks(dataProperty);
             data.getValues().add(value);
@@ -616,39 +623,41 @@ public interface IndividualExpression
 
         @Override // see super classes for documentation
         default DataLinkSet queryDataProperties(){
-            DataLinkSet dataSet = new DataLinkSet();
-            dataSet.setSingleton( getDataProperties().isSingleton());
-            for (DataPropertyRelations r :  getOntologyReference().getDataPropertyB2Individual(getInstance())){
-                DataLinks data = new DataLinks( r.getProperty());
-                data.getValues().addAll( r.getValues());
-                for (DataLinks w : getDataProperties())
-                    if ( data.equals( w)){
+            return getOntologyLock().read( () -> {
+                DataLinkSet dataSet = new DataLinkSet();
+                dataSet.setSingleton( getDataProperties().isSingleton());
+                for (DataPropertyRelations r :  getOntologyReference().getDataPropertyB2Individual(getInstance())){
+                    DataLinks data = new DataLinks( r.getProperty());
+                    data.getValues().addAll( r.getValues());
+                    DataLinks w = getDataProperties().getExpressionEntity( r.getProperty());
+                    if ( data.equals( w))
                         data.getValues().setSingleton( w.getValues().isSingleton());
-                        break;
-                    }
-                dataSet.add( data);
-            }
-            return dataSet;
+                    dataSet.add( data);
+                }
+                return dataSet;
+            });
         }
 
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<DataLinks> to = synchroniseDataPropertiesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<DataLinks> to = synchroniseDataPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for (DataLinks a : to.getToAdd())
+                        for (OWLLiteral l : a.getValues())
+                            changes.add(getOntologyReference().addDataPropertyB2Individual(getInstance(), a.getExpression(), l));
+                    for (DataLinks r : to.getToRemove())
+                        for (OWLLiteral l : r.getValues())
+                            changes.add(getOntologyReference().removeDataPropertyB2Individual(getInstance(), r.getExpression(), l));
+                    return getChangingIntent(to, changes);
+                }catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (DataLinks a : to.getToAdd())
-                    for (OWLLiteral l : a.getValues())
-                        changes.add(getOntologyReference().addDataPropertyB2Individual(getInstance(), a.getExpression(), l));
-                for (DataLinks r : to.getToRemove())
-                    for (OWLLiteral l : r.getValues())
-                        changes.add(getOntologyReference().removeDataPropertyB2Individual(getInstance(), r.getExpression(), l));
-                return getChangingIntent(to, changes);
-            }catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -935,16 +944,15 @@ public interface IndividualExpression
 
         @Override // see super classes for documentation
         default ObjectLinkSet queryObjectProperties(){
+            // the index takes the read lock to query aMOR, if needed
             ObjectLinkSet objectSet = new ObjectLinkSet();
             objectSet.setSingleton( getObjectProperties().isSingleton());
-            for (ObjectPropertyRelations r :  getOntologyReference().getObjectPropertyB2Individual(getInstance())){
+            for (ObjectPropertyRelations r :  getInferenceIndex().getObjectPropertyB2Individual(getInstance())){
                 ObjectLinks object = new ObjectLinks( r.getProperty());
                 object.getValues().addAll( r.getValues());
-                for (ObjectLinks w : getObjectProperties())
-                    if ( object.equals( w)){
-                        object.getValues().setSingleton( w.getValues().isSingleton());
-                        break;
-                    }
+                ObjectLinks w = getObjectProperties().getExpressionEntity( r.getProperty());
+                if ( object.equals( w))
+                    object.getValues().setSingleton( w.getValues().isSingleton());
                 objectSet.add( object);
             }
             return objectSet;
@@ -952,22 +960,24 @@ public interface IndividualExpression
 
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<ObjectLinks> to = synchroniseObjectPropertiesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<ObjectLinks> to = synchroniseObjectPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for (ObjectLinks a : to.getToAdd())
+                        for (OWLNamedIndividual l : a.getValues())
+                            changes.add(getOntologyReference().addObjectPropertyB2Individual(getInstance(), a.getExpression(), l));
+                    for (ObjectLinks r : to.getToRemove())
+                        for (OWLNamedIndividual l : r.getValues())
+                            changes.add(getOntologyReference().removeObjectPropertyB2Individual(getInstance(), r.getExpression(), l));
+                    return getChangingIntent(to, changes);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (ObjectLinks a : to.getToAdd())
-                    for (OWLNamedIndividual l : a.getValues())
-                        changes.add(getOntologyReference().addObjectPropertyB2Individual(getInstance(), a.getExpression(), l));
-                for (ObjectLinks r : to.getToRemove())
-                    for (OWLNamedIndividual l : r.getValues())
-                        changes.add(getOntologyReference().removeObjectPropertyB2Individual(getInstance(), r.getExpression(), l));
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 }
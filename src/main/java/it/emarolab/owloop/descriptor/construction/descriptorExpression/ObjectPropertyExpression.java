@@ -4,6 +4,7 @@ import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.amor.owlInterface.SemanticRestriction;
 import it.emarolab.amor.owlInterface.SemanticRestriction.*;
 import it.emarolab.owloop.core.ObjectProperty;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.EntityDictionary;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface;
@@ -179,27 +180,31 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties queryInverseObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getInverseProperty(getInstance()));
-            set.setSingleton( getInverseObjectProperties().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                ObjectProperties set = new ObjectProperties( EntityDictionary.from( getInverseObjectProperties()), getOntologyReference().getInverseProperty(getInstance()));
+                set.setSingleton( getInverseObjectProperties().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseInverseObjectPropertiesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseInverseObjectPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for (OWLObjectProperty a : to.getToAdd())
+                        changes.add(getOntologyReference().addObjectPropertyInverseOf(getInstance(), a));
+                    for (OWLObjectProperty r : to.getToRemove())
+                        changes.add(getOntologyReference().removeObjectPropertyInverseOf(getInstance(), r));
+                    return getChangingIntent(to, changes);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLObjectProperty a : to.getToAdd())
-                    changes.add(getOntologyReference().addObjectPropertyInverseOf(getInstance(), a));
-                for (OWLObjectProperty r : to.getToRemove())
-                    changes.add(getOntologyReference().removeObjectPropertyInverseOf(getInstance(), r));
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -264,37 +269,41 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties queryDisjointObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getDisjointObjectProperty(getInstance()));
-            set.remove( getInstance());
-            set.remove( getOntologyReference().getOWLFactory().getOWLBottomObjectProperty());
-            set.setSingleton( getDisjointObjectProperties().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                ObjectProperties set = new ObjectProperties( EntityDictionary.from( getDisjointObjectProperties()), getOntologyReference().getDisjointObjectProperty(getInstance()));
+                set.remove( getInstance());
+                set.remove( getOntologyReference().getOWLFactory().getOWLBottomObjectProperty());
+                set.setSingleton( getDisjointObjectProperties().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try{
-                EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseDisjointObjectPropertiesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try{
+                    EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseDisjointObjectPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for( OWLObjectProperty a : to.getToAdd()){
+                        Set<OWLObjectProperty> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( a);
+                        changes.add( getOntologyReference().makeDisjointObjectProperties( s));
+                    }
+                    for( OWLObjectProperty r : to.getToRemove()){
+                        Set<OWLObjectProperty> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( r);
+                        changes.add( getOntologyReference().removeDisjointObjectProperties( s));
+                    }
+                    return getChangingIntent( to, changes);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLObjectProperty a : to.getToAdd()){
-                    Set<OWLObjectProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( a);
-                    changes.add( getOntologyReference().makeDisjointObjectProperties( s));
                 }
-                for( OWLObjectProperty r : to.getToRemove()){
-                    Set<OWLObjectProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeDisjointObjectProperties( s));
-                }
-                return getChangingIntent( to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -359,36 +368,40 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties queryEquivalentObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getEquivalentObjectProperty(getInstance()));
-            set.remove( getInstance());
-            set.setSingleton( getEquivalentObjectProperties().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                ObjectProperties set = new ObjectProperties( EntityDictionary.from( getEquivalentObjectProperties()), getOntologyReference().getEquivalentObjectProperty(getInstance()));
+                set.remove( getInstance());
+                set.setSingleton( getEquivalentObjectProperties().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseEquivalentObjectPropertiesToExpressionAxioms();
-                if( to == null)
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseEquivalentObjectPropertiesToExpressionAxioms();
+                    if( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for( OWLObjectProperty a : to.getToAdd()){
+                        Set<OWLObjectProperty> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( a);
+                        changes.add( getOntologyReference().makeEquivalentObjectProperties( s));
+                    }
+                    for( OWLObjectProperty r : to.getToRemove()){
+                        Set<OWLObjectProperty> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( r);
+                        changes.add( getOntologyReference().removeEquivalentObjectProperties( s));
+                    }
+                    return getChangingIntent(to, changes);
+                } catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLObjectProperty a : to.getToAdd()){
-                    Set<OWLObjectProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( a);
-                    changes.add( getOntologyReference().makeEquivalentObjectProperties( s));
                 }
-                for( OWLObjectProperty r : to.getToRemove()){
-                    Set<OWLObjectProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeEquivalentObjectProperties( s));
-                }
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -453,27 +466,31 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties querySubObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getSubObjectPropertyOf(getInstance()));
-            set.setSingleton( getSubObjectProperties().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                ObjectProperties set = new ObjectProperties( EntityDictionary.from( getSubObjectProperties()), getOntologyReference().getSubObjectPropertyOf(getInstance()));
+                set.setSingleton( getSubObjectProperties().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try{
-                EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseSubObjectPropertiesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try{
+                    EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseSubObjectPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for( OWLObjectProperty a : to.getToAdd())
+                        changes.add( getOntologyReference().addSubObjectPropertyOf( getInstance(), a));
+                    for( OWLObjectProperty r : to.getToRemove())
+                        changes.add( getOntologyReference().removeSubObjectPropertyOf( getInstance(), r));
+                    return getChangingIntent( to, changes);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLObjectProperty a : to.getToAdd())
-                    changes.add( getOntologyReference().addSubObjectPropertyOf( getInstance(), a));
-                for( OWLObjectProperty r : to.getToRemove())
-                    changes.add( getOntologyReference().removeSubObjectPropertyOf( getInstance(), r));
-                return getChangingIntent( to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -539,27 +556,31 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties querySuperObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getSuperObjectPropertyOf(getInstance()));
-            set.setSingleton( getSuperObjectProperties().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                ObjectProperties set = new ObjectProperties( EntityDictionary.from( getSuperObjectProperties()), getOntologyReference().getSuperObjectPropertyOf(getInstance()));
+                set.setSingleton( getSuperObjectProperties().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try{
-                EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseSuperObjectPropertiesToExpressionAxioms();
-                if ( to == null)
+            return getOntologyLock().write( () -> {
+                try{
+                    EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseSuperObjectPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    for( OWLObjectProperty a : to.getToAdd())
+                        changes.add( getOntologyReference().addSubObjectPropertyOf( a, getInstance()));
+                    for( OWLObjectProperty r : to.getToRemove())
+                        changes.add( getOntologyReference().removeSubObjectPropertyOf( r, getInstance()));
+                    return getChangingIntent( to, changes);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLObjectProperty a : to.getToAdd())
-                    changes.add( getOntologyReference().addSubObjectPropertyOf( a, getInstance()));
-                for( OWLObjectProperty r : to.getToRemove())
-                    changes.add( getOntologyReference().removeSubObjectPropertyOf( r, getInstance()));
-                return getChangingIntent( to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -1364,47 +1385,51 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default Restrictions queryDomainRestrictions(){
-            Set< Set<ApplyingRestriction>> restrictionsSet = getOntologyReference().getObjectDomainRestrictions(getInstance());
-            Set<ApplyingRestriction> restrictions = new HashSet<>();
-            for ( Set<ApplyingRestriction> r : restrictionsSet){
-                restrictions = r;
-                break;
-            }
-            if ( restrictionsSet.size() > 1)
-                System.err.println( "WARNING: all the restriction that define an object domain should be contained in a single axiom." +
-                        "Only axiom \'" + restrictions + "\' is considered in \'" + restrictionsSet + "\'");
-            // remove self
-            for ( ApplyingRestriction a : restrictions)
-                if ( a.getRestrictionType().isRestrictionOnClass())
-                    if ( a.getValue().equals( getInstance())){
-                        restrictions.remove( a);
-                        break;
-                    }
-            Restrictions set = new Restrictions( restrictions);
-            set.setSingleton( getDomainRestrictions().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                Set< Set<ApplyingRestriction>> restrictionsSet = getOntologyReference().getObjectDomainRestrictions(getInstance());
+                Set<ApplyingRestriction> restrictions = new HashSet<>();
+                for ( Set<ApplyingRestriction> r : restrictionsSet){
+                    restrictions = r;
+                    break;
+                }
+                if ( restrictionsSet.size() > 1)
+                    System.err.println( "WARNING: all the restriction that define an object domain should be contained in a single axiom." +
+                            "Only axiom \'" + restrictions + "\' is considered in \'" + restrictionsSet + "\'");
+                // remove self
+                for ( ApplyingRestriction a : restrictions)
+                    if ( a.getRestrictionType().isRestrictionOnClass())
+                        if ( a.getValue().equals( getInstance())){
+                            restrictions.remove( a);
+                            break;
+                        }
+                Restrictions set = new Restrictions( restrictions);
+                set.setSingleton( getDomainRestrictions().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseDomainObjectPropertyToExpressionAxioms();
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                // not optimised: it does not sync only the changes but it removes and re-add the axiom
-                if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
-                    for( Set<ApplyingRestriction> r : getOntologyReference().getObjectDomainRestrictions( getInstance()))
-                        changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
-                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
-                    copy.addAll( to.getUnchanged());
-                    changes.add(getOntologyReference().addRestrictionAxiom( copy));
-                }
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseDomainObjectPropertyToExpressionAxioms();
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    // not optimised: it does not sync only the changes but it removes and re-add the axiom
+                    if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
+                        for( Set<ApplyingRestriction> r : getOntologyReference().getObjectDomainRestrictions( getInstance()))
+                            changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
+                        HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
+                        copy.addAll( to.getUnchanged());
+                        changes.add(getOntologyReference().addRestrictionAxiom( copy));
+                    }
 
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                    return getChangingIntent(to, changes);
+                } catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
 
+            });
         }
     }
 
@@ -2210,46 +2235,50 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default Restrictions queryRangeRestrictions(){
-            Set< Set<ApplyingRestriction>> restrictionsSet =  getOntologyReference().getObjectRangeRestrictions(getInstance());
-            Set<ApplyingRestriction> restrictions = new HashSet<>();
-            for ( Set<ApplyingRestriction> r : restrictionsSet){
-                restrictions = r;
-                break;
-            }
-            if ( restrictionsSet.size() > 1)
-                System.err.println( "WARNING: all the restriction that define an object range should be contained in a single axiom." +
-                        "Only axiom \'" + restrictions + "\' is considered in \'" + restrictionsSet + "\'");
-            // remove self
-            for ( ApplyingRestriction a : restrictions)
-                if ( a.getRestrictionType().isRestrictionOnClass())
-                    if ( a.getValue().equals( getInstance())){
-                        restrictions.remove( a);
-                        break;
-                    }
-            Restrictions set = new Restrictions( restrictions);
-            set.setSingleton( getRangeRestrictions().isSingleton());
-            return set;
+            return getOntologyLock().read( () -> {
+                Set< Set<ApplyingRestriction>> restrictionsSet =  getOntologyReference().getObjectRangeRestrictions(getInstance());
+                Set<ApplyingRestriction> restrictions = new HashSet<>();
+                for ( Set<ApplyingRestriction> r : restrictionsSet){
+                    restrictions = r;
+                    break;
+                }
+                if ( restrictionsSet.size() > 1)
+                    System.err.println( "WARNING: all the restriction that define an object range should be contained in a single axiom." +
+                            "Only axiom \'" + restrictions + "\' is considered in \'" + restrictionsSet + "\'");
+                // remove self
+                for ( ApplyingRestriction a : restrictions)
+                    if ( a.getRestrictionType().isRestrictionOnClass())
+                        if ( a.getValue().equals( getInstance())){
+                            restrictions.remove( a);
+                            break;
+                        }
+                Restrictions set = new Restrictions( restrictions);
+                set.setSingleton( getRangeRestrictions().isSingleton());
+                return set;
+            });
         }
 
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseRangeObjectPropertyToExpressionAxioms();
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                // not optimised: it does not sync only the changes but it removes and re-add the axiom
-                if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
-                    for( Set<ApplyingRestriction> r : getOntologyReference().getObjectRangeRestrictions( getInstance()))
-                        changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
-                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
-                    copy.addAll( to.getUnchanged());
-                    changes.add(getOntologyReference().addRestrictionAxiom( copy));
-                }
+            return getOntologyLock().write( () -> {
+                try {
+                    EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseRangeObjectPropertyToExpressionAxioms();
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    // not optimised: it does not sync only the changes but it removes and re-add the axiom
+                    if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
+                        for( Set<ApplyingRestriction> r : getOntologyReference().getObjectRangeRestrictions( getInstance()))
+                            changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
+                        HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
+                        copy.addAll( to.getUnchanged());
+                        changes.add(getOntologyReference().addRestrictionAxiom( copy));
+                    }
 
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                    return getChangingIntent(to, changes);
+                } catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
+            });
         }
 
 
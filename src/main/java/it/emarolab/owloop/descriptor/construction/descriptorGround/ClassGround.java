@@ -3,6 +3,10 @@ package it.emarolab.owloop.descriptor.construction.descriptorGround;
 import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ClassExpression;
 import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 /**
  * This abstract class is used to instantiate a {@link DescriptorGround} for a {@link ConceptGroundInstance}
@@ -46,6 +50,18 @@ abstract public class ClassGround
         super(instanceName, ontoName, filePath, iriPath, bufferingChanges);
     }
 
+    /**
+     * Streams the descriptors of all the classes of an ontology (and its imports), which are
+     * instantiated and read lazily (see {@link DescriptorSpliterator}).
+     * @param ontology the ontology to visit.
+     * @param factory the constructor of the descriptors, e.g.: {@code FullClassDesc::new}.
+     * @param <D> the type of descriptor.
+     * @return a stream of read descriptors, which can be made {@link Stream#parallel()}.
+     */
+    public static <D extends ClassGround> Stream<D> stream(OWLReferences ontology, BiFunction<OWLClass, OWLReferences, D> factory){
+        return DescriptorSpliterator.stream( ontology, ontology.getOWLOntology().classesInSignature( Imports.INCLUDED), factory);
+    }
+
     @Override
     protected GroundInstance<OWLClass> getNewGround(OWLReferences ontology, OWLClass instance) {
         return new ConceptGroundInstance(ontology, instance);
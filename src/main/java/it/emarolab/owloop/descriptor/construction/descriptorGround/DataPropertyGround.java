@@ -4,6 +4,10 @@ import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.DataPropertyExpression;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 /**
  * This abstract class is used to instantiate a {@link DescriptorGround} for a {@link DataGroundInstance}
@@ -47,6 +51,18 @@ abstract public class DataPropertyGround
         super(instanceName, ontoName, filePath, iriPath, bufferingChanges);
     }
 
+    /**
+     * Streams the descriptors of all the data properties of an ontology (and its imports), which are
+     * instantiated and read lazily (see {@link DescriptorSpliterator}).
+     * @param ontology the ontology to visit.
+     * @param factory the constructor of the descriptors, e.g.: {@code FullDataPropertyDesc::new}.
+     * @param <D> the type of descriptor.
+     * @return a stream of read descriptors, which can be made {@link Stream#parallel()}.
+     */
+    public static <D extends DataPropertyGround> Stream<D> stream(OWLReferences ontology, BiFunction<OWLDataProperty, OWLReferences, D> factory){
+        return DescriptorSpliterator.stream( ontology, ontology.getOWLOntology().dataPropertiesInSignature( Imports.INCLUDED), factory);
+    }
+
     @Override
     protected GroundInstance<OWLDataProperty> getNewGround(OWLReferences ontology, OWLDataProperty instance) {
         return new DataGroundInstance(ontology, instance);
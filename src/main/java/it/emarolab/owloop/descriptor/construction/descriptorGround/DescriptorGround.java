@@ -4,8 +4,19 @@ import com.clarkparsia.pellet.owlapi.PelletReasoner;
 import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.amor.owlInterface.OWLReferencesInterface;
 import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.CollectedWriting;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.DescriptorCache;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.DescriptorTraversal;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ParallelReading;
 import org.semanticweb.owlapi.model.OWLObject;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
 /**
  * This abstract class describes common constructors and initialisations for
  * a specific {@link GroundInstance}.
@@ -23,7 +34,7 @@ import org.semanticweb.owlapi.model.OWLObject;
  * </small></div>
  */
 abstract public class DescriptorGround<J extends OWLObject>
-        implements Axiom.Descriptor<OWLReferences,J>, DescriptorGroundInterface<J> {
+        implements Axiom.Descriptor<OWLReferences,J>, DescriptorGroundInterface<J>, Cloneable {
 
     protected static final String NL = System.getProperty("line.separator");
 
@@ -31,6 +42,9 @@ abstract public class DescriptorGround<J extends OWLObject>
     private static final boolean DEFAULT_AMOR_LOG = false;
 
     private GroundInstance<J> ground;
+    private DescriptorCache descriptorCache = null;
+    private DescriptorTraversal descriptorTraversal = null;
+    private volatile DescriptorObserver.Subscription subscription = null;
 
     public DescriptorGround(J instance, OWLReferences onto) {
         setGround( getNewGround( onto, instance));
@@ -77,7 +91,7 @@ abstract public class DescriptorGround<J extends OWLObject>
             if ( ontology.getFilePath().equals(filePath) & ontology.getOntologyPath().equals(iriPath)) {
                 System.out.println("\tontological representation loaded from container with name: " + ontoName);
                 if (bufferingChanges != null)
-                    ontology.setOWLManipulatorBuffering(bufferingChanges);
+                    CollectedWriting.setBuffering(ontology, bufferingChanges);
             } else{
                 System.out.println("!!!!\tontological representation cannot have a duplicated name: " + ontoName
                         + ". Loaded from container with different file path or iri path!!");
@@ -89,6 +103,8 @@ abstract public class DescriptorGround<J extends OWLObject>
         } else {
             ontology = OWLReferencesInterface.OWLReferencesContainer.
                     newOWLReferenceFromFileWithPellet(ontoName, filePath, iriPath, bufferingChanges);
+            if (ontology != null && bufferingChanges != null)
+                CollectedWriting.setBuffering(ontology, bufferingChanges);
             System.out.println("\tontological representation loaded from: " + filePath);
         }
         return ontology;
@@ -100,6 +116,7 @@ abstract public class DescriptorGround<J extends OWLObject>
      * @param ground the ground to set as field of this class.
      */
     public void setGround(GroundInstance<J> ground){ // call this in all constructor
+        unobserve();
         this.ground = ground;
     }
 
@@ -108,6 +125,7 @@ abstract public class DescriptorGround<J extends OWLObject>
      * @param instance the new instance to be ground.
      */
     public void setGroundInstance(J instance){
+        unobserve();
         this.ground.setInstance( instance);
     }
 
@@ -116,9 +134,18 @@ abstract public class DescriptorGround<J extends OWLObject>
      * @param instanceName the new instance name to be ground.
      */
     public void setGroundInstance(String instanceName){
+        unobserve();
         this.ground.setInstance( instanceName);
     }
 
+    /**
+     * It grounds the same instance on another ontology, e.g.: an {@link OntologySnapshot} (see {@link OntologySnapshot#bind(DescriptorGround)}).
+     * @param ontology the new grounding ontology.
+     */
+    public void setGroundOntology(OWLReferences ontology){
+        setGround( getNewGround( ontology, getGroundInstance()));
+    }
+
     /**
      * This method should return a new instanciate {@link DescriptorGroundInterface} with the given values.
      * It is automatically called on all default constructors in order to {@link #setGround(GroundInstance)}.
@@ -146,11 +173,199 @@ abstract public class DescriptorGround<J extends OWLObject>
         return ground;
     }
 
+    /**
+     * It performs the readings of the expressions of a compound descriptor
+     * (e.g.: {@code Type.super::readAxioms}, {@code ObjectLink.super::readAxioms}, etc.)
+     * and aggregates their results in the given order.
+     * If {@link ParallelReading#isParallel()}, expressions are read concurrently.
+     * If {@code this} descriptor is observed (see {@link #observe(Consumer)}) and it is not dirty, nothing is read.
+     * @param expressionReadings the {@link #readAxioms()} of each expression implemented by {@code this} descriptor.
+     * @return the changes made in the {@link Axiom.EntitySet}s during the readings.
+     */
+    @SafeVarargs @SuppressWarnings("rawtypes")
+    protected final List<MappingIntent> readExpressionAxioms(Supplier<List<MappingIntent>>... expressionReadings){
+        DescriptorObserver.Subscription observed = subscription;
+        if ( observed != null && ! observed.clean())
+            return MappingIntent.newList(); // nothing changed since the last reading
+        List<Supplier<List<MappingIntent>>> readings = new ArrayList<>( expressionReadings.length);
+        for ( Supplier<List<MappingIntent>> r : expressionReadings) // the varargs array does not escape
+            readings.add( r);
+        return ParallelReading.readAxioms( readings);
+    }
+
+    /**
+     * It performs the writings of the expressions of a compound descriptor
+     * (e.g.: {@code Type.super::writeAxioms}, {@code ObjectLink.super::writeAxioms}, etc.)
+     * and aggregates their results in the given order.
+     * If {@link CollectedWriting#isCollected()}, the changes of all the expressions are applied to the ontology together.
+     * @param expressionWritings the {@link #writeAxioms()} of each expression implemented by {@code this} descriptor.
+     * @return the changes made in the ontology during the writings.
+     */
+    @SafeVarargs @SuppressWarnings("rawtypes")
+    protected final List<MappingIntent> writeExpressionAxioms(Supplier<List<MappingIntent>>... expressionWritings){
+        List<Supplier<List<MappingIntent>>> writings = new ArrayList<>( expressionWritings.length);
+        for ( Supplier<List<MappingIntent>> w : expressionWritings) // the varargs array does not escape
+            writings.add( w);
+        return CollectedWriting.writeAxioms( getOntologyReference(), writings);
+    }
+
+    /**
+     * Enqueues {@link #writeAxioms()} to the {@link OntologyWriter} of the ontology, and returns immediately.
+     * The state of this descriptor is copied before returning (see {@link #copyState()}),
+     * thus it can be changed right after, without affecting what is written.
+     * If it is enqueued again before being written, only its last state is written.
+     * @return the future changes made in the ontology.
+     */
+    public CompletableFuture<List<MappingIntent>> writeAxiomsAsync(){
+        return OntologyWriter.of( getOntologyReference()).write( this);
+    }
+    /**
+     * Returns a copy of this descriptor, with an equal ground and a copy of each of its {@link EntitySet}s
+     * (including the values of the {@link Axiom.ExpressionEntity}s that they contain, see {@link #copyEntitySets()}).
+     * The other fields are shared with this descriptor, and the copy is not observed (see {@link #observe(Consumer)}).
+     * It is used to write this descriptor asynchronously (see {@link #writeAxiomsAsync()}).
+     * @return a copy of the state of this descriptor, which does not change when this descriptor changes.
+     */
+    @SuppressWarnings("unchecked")
+    public DescriptorGround<J> copyState(){
+        DescriptorGround<J> copy;
+        try {
+            copy = (DescriptorGround<J>) super.clone();
+        } catch ( CloneNotSupportedException e){
+            throw new IllegalStateException( "Cannot copy the state of " + this, e);
+        }
+        copy.ground = getNewGround( getOntologyReference(), getGroundInstance());
+        copy.subscription = null;
+        copy.copyEntitySets();
+        return copy;
+    }
+    /**
+     * It is called by {@link #copyState()} on the copy of this descriptor, whose fields are initially
+     * the same of this descriptor. It should replace each {@link EntitySet} field with
+     * {@link #copyEntitySet(HashSet)}, and call the method of the super class if it has {@link EntitySet}s too.
+     * By default, it throws an {@link UnsupportedOperationException}, since a descriptor that shares its
+     * sets with its copy cannot be written asynchronously.
+     */
+    protected void copyEntitySets(){
+        throw new UnsupportedOperationException( getClass().getSimpleName() + " does not copy its entity sets.");
+    }
+    /**
+     * Copies an {@link EntitySet} of a descriptor (see {@link #copyEntitySets()}), with its type,
+     * its singleton flag and its dictionary. If it is an {@link Axiom.ExpressionEntitySet}, also the values
+     * of its elements are copied.
+     * @param set the set to copy.
+     * @param <S> the type of the set.
+     * @return a copy of the given set, which does not change when the given set changes.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected static <S extends HashSet<?>> S copyEntitySet(S set){
+        HashSet<Object> copy = (HashSet<Object>) set.clone(); // it keeps the type, the singleton flag and the dictionary
+        if ( set instanceof Axiom.ExpressionEntitySet) { // its elements have their own values
+            copy.clear();
+            for ( Object e : set) {
+                Axiom.ExpressionEntity entity = (Axiom.ExpressionEntity) e;
+                Axiom.ExpressionEntity copied = entity.getNewData( new HashSet<>( entity.getValues()));
+                copied.getValues().setSingleton( entity.getValues().isSingleton());
+                copy.add( copied);
+            }
+        }
+        return (S) copy;
+    }
+    /**
+     * Waits for all the asynchronous writings on the ontology of this descriptor
+     * (see {@link #writeAxiomsAsync()}) to be applied. It should be called before {@link #readAxioms()}
+     * if something has been written asynchronously.
+     */
+    public void flush(){
+        OntologyWriter.flush( getOntologyReference());
+    }
+
+    /**
+     * Starts to notify this descriptor about the changes of its axioms in the ontology,
+     * as made by any writer (see {@link DescriptorObserver}). Then, {@link #readAxioms()}
+     * queries the ontology only if something relevant changed since the previous reading.
+     * The observation stops if the ground of this descriptor changes.
+     * @param onChange the function called when this descriptor becomes dirty, it can be {@code null}.
+     * @return the subscription, which can be polled or cancelled.
+     */
+    public DescriptorObserver.Subscription observe(Consumer<? super DescriptorGround<J>> onChange){
+        return DescriptorObserver.of( getOntologyReference()).observe( this, onChange);
+    }
+    /**
+     * @return the subscription of this descriptor to the changes of the ontology,
+     * {@code null} if it is not observed (see {@link #observe(Consumer)}).
+     */
+    public DescriptorObserver.Subscription getSubscription() {
+        return subscription;
+    }
+    // it is called by the DescriptorObserver
+    void setSubscription(DescriptorObserver.Subscription subscription) {
+        this.subscription = subscription;
+    }
+    // stops observing this descriptor, e.g.: since its ground changes.
+    private void unobserve(){
+        DescriptorObserver.Subscription observed = subscription;
+        if ( observed != null)
+            observed.cancel();
+    }
+
     @Override // see super class for documentation
     public void reason() {
         getGround().reason();
     }
 
+    /**
+     * Sets the cache used by the {@code build...()} methods of this descriptor.
+     * @param descriptorCache the cache from which built descriptors are taken,
+     *                        {@code null} (default) to read all the built descriptors.
+     */
+    public void setDescriptorCache(DescriptorCache descriptorCache) {
+        this.descriptorCache = descriptorCache;
+    }
+    /**
+     * @return the cache used by the {@code build...()} methods of this descriptor,
+     * {@code null} if built descriptors are always read.
+     */
+    public DescriptorCache getDescriptorCache() {
+        return descriptorCache;
+    }
+
+    /**
+     * Sets the traversal used by the {@code build...()} methods of this descriptor.
+     * It is typically called by {@link DescriptorTraversal#attach(DescriptorGround)}.
+     * @param descriptorTraversal the traversal that memoises the built descriptors without reading them,
+     *                            {@code null} (default) to read all the built descriptors.
+     */
+    public void setDescriptorTraversal(DescriptorTraversal descriptorTraversal) {
+        this.descriptorTraversal = descriptorTraversal;
+    }
+    /**
+     * @return the traversal used by the {@code build...()} methods of this descriptor,
+     * {@code null} if built descriptors are always read.
+     */
+    public DescriptorTraversal getDescriptorTraversal() {
+        return descriptorTraversal;
+    }
+
+    @Override // see super class for documentation
+    @SuppressWarnings("unchecked")
+    public <D extends Descriptor<?,?>> D readBuiltDescriptor(D built) {
+        if ( descriptorTraversal != null && built instanceof DescriptorGround)
+            return (D) descriptorTraversal.memoise( (DescriptorGround<?>) built); // read once per traversal
+        if ( descriptorCache != null && built instanceof DescriptorGround)
+            return (D) descriptorCache.read( (DescriptorGround<?>) built);
+        return Axiom.Descriptor.super.readBuiltDescriptor( built);
+    }
+
+    @Override // see super class for documentation
+    public <C> List<MappingIntent> getChangingIntent(EntitySet.SynchronisationIntent sync, C changes) {
+        // keep track of the written changes, to reason only when necessary
+        OntologyRevision.of( getOntologyReference()).changed( changes);
+        List<MappingIntent> intents = Axiom.Descriptor.super.getChangingIntent( sync, changes);
+        CollectedWriting.collected( getOntologyReference(), changes, intents); // to be coalesced, if collected
+        return intents;
+    }
+
     @Override // see super class for documentation
     public Ground<OWLReferences, J> copyGround() {
         return getGround().copyGround();
@@ -40,6 +40,16 @@ import java.util.Set;
 public interface DescriptorGroundInterface<J extends OWLObject>
         extends Axiom.Ground<OWLReferences,J>{
 
+    /**
+     * Releases everything that OWLOOP associated to an ontology (e.g.: its locks, indexes, change listeners,
+     * threads and journal), see {@link OntologyRegistry#release(OWLReferences)}. It should be called when
+     * the ontology is no longer used, and the descriptors grounded on it should not be used anymore.
+     * @param ontology the ontology to release.
+     */
+    static void release(OWLReferences ontology){
+        OntologyRegistry.release( ontology);
+    }
+
     /**
      * A {@link GroundInstance} has the reference to an Ontology (i.e., using {@link #getGroundOntology()}). The reference
      * is shared between all {@link GroundInstance}s. This way ontology and reasoner are not instantiated for all.
@@ -89,7 +99,7 @@ public interface DescriptorGroundInterface<J extends OWLObject>
 
         @Override // see super class for documentation
         public void reason() {
-            ontology.synchronizeReasoner();
+            ReasoningScheduler.of( ontology).reason();
         }
 
         @Override
@@ -409,12 +419,32 @@ public interface DescriptorGroundInterface<J extends OWLObject>
         return getGroundOntology().getOWLFactory();
     }
 
+    /**
+     * Returns the lock shared by all the descriptors grounded on the same {@link #getGroundOntology()}.
+     * @return the lock to be used for querying and manipulating the ontology from different threads.
+     */
+    default OntologyLock getOntologyLock(){
+        return OntologyLock.of( getGroundOntology());
+    }
+
+    /**
+     * Returns the index shared by all the descriptors grounded on the same {@link #getGroundOntology()}.
+     * If it is not enabled, it just forwards the queries to aMOR.
+     * @return the materialised inferences to be used for querying the ontology.
+     */
+    default InferenceIndex getInferenceIndex(){
+        return InferenceIndex.of( getGroundOntology());
+    }
+
     /**
      * It calls {@link OWLReferences#synchronizeReasoner()} in order to performs
-     * reasoning over the actual state of the ontology.
+     * reasoning over the actual state of the ontology, while holding the write {@link #getOntologyLock()}.
+     * If {@link OntologyRevision#isIncremental()}, reasoning is skipped when the ontology did not change
+     * (see {@link OntologyRevision#reason()}). If the {@link ReasoningScheduler} of the ontology is enabled,
+     * the requests from different threads are debounced.
      */
     default void reason(){
-        getGroundOntology().synchronizeReasoner();
+        ReasoningScheduler.of( getGroundOntology()).reason();
     }
 
     /**
@@ -434,6 +464,16 @@ public interface DescriptorGroundInterface<J extends OWLObject>
     default void saveOntology(String filePath, boolean saveReasoned){
         getGroundOntology().saveOntology( saveReasoned, filePath);
     }
+    /**
+     * Save the asserted and the inferred axioms of the ontology in a binary image, which can be loaded
+     * with {@link OntologyImage#load(String, String)} without parsing, while its inferences can be queried
+     * without reasoning through {@link OntologyImage#loadSnapshot(String, String)}.
+     * @param filePath the path to the file to create (or overwrite).
+     * @return {@code true} if the image has been saved.
+     */
+    default boolean saveOntologyImage(String filePath){
+        return OntologyImage.save( getGroundOntology(), filePath, true);
+    }
 
     /**
      * It enable/disable the use of the reasoner during aMOR querying (i.e.: {@code {@link OWLReferences}.get...(..)})
@@ -0,0 +1,301 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.construction.descriptorExpression.IndividualExpression;
+import org.semanticweb.owlapi.model.*;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * This class notifies the descriptors when the axioms they describe change in the ontology.
+ * <p>
+ *     There is only one observer for each ontology (see {@link #of(OWLReferences)}), and it listens for
+ *     the changes of its {@link OWLOntologyManager}. A descriptor that is {@link #observe(DescriptorGround, Consumer)}d
+ *     becomes dirty when a logical axiom that involves its ground instance is added or removed, by any writer,
+ *     in the ontology or in its imports closure.
+ *     For the individual descriptors, also the expressions are considered, e.g.: a {@link OWLClassAssertionAxiom}
+ *     dirties an {@link IndividualExpression.Type}, but not an {@link IndividualExpression.ObjectLink}.
+ *     Since the inferences can change for all the entities, all the observed descriptors become dirty when
+ *     the reasoner is synchronised, or at each change if the reasoner is not buffering. A synchronisation
+ *     through {@link OntologyRevision#reason()} is notified immediately, while a synchronisation made
+ *     directly through aMOR (e.g.: {@link OWLReferences#synchronizeReasoner()}) is detected at the following reading
+ *     of an observed descriptor, i.e.: when the buffering reasoner has no pending changes anymore.
+ *     This does not happen if the inferences are not queried
+ *     (i.e.: {@link OWLReferences#setOWLEnquirerIncludesInferences(Boolean)} is {@code false}).
+ * </p>
+ * <p>
+ *     The {@link DescriptorGround#readAxioms()} of an observed descriptor returns immediately, without
+ *     querying the ontology, if it is not dirty since its previous reading. Note that, in this case, the changes
+ *     made on its {@link it.emarolab.owloop.core.Axiom.EntitySet}s and not written yet are not discarded.
+ *     Also, a callback can be given to react to the changes instead of polling the descriptor; it is called
+ *     by the thread that changes the ontology (or synchronises the reasoner), the first time the descriptor
+ *     becomes dirty after a reading. Thus, it should return quickly, e.g.: by scheduling a reading.
+ * </p>
+ * <p>
+ *     The observer does not prevent the descriptors to be garbage collected, but the
+ *     {@link Subscription} should be {@link Subscription#cancel()}ed when it is no longer needed.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorObserver <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class DescriptorObserver {
+
+    // the observers of all the ontologies, there is at most one observer for each OWLReferences.
+    private static final OntologyRegistry.Entries<DescriptorObserver> OBSERVERS =
+            OntologyRegistry.register( DescriptorObserver.class, DescriptorObserver::release);
+
+    /**
+     * Returns the observer associated to the given ontology, it is created the first time this method
+     * is called for an {@link OWLReferences}.
+     * @param ontology the ontology to be observed.
+     * @return the observer shared by all the descriptors grounded on the given ontology.
+     */
+    public static DescriptorObserver of(OWLReferences ontology){
+        return OBSERVERS.of( ontology, DescriptorObserver::new);
+    }
+
+    private final OWLReferences ontology;
+    private final OWLOntologyChangeListener listener;
+    // the subscriptions indexed by their ground instance
+    private final Map<OWLObject, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicLong notifications = new AtomicLong();
+    // true if the buffering reasoner has pending changes that OWLOOP did not see being synchronised
+    private volatile boolean pending = false;
+
+    // use of(OWLReferences) instead.
+    private DescriptorObserver(OWLReferences ontology) {
+        this.ontology = ontology;
+        OWLOntology owlOntology = ontology.getOWLOntology();
+        listener = changes -> {
+            if ( subscriptions.isEmpty())
+                return;
+            boolean reasoning = ontology.getOWLEnquirerReasoningFlag();
+            boolean inferred = reasoning && ! ontology.useBufferingReasoner();
+            Set<OWLOntology> closure = owlOntology.importsClosure().collect( Collectors.toSet()); // the reasoner also sees the imports
+            for ( OWLOntologyChange c : changes)
+                if ( c.isAxiomChange() && c.getAxiom().isLogicalAxiom() && closure.contains( c.getOntology())) {
+                    if ( inferred) {
+                        dirtyAll();
+                        return;
+                    }
+                    pending |= reasoning;
+                    changed( c.getAxiom());
+                }
+        };
+        ontology.getOWLManager().addOntologyChangeListener( listener);
+    }
+
+    // removes the change listener, when the ontology is released (see OntologyRegistry).
+    private void release(){
+        ontology.getOWLManager().removeOntologyChangeListener( listener);
+    }
+
+    /**
+     * Starts to observe the given descriptor. If it was already observed, its previous subscription is cancelled.
+     * The descriptor becomes dirty for the changes of the ontology and of its imports closure, and for the
+     * reasoner synchronisations made through OWLOOP or directly through aMOR, as described for this class.
+     * The changes made to an ontology that is not in the imports closure are never observed,
+     * even if it is managed by the same {@link OWLOntologyManager}.
+     * @param descriptor the descriptor to observe, grounded on the ontology of this observer.
+     * @param onChange the function called when the descriptor becomes dirty, it can be {@code null}.
+     * @param <D> the type of descriptor.
+     * @return the subscription of the descriptor, which is initially dirty.
+     */
+    public <D extends DescriptorGround<?>> Subscription observe(D descriptor, Consumer<? super D> onChange){
+        Subscription previous = descriptor.getSubscription();
+        if ( previous != null)
+            previous.cancel();
+        Subscription s = new Subscription( descriptor, onChange);
+        subscriptions.computeIfAbsent( s.instance, k -> ConcurrentHashMap.newKeySet()).add( s);
+        descriptor.setSubscription( s);
+        return s;
+    }
+    /**
+     * Calls {@link #observe(DescriptorGround, Consumer)} without a callback,
+     * the descriptor can be polled through {@link Subscription#isDirty()}.
+     * @param descriptor the descriptor to observe, grounded on the ontology of this observer.
+     * @return the subscription of the descriptor, which is initially dirty.
+     */
+    public Subscription observe(DescriptorGround<?> descriptor){
+        return observe( descriptor, null);
+    }
+
+    // dirties the subscriptions related to the given axiom.
+    private void changed(OWLAxiom axiom){
+        axiom.signature().forEach( e -> {
+            Set<Subscription> related = subscriptions.get( e);
+            if ( related != null)
+                for ( Subscription s : related)
+                    if ( s.isRelevant( axiom))
+                        s.dirty();
+        });
+    }
+    private void dirtyAll(){
+        for ( Set<Subscription> related : subscriptions.values())
+            for ( Subscription s : related)
+                s.dirty();
+    }
+
+    /**
+     * Dirties all the observed descriptors of the given ontology if the inferences are queried.
+     * It is called by {@link OntologyRevision#reason()} after having synchronised the reasoner.
+     * @param ontology the reasoned ontology.
+     */
+    static void reasoned(OWLReferences ontology){
+        DescriptorObserver observer = OBSERVERS.get( ontology); // it is not created if nothing is observed
+        if ( observer == null)
+            return;
+        observer.pending = false;
+        if ( ! observer.subscriptions.isEmpty() && ontology.getOWLEnquirerReasoningFlag())
+            observer.dirtyAll();
+    }
+    // dirties all the observed descriptors if the reasoner has been synchronised without OntologyRevision#reason().
+    private void synchronised(){
+        if ( ! pending)
+            return;
+        boolean flushed;
+        synchronized ( ontology) { // as aMOR does, the reasoner is not used concurrently
+            flushed = ontology.getOWLReasoner().getPendingChanges().isEmpty();
+        }
+        if ( flushed) {
+            pending = false;
+            if ( ontology.getOWLEnquirerReasoningFlag())
+                dirtyAll();
+        }
+    }
+
+    /**
+     * @return the number of observed descriptors.
+     */
+    public int size(){
+        int size = 0;
+        for ( Set<Subscription> related : subscriptions.values())
+            size += related.size();
+        return size;
+    }
+    /**
+     * @return the number of times an observed descriptor became dirty.
+     */
+    public long getNotifications() {
+        return notifications.get();
+    }
+
+    @Override
+    public String toString() {
+        return "DescriptorObserver{" + ontology.getReferenceName() + ", observed=" + size() + ", notifications=" + notifications + "}";
+    }
+
+    /**
+     * The observation of a descriptor, given by {@link #observe(DescriptorGround, Consumer)}.
+     */
+    public class Subscription {
+
+        private final WeakReference<DescriptorGround<?>> descriptor;
+        private final OWLObject instance;
+        private final Consumer<Object> onChange;
+        private final AtomicBoolean dirty = new AtomicBoolean( true); // it has never been read
+
+        @SuppressWarnings("unchecked")
+        private Subscription(DescriptorGround<?> descriptor, Consumer<?> onChange) {
+            this.descriptor = new WeakReference<>( descriptor);
+            this.instance = descriptor.getGroundInstance();
+            this.onChange = (Consumer<Object>) onChange;
+        }
+
+        // whether the axiom concerns the expressions of the descriptor, which has the instance in the signature.
+        private boolean isRelevant(OWLAxiom axiom){
+            DescriptorGround<?> d = descriptor.get();
+            if ( d == null) { // garbage collected
+                cancel();
+                return false;
+            }
+            if ( d instanceof ObjectPropertyGround || d instanceof DataPropertyGround)
+                return ! axiom.isOfType( AxiomType.ABoxAxiomTypes); // e.g.: not the assertions of a property
+            if ( !( d instanceof IndividualGround))
+                return true;
+            if ( axiom instanceof OWLClassAssertionAxiom)
+                return d instanceof IndividualExpression.Type;
+            if ( axiom instanceof OWLObjectPropertyAssertionAxiom || axiom instanceof OWLNegativeObjectPropertyAssertionAxiom)
+                return d instanceof IndividualExpression.ObjectLink;
+            if ( axiom instanceof OWLDataPropertyAssertionAxiom || axiom instanceof OWLNegativeDataPropertyAssertionAxiom)
+                return d instanceof IndividualExpression.DataLink;
+            if ( axiom instanceof OWLSameIndividualAxiom)
+                return d instanceof IndividualExpression.Equivalent;
+            if ( axiom instanceof OWLDifferentIndividualsAxiom)
+                return d instanceof IndividualExpression.Disjoint;
+            return true;
+        }
+
+        private void dirty(){
+            if ( dirty.getAndSet( true))
+                return; // it was already dirty
+            notifications.incrementAndGet();
+            if ( onChange == null)
+                return;
+            DescriptorGround<?> d = descriptor.get();
+            if ( d == null)
+                cancel();
+            else try {
+                onChange.accept( d);
+            } catch ( RuntimeException e){
+                e.printStackTrace();
+            }
+        }
+
+        /**
+         * Marks the descriptor as clean, it is called by {@link DescriptorGround#readAxioms()}
+         * before querying the ontology. The reasoner synchronisations made directly through aMOR are detected here.
+         * @return {@code true} if the descriptor was dirty, i.e.: it should be read.
+         */
+        boolean clean(){
+            synchronised(); // e.g.: through aMOR
+            return dirty.getAndSet( false);
+        }
+
+        /**
+         * @return {@code true} if the axioms of the descriptor changed since its last reading.
+         */
+        public boolean isDirty(){
+            synchronised(); // e.g.: through aMOR
+            return dirty.get();
+        }
+
+        /**
+         * Stops observing the descriptor, whose readings will always query the ontology.
+         */
+        public void cancel(){
+            subscriptions.computeIfPresent( instance, (k, related) -> {
+                related.remove( this);
+                return related.isEmpty() ? null : related;
+            });
+            DescriptorGround<?> d = descriptor.get();
+            if ( d != null && d.getSubscription() == this)
+                d.setSubscription( null);
+        }
+
+        /**
+         * @return the observed descriptor, {@code null} if it has been garbage collected.
+         */
+        public DescriptorGround<?> getDescriptor(){
+            return descriptor.get();
+        }
+
+        @Override
+        public String toString() {
+            return "Subscription{" + ontology.getOWLObjectName( instance) + ", dirty=" + dirty + "}";
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import org.semanticweb.owlapi.model.OWLObject;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class iterates over the entities of an ontology as descriptors, which are created and read lazily.
+ * <p>
+ *     It is used by the {@code stream(..)} methods of the grounds (e.g.: {@link IndividualGround#stream(OWLReferences, BiFunction)}
+ *     and {@link ClassGround#stream(OWLReferences, BiFunction)}). The descriptors are instantiated
+ *     (with the given factory, e.g.: {@code FullIndividualDesc::new}) and read (see {@link DescriptorGround#readAxioms()})
+ *     only when they are consumed, so that they can be garbage collected as soon as they have been processed.
+ *     Therefore, all the entities of a large ontology can be visited with a memory that does not depend on their number.
+ * </p>
+ * <p>
+ *     The stream can be {@link Stream#parallel()}. Each split takes at most {@link #getChunk()} entities from
+ *     the ontology, and the descriptors of a split are read by the thread that consumes it
+ *     (as for the other readings, see {@link OntologyLock}). Note that the descriptors are not
+ *     reasoned, i.e.: the reasoner should be synchronised before streaming (e.g.: through {@link DescriptorGround#reason()}),
+ *     and the ontology should not be changed while it is streamed (or the stream should be
+ *     taken from an {@link OntologySnapshot}).
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorSpliterator <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ *
+ * @param <E> the type of entity described by the descriptors (e.g.: {@link org.semanticweb.owlapi.model.OWLNamedIndividual}).
+ * @param <D> the type of descriptor.
+ */
+public class DescriptorSpliterator<E extends OWLObject, D extends DescriptorGround<E>>
+        implements Spliterator<D> {
+
+    public static final int DEFAULT_CHUNK = 256;
+
+    /**
+     * Creates a sequential stream of descriptors, which can be made {@link Stream#parallel()}.
+     * @param ontology the ontology of the entities.
+     * @param entities the entities to describe, they are consumed lazily.
+     * @param factory the constructor of the descriptor of an entity, e.g.: {@code FullIndividualDesc::new}.
+     * @param chunk the maximum number of entities in a split.
+     * @param <E> the type of entity.
+     * @param <D> the type of descriptor.
+     * @return a stream of read descriptors, one for each given entity.
+     */
+    public static <E extends OWLObject, D extends DescriptorGround<E>> Stream<D> stream(OWLReferences ontology, Stream<E> entities,
+                                                                                 BiFunction<E, OWLReferences, D> factory, int chunk){
+        return StreamSupport.stream( new DescriptorSpliterator<>( ontology, entities.iterator(), factory, chunk), false)
+                .onClose( entities::close);
+    }
+    /**
+     * Calls {@link #stream(OWLReferences, Stream, BiFunction, int)} with {@link #DEFAULT_CHUNK}.
+     * @param ontology the ontology of the entities.
+     * @param entities the entities to describe, they are consumed lazily.
+     * @param factory the constructor of the descriptor of an entity, e.g.: {@code FullIndividualDesc::new}.
+     * @param <E> the type of entity.
+     * @param <D> the type of descriptor.
+     * @return a stream of read descriptors, one for each given entity.
+     */
+    public static <E extends OWLObject, D extends DescriptorGround<E>> Stream<D> stream(OWLReferences ontology, Stream<E> entities,
+                                                                                 BiFunction<E, OWLReferences, D> factory){
+        return stream( ontology, entities, factory, DEFAULT_CHUNK);
+    }
+
+    private final OWLReferences ontology;
+    private final BiFunction<E, OWLReferences, D> factory;
+    private final int chunk;
+    // the entities not taken by a split yet, it is null for the splits.
+    private final Iterator<E> source;
+    // the entities of a split, it is null for the spliterator of the source.
+    private final Object[] split;
+    private int next = 0;
+
+    /**
+     * Creates a spliterator over the given entities, use {@link #stream(OWLReferences, Stream, BiFunction, int)} to
+     * get a stream.
+     * @param ontology the ontology of the entities.
+     * @param entities the entities to describe, they are consumed lazily.
+     * @param factory the constructor of the descriptor of an entity, e.g.: {@code FullIndividualDesc::new}.
+     * @param chunk the maximum number of entities in a split.
+     */
+    public DescriptorSpliterator(OWLReferences ontology, Iterator<E> entities, BiFunction<E, OWLReferences, D> factory, int chunk) {
+        this.ontology = ontology;
+        this.factory = factory;
+        this.chunk = Math.max( 1, chunk);
+        this.source = entities;
+        this.split = null;
+    }
+    // a split with the given entities
+    private DescriptorSpliterator(DescriptorSpliterator<E,D> parent, Object[] split) {
+        this.ontology = parent.ontology;
+        this.factory = parent.factory;
+        this.chunk = parent.chunk;
+        this.source = null;
+        this.split = split;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean tryAdvance(Consumer<? super D> action) {
+        E entity;
+        if ( split != null) {
+            if ( next >= split.length)
+                return false;
+            entity = (E) split[ next];
+            split[ next++] = null; // it does not keep the consumed entities
+        } else {
+            if ( ! source.hasNext())
+                return false;
+            entity = source.next();
+        }
+        D descriptor = factory.apply( entity, ontology);
+        descriptor.readAxioms();
+        action.accept( descriptor);
+        return true;
+    }
+
+    @Override
+    public Spliterator<D> trySplit() {
+        if ( split != null) {
+            int remaining = split.length - next;
+            if ( remaining < 2)
+                return null;
+            Object[] half = new Object[ remaining / 2];
+            System.arraycopy( split, next, half, 0, half.length);
+            for ( int i = 0; i < half.length; i++)
+                split[ next++] = null;
+            return new DescriptorSpliterator<>( this, half);
+        }
+        Object[] taken = new Object[ chunk];
+        int size = 0;
+        while ( size < chunk && source.hasNext())
+            taken[ size++] = source.next();
+        if ( size == 0)
+            return null;
+        if ( size < chunk) {
+            Object[] trimmed = new Object[ size];
+            System.arraycopy( taken, 0, trimmed, 0, size);
+            taken = trimmed;
+        }
+        return new DescriptorSpliterator<>( this, taken);
+    }
+
+    @Override
+    public long estimateSize() {
+        if ( split != null)
+            return split.length - next;
+        return Long.MAX_VALUE; // the number of entities is not known
+    }
+
+    @Override
+    public int characteristics() {
+        if ( split != null)
+            return DISTINCT | NONNULL | SIZED | SUBSIZED;
+        return DISTINCT | NONNULL;
+    }
+
+    /**
+     * @return the maximum number of entities in a split.
+     */
+    public int getChunk() {
+        return chunk;
+    }
+}
@@ -3,6 +3,10 @@ package it.emarolab.owloop.descriptor.construction.descriptorGround;
 import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.IndividualExpression;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 /**
  * This abstract class is used to instantiate a {@link DescriptorGround} for a {@link IndividualGroundInstance}
@@ -53,6 +57,18 @@ abstract public class IndividualGround
         super(instanceName, ontoName, filePath, iriPath, bufferingChanges);
     }
 
+    /**
+     * Streams the descriptors of all the individuals of an ontology (and its imports), which are
+     * instantiated and read lazily (see {@link DescriptorSpliterator}).
+     * @param ontology the ontology to visit.
+     * @param factory the constructor of the descriptors, e.g.: {@code FullIndividualDesc::new}.
+     * @param <D> the type of descriptor.
+     * @return a stream of read descriptors, which can be made {@link Stream#parallel()}.
+     */
+    public static <D extends IndividualGround> Stream<D> stream(OWLReferences ontology, BiFunction<OWLNamedIndividual, OWLReferences, D> factory){
+        return DescriptorSpliterator.stream( ontology, ontology.getOWLOntology().individualsInSignature( Imports.INCLUDED), factory);
+    }
+
     @Override
     protected GroundInstance<OWLNamedIndividual> getNewGround(OWLReferences ontology, OWLNamedIndividual instance) {
         return new IndividualGroundInstance(ontology, instance);
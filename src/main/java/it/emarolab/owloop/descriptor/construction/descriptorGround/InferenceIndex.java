@@ -0,0 +1,357 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.ObjectPropertyRelations;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * This class materialises the most frequent queries of an ontology after each reasoner synchronisation.
+ * <p>
+ *     There is only one index for each ontology (see {@link #of(OWLReferences)}), and it is disabled by default.
+ *     When it is enabled (see {@link #setEnabled(boolean)}), {@link OntologyRevision#reason()} computes, right after
+ *     synchronising the reasoner, the sub and super classes and the individuals of each class, as well as the types
+ *     and the object property assertions of each individual. They are stored in adjacency arrays of integer identifiers
+ *     and used to answer {@code queryTypes()}, {@code querySubClasses()}, {@code querySuperClasses()},
+ *     {@code queryIndividuals()} and {@code queryObjectProperties()} of the descriptors
+ *     (see {@link DescriptorGroundInterface#getInferenceIndex()}) until the next synchronisation.
+ *     The index is read without locking, and the queries to aMOR are performed with the read {@link OntologyLock}
+ *     (see {@link OntologyLock#tryOptimisticRead()}).
+ * </p>
+ * <p>
+ *     The index gives the same results of aMOR. Indeed, it is computed through aMOR, and the entries affected by
+ *     an axiom that is added or removed (e.g.: the types of an individual when a class assertion changes) are
+ *     invalidated, and they are queried again to aMOR until the next synchronisation.
+ *     This also occurs for the axioms of the imported ontologies.
+ *     The same occurs for the entities that are not in the index, or if the aMOR flags for reasoning and completeness
+ *     change. The index is not used if the reasoner of the ontology is not buffering, since the inferences would
+ *     change with every axiom. It should be enabled when queries are much more frequent than synchronisations.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.InferenceIndex <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class InferenceIndex {
+
+    // the indexes of all the ontologies, there is at most one index for each OWLReferences.
+    private static final OntologyRegistry.Entries<InferenceIndex> INDEXES =
+            OntologyRegistry.register( InferenceIndex.class, InferenceIndex::release);
+
+    /**
+     * Returns the index associated to the given ontology, it is created the first time this method
+     * is called for an {@link OWLReferences}.
+     * @param ontology the ontology to be indexed.
+     * @return the index shared by all the descriptors grounded on the given ontology.
+     */
+    public static InferenceIndex of(OWLReferences ontology){
+        return INDEXES.of( ontology, InferenceIndex::new);
+    }
+
+    private final OWLReferences ontology;
+    private final OWLOntologyChangeListener listener;
+    private volatile boolean enabled = false;
+    private volatile Index index = null; // null if not available
+    private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong();
+    private long builds = 0;
+
+    // use of(OWLReferences) instead.
+    private InferenceIndex(OWLReferences ontology) {
+        this.ontology = ontology;
+        OWLOntology owlOntology = ontology.getOWLOntology();
+        listener = changes -> {
+            Index current = index;
+            if ( current == null)
+                return;
+            Set<OWLOntology> closure = owlOntology.importsClosure().collect( Collectors.toSet()); // aMOR also queries the imports
+            for ( OWLOntologyChange c : changes)
+                if ( c.isAxiomChange() && closure.contains( c.getOntology()))
+                    current.invalidate( c.getAxiom());
+        };
+        ontology.getOWLManager().addOntologyChangeListener( listener);
+    }
+
+    // removes the change listener, when the ontology is released (see OntologyRegistry).
+    private void release(){
+        ontology.getOWLManager().removeOntologyChangeListener( listener);
+    }
+
+    /**
+     * Computes the index if it is enabled and not updated with the last reasoner synchronisation.
+     * It is called by {@link OntologyRevision#reason()} while holding the write {@link OntologyLock}.
+     * @param reasonedRevision the {@link OntologyRevision#getReasonedRevision()}.
+     */
+    void update(long reasonedRevision){
+        if ( ! enabled || ! ontology.useBufferingReasoner()) {
+            index = null;
+            return;
+        }
+        Index current = index;
+        if ( current != null && current.revision == reasonedRevision && current.isConsistent( ontology))
+            return;
+        index = new Index( ontology, reasonedRevision);
+        synchronized ( this) {
+            builds++;
+        }
+    }
+
+    /**
+     * @param enabled {@code true} to compute the index at the next reasoner synchronisation and
+     *                use it for querying, {@code false} (default) to always query aMOR.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if ( ! enabled)
+            index = null;
+    }
+    /**
+     * @return {@code true} if the index is computed at each reasoner synchronisation.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return {@code true} if the index is actually used to answer the queries.
+     */
+    public boolean isAvailable(){
+        return index != null;
+    }
+    /**
+     * @return the number of queries answered by the index.
+     */
+    public long getHits() {
+        return hits.get();
+    }
+    /**
+     * @return the number of queries answered by aMOR, while the index was available
+     * (e.g.: since the entry was invalidated).
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+    /**
+     * @return the number of times the index has been computed.
+     */
+    public synchronized long getBuilds() {
+        return builds;
+    }
+
+    /**
+     * @param individual the individual to query.
+     * @return the same of {@link OWLReferences#getIndividualClasses(OWLNamedIndividual)}.
+     */
+    public Set<OWLClass> getIndividualClasses(OWLNamedIndividual individual){
+        return query( i -> i.decode( i.types, i.individualIds, individual, i.classes), () -> ontology.getIndividualClasses( individual));
+    }
+    /**
+     * @param cls the class to query.
+     * @return the same of {@link OWLReferences#getIndividualB2Class(OWLClass)}.
+     */
+    public Set<OWLNamedIndividual> getIndividualB2Class(OWLClass cls){
+        return query( i -> i.decode( i.classIndividuals, i.classIds, cls, i.individuals), () -> ontology.getIndividualB2Class( cls));
+    }
+    /**
+     * @param cls the class to query.
+     * @return the same of {@link OWLReferences#getSubClassOf(OWLClass)}.
+     */
+    public Set<OWLClass> getSubClassOf(OWLClass cls){
+        return query( i -> i.decode( i.subClasses, i.classIds, cls, i.classes), () -> ontology.getSubClassOf( cls));
+    }
+    /**
+     * @param cls the class to query.
+     * @return the same of {@link OWLReferences#getSuperClassOf(OWLClass)}.
+     */
+    public Set<OWLClass> getSuperClassOf(OWLClass cls){
+        return query( i -> i.decode( i.superClasses, i.classIds, cls, i.classes), () -> ontology.getSuperClassOf( cls));
+    }
+    /**
+     * @param individual the individual to query.
+     * @return the same of {@link OWLReferences#getObjectPropertyB2Individual(OWLNamedIndividual)}.
+     */
+    public Set<ObjectPropertyRelations> getObjectPropertyB2Individual(OWLNamedIndividual individual){
+        return query( i -> i.decodeRelations( individual), () -> ontology.getObjectPropertyB2Individual( individual));
+    }
+
+    private Index getIndex(){
+        Index current = index;
+        if ( current == null || ! current.isConsistent( ontology))
+            return null;
+        return current;
+    }
+    // reads the index without locking if nothing is written meanwhile, otherwise it queries with the read lock
+    private <T> T query(Function<Index, T> indexed, Supplier<T> queried){
+        OntologyLock lock = OntologyLock.of( ontology);
+        long stamp = lock.tryOptimisticRead();
+        if ( stamp != 0) {
+            Index current = getIndex();
+            T set = current == null ? null : indexed.apply( current);
+            if ( set != null && lock.validate( stamp)) {
+                hits.incrementAndGet();
+                return set;
+            }
+        }
+        return lock.read( () -> {
+            Index current = getIndex();
+            if ( current == null)
+                return queried.get();
+            T set = indexed.apply( current);
+            if ( set == null) {
+                misses.incrementAndGet();
+                return queried.get();
+            }
+            hits.incrementAndGet();
+            return set;
+        });
+    }
+
+    @Override
+    public String toString() {
+        return "InferenceIndex{" + ontology.getReferenceName() + ", enabled=" + enabled + ", available=" + isAvailable() +
+                ", builds=" + getBuilds() + ", hits=" + hits + ", misses=" + misses + "}";
+    }
+
+    // the queries of an ontology at a given revision, entities are identified by their position in the arrays.
+    private static class Index {
+        private final long revision;
+        private final boolean inferences, complete; // the aMOR flags used to compute the index
+        private final Map<OWLClass, Integer> classIds = new HashMap<>();
+        private final Map<OWLNamedIndividual, Integer> individualIds = new HashMap<>();
+        private final Map<OWLObjectProperty, Integer> propertyIds = new HashMap<>();
+        private final OWLClass[] classes;
+        private final OWLNamedIndividual[] individuals;
+        private final OWLObjectProperty[] properties;
+        // for each entity, the identifiers of the query results, null if not available.
+        // Rows are invalidated while the index is read without locking, so they are published atomically
+        private final AtomicReferenceArray<int[]> subClasses, superClasses, classIndividuals, types;
+        // for each individual, the pairs of property and value identifiers, sorted by property
+        private final AtomicReferenceArray<int[]> relations;
+
+        private Index(OWLReferences ontology, long revision){
+            this.revision = revision;
+            this.inferences = ontology.getOWLEnquirerReasoningFlag();
+            this.complete = ontology.getOWLEnquirerCompletenessFlag();
+            OWLOntology owlOntology = ontology.getOWLOntology();
+            List<OWLClass> classList = new ArrayList<>();
+            List<OWLNamedIndividual> individualList = new ArrayList<>();
+            List<OWLObjectProperty> propertyList = new ArrayList<>();
+            id( ontology.getOWLFactory().getOWLThing(), classIds, classList);
+            owlOntology.classesInSignature().forEach( c -> id( c, classIds, classList));
+            owlOntology.individualsInSignature().forEach( i -> id( i, individualIds, individualList));
+
+            int classCount = classList.size(), individualCount = individualList.size();
+            subClasses = new AtomicReferenceArray<>( classCount);
+            superClasses = new AtomicReferenceArray<>( classCount);
+            classIndividuals = new AtomicReferenceArray<>( classCount);
+            for ( int c = 0; c < classCount; c++) {
+                OWLClass cls = classList.get( c);
+                subClasses.set( c, encode( ontology.getSubClassOf( cls), classIds, classList));
+                superClasses.set( c, encode( ontology.getSuperClassOf( cls), classIds, classList));
+                classIndividuals.set( c, encode( ontology.getIndividualB2Class( cls), individualIds, individualList));
+            }
+            types = new AtomicReferenceArray<>( individualCount);
+            relations = new AtomicReferenceArray<>( individualCount);
+            for ( int i = 0; i < individualCount; i++) {
+                OWLNamedIndividual individual = individualList.get( i);
+                types.set( i, encode( ontology.getIndividualClasses( individual), classIds, classList));
+                List<int[]> pairs = new ArrayList<>();
+                for ( ObjectPropertyRelations r : ontology.getObjectPropertyB2Individual( individual)) {
+                    int p = id( r.getProperty(), propertyIds, propertyList);
+                    for ( OWLNamedIndividual v : r.getValues())
+                        pairs.add( new int[]{ p, id( v, individualIds, individualList)});
+                }
+                pairs.sort( Comparator.comparingInt( pair -> pair[ 0]));
+                int[] row = new int[ pairs.size() * 2];
+                for ( int k = 0; k < pairs.size(); k++) {
+                    row[ 2 * k] = pairs.get( k)[ 0];
+                    row[ 2 * k + 1] = pairs.get( k)[ 1];
+                }
+                relations.set( i, row);
+            }
+            // entities found in the results are identified, but their queries are not indexed
+            classes = classList.toArray( new OWLClass[ classList.size()]);
+            individuals = individualList.toArray( new OWLNamedIndividual[ individualList.size()]);
+            properties = propertyList.toArray( new OWLObjectProperty[ propertyList.size()]);
+        }
+
+        private boolean isConsistent(OWLReferences ontology){
+            return inferences == ontology.getOWLEnquirerReasoningFlag() && complete == ontology.getOWLEnquirerCompletenessFlag();
+        }
+
+        private static <E> int id(E entity, Map<E, Integer> ids, List<E> list){
+            return ids.computeIfAbsent( entity, e -> {
+                list.add( e);
+                return list.size() - 1;
+            });
+        }
+        private static <E> int[] encode(Set<E> entities, Map<E, Integer> ids, List<E> list){
+            int[] row = new int[ entities.size()];
+            int k = 0;
+            for ( E e : entities)
+                row[ k++] = id( e, ids, list);
+            return row;
+        }
+
+        private <E> Set<E> decode(AtomicReferenceArray<int[]> rows, Map<?, Integer> ids, Object key, E[] entities){
+            Integer id = ids.get( key);
+            if ( id == null || id >= rows.length())
+                return null;
+            int[] row = rows.get( id);
+            if ( row == null)
+                return null;
+            Set<E> set = new HashSet<>();
+            for ( int e : row)
+                set.add( entities[ e]);
+            return set;
+        }
+        private Set<ObjectPropertyRelations> decodeRelations(OWLNamedIndividual individual){
+            Integer id = individualIds.get( individual);
+            if ( id == null || id >= relations.length())
+                return null;
+            int[] row = relations.get( id);
+            if ( row == null)
+                return null;
+            Set<ObjectPropertyRelations> set = new HashSet<>();
+            for ( int k = 0; k < row.length; ) {
+                int p = row[ k];
+                Set<OWLNamedIndividual> values = new HashSet<>();
+                for ( ; k < row.length && row[ k] == p; k += 2)
+                    values.add( individuals[ row[ k + 1]]);
+                set.add( new ObjectPropertyRelations( individual, properties[ p], values));
+            }
+            return set;
+        }
+
+        // it is called while holding the write lock, when an axiom is added or removed.
+        private void invalidate(OWLAxiom axiom){
+            if ( axiom instanceof OWLClassAssertionAxiom) {
+                OWLClassAssertionAxiom a = (OWLClassAssertionAxiom) axiom;
+                invalidate( types, individualIds, a.getIndividual());
+                invalidate( classIndividuals, classIds, a.getClassExpression());
+            } else if ( axiom instanceof OWLSubClassOfAxiom) {
+                OWLSubClassOfAxiom a = (OWLSubClassOfAxiom) axiom;
+                invalidate( superClasses, classIds, a.getSubClass());
+                invalidate( subClasses, classIds, a.getSuperClass());
+            } else if ( axiom instanceof OWLObjectPropertyAssertionAxiom) {
+                invalidate( relations, individualIds, ((OWLObjectPropertyAssertionAxiom) axiom).getSubject());
+            } else if ( axiom instanceof OWLSubObjectPropertyOfAxiom)
+                for ( int i = 0; i < relations.length(); i++)
+                    relations.set( i, null); // the properties of all the individuals might change
+        }
+        private static void invalidate(AtomicReferenceArray<int[]> rows, Map<?, Integer> ids, Object key){
+            Integer id = ids.get( key);
+            if ( id != null && id < rows.length())
+                rows.set( id, null);
+        }
+    }
+}
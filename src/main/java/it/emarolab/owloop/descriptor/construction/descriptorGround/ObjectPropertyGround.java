@@ -3,6 +3,10 @@ package it.emarolab.owloop.descriptor.construction.descriptorGround;
 import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
 
 /**
  * This abstract class is used to instantiate a {@link DescriptorGround} for a {@link ObjectGroundInstance}
@@ -46,6 +50,18 @@ abstract public class ObjectPropertyGround
         super(instanceName, ontoName, filePath, iriPath, bufferingChanges);
     }
 
+    /**
+     * Streams the descriptors of all the object properties of an ontology (and its imports), which are
+     * instantiated and read lazily (see {@link DescriptorSpliterator}).
+     * @param ontology the ontology to visit.
+     * @param factory the constructor of the descriptors, e.g.: {@code FullObjectPropertyDesc::new}.
+     * @param <D> the type of descriptor.
+     * @return a stream of read descriptors, which can be made {@link Stream#parallel()}.
+     */
+    public static <D extends ObjectPropertyGround> Stream<D> stream(OWLReferences ontology, BiFunction<OWLObjectProperty, OWLReferences, D> factory){
+        return DescriptorSpliterator.stream( ontology, ontology.getOWLOntology().objectPropertiesInSignature( Imports.INCLUDED), factory);
+    }
+
     @Override
     protected GroundInstance<OWLObjectProperty> getNewGround(OWLReferences ontology, OWLObjectProperty instance) {
         return new ObjectGroundInstance(ontology, instance);
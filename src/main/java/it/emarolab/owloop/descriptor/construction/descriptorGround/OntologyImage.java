@@ -0,0 +1,623 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
+import org.semanticweb.owlapi.model.*;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * This class saves an ontology in a compact binary image, from which it can be loaded without parsing and reasoning.
+ * <p>
+ *     An image is written by {@link #save(OWLReferences, String, boolean)} (see also
+ *     {@link DescriptorGroundInterface#saveOntologyImage(String)}) and it contains three parts: the axioms asserted
+ *     in the ontology, the axioms of its imports closure and, optionally, the axioms inferred by its reasoner,
+ *     as {@link OntologySnapshot} does (i.e.: class and property assertions, and the hierarchies of classes
+ *     and properties). The entities and the literals are stored once in a dictionary shared by all the parts,
+ *     and the axioms that only involve named entities (e.g.: declarations, assertions,
+ *     sub classes, etc.) are stored as sections of integer identifiers. The layout is made of 4 bytes aligned
+ *     integers, and {@link #load(String, String)} maps the file in memory and decodes
+ *     each entity only once. The other axioms (e.g.: with class restrictions, or annotated) are stored
+ *     in the OWL functional syntax, and they are parsed at loading.
+ * </p>
+ * <p>
+ *     A loaded ontology is a new {@link OWLReferences} (with a buffering Pellet reasoner), which is registered in the
+ *     {@link OWLReferencesInterface.OWLReferencesContainer}, with the same IRI and file path of the saved ontology.
+ *     It contains exactly the asserted axioms of the saved ontology, while the axioms of its imports closure are
+ *     in a new ontology (whose IRI has the {@link #IMPORTS_SUFFIX}), which it imports. The inferences are
+ *     never asserted in the loaded ontology, instead, {@link #loadSnapshot(String, String)} serves them through a
+ *     read-only {@link OntologySnapshot} of the loaded ontology, which is queried without performing the classification.
+ *     Note that the inferred disjoint classes, and the sub classes of {@code owl:Nothing}, are not materialised.
+ *     Note that an image cannot be larger than 2 GB, and that it does not contain the original imports declarations.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyImage <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologyImage {
+
+    private static final int MAGIC = 0x4F574C42; // "OWLB"
+    private static final int VERSION = 2;
+    private static final int FLAG_REASONED = 1;
+    private static final int NONE = -1;
+    // the parts of an image saved by save(..), the images encoded for the OntologyJournal only have one part
+    private static final int ASSERTED = 0, IMPORTED = 1, INFERRED = 2;
+
+    /**
+     * The suffix of the IRI of the ontology that contains the axioms of the imports closure of a loaded image.
+     */
+    public static final String IMPORTS_SUFFIX = "-imports";
+
+    // the kind of an entry of the entity dictionary is its position in this array, 0 is a plain IRI
+    private static final EntityType<?>[] KINDS = { null, EntityType.CLASS, EntityType.OBJECT_PROPERTY,
+            EntityType.DATA_PROPERTY, EntityType.NAMED_INDIVIDUAL, EntityType.ANNOTATION_PROPERTY, EntityType.DATATYPE};
+
+    // the sections of axioms, with the number of identifiers of each axiom (0 for a variable number)
+    private enum Section {
+        DECLARATION( 1), SUB_CLASS( 2), CLASS_ASSERTION( 2), OBJECT_ASSERTION( 3), DATA_ASSERTION( 3),
+        SUB_OBJECT_PROPERTY( 2), SUB_DATA_PROPERTY( 2), INVERSE_OBJECT_PROPERTIES( 2),
+        EQUIVALENT_CLASSES( 0), DISJOINT_CLASSES( 0), SAME_INDIVIDUALS( 0), DIFFERENT_INDIVIDUALS( 0),
+        EQUIVALENT_OBJECT_PROPERTIES( 0), EQUIVALENT_DATA_PROPERTIES( 0), ANNOTATION_IRI( 3), ANNOTATION_LITERAL( 3);
+
+        private final int arity;
+
+        Section(int arity) {
+            this.arity = arity;
+        }
+    }
+
+    private OntologyImage() {
+    }
+
+    /**
+     * Saves an image of the ontology in the given file, after applying its pending asynchronous writings
+     * (see {@link OntologyWriter}) and, if {@code saveReasoned}, synchronising its reasoner (see {@link OntologyRevision#reason()}).
+     * The axioms are collected while holding the write {@link OntologyLock} of the ontology,
+     * and they are encoded afterwards. The inferred axioms are stored apart from the asserted ones.
+     * @param ontology the ontology to save.
+     * @param filePath the path to the file to create (or overwrite).
+     * @param saveReasoned {@code true} to save also the inferred axioms, {@code false} to store only the assertions.
+     * @return {@code true} if the image has been saved, {@code false} if an error occurred (it is printed).
+     */
+    public static boolean save(OWLReferences ontology, String filePath, boolean saveReasoned){
+        long start = System.nanoTime();
+        OntologyWriter.flush( ontology);
+        List<Set<OWLAxiom>> parts = OntologyLock.of( ontology).write( () -> {
+            Set<OWLAxiom> asserted = ontology.getOWLOntology().axioms().collect( Collectors.toCollection( HashSet::new));
+            Set<OWLAxiom> imported = OntologySnapshot.assertions( ontology);
+            imported.removeAll( asserted);
+            Set<OWLAxiom> inferred = new HashSet<>();
+            if ( saveReasoned) {
+                OntologyRevision.of( ontology).reason(); // reentrant
+                inferred.addAll( OntologySnapshot.inferences( ontology));
+                inferred.removeAll( asserted);
+                inferred.removeAll( imported);
+            }
+            return Arrays.asList( asserted, imported, inferred);
+        });
+        try ( DataOutputStream out = new DataOutputStream( new BufferedOutputStream( new FileOutputStream( filePath), 1 << 16))) {
+            new Encoder( ontology.getOntologyPath(), ontology.getFilePath(), saveReasoned).encode( parts).write( out);
+        } catch ( IOException | OWLOntologyCreationException | OWLOntologyStorageException e) {
+            e.printStackTrace();
+            return false;
+        }
+        System.out.println( "\tontological image of " + ontology.getReferenceName() + " (" + parts.get( ASSERTED).size() +
+                " asserted, " + parts.get( IMPORTED).size() + " imported and " + parts.get( INFERRED).size() +
+                " inferred axioms) saved in " + filePath + " in " + ( System.nanoTime() - start) / 1000000 + " [ms]");
+        return true;
+    }
+
+    /**
+     * Loads an ontology from an image, and it registers it in the {@link OWLReferencesInterface.OWLReferencesContainer}.
+     * If an ontology with the same name is already in the container, it is returned without reading the image.
+     * The loaded ontology contains the asserted axioms of the saved one, and it imports the axioms of its
+     * imports closure. The inferences in the image, if any, are not loaded (see {@link #loadSnapshot(String, String)}).
+     * @param ontoName the name of the ontology in the {@link OWLReferencesInterface.OWLReferencesContainer}.
+     * @param filePath the path to the image created by {@link #save(OWLReferences, String, boolean)}.
+     * @return the loaded ontology, {@code null} if an error occurred (it is printed).
+     */
+    public static OWLReferences load(String ontoName, String filePath){
+        OWLReferences existing = existing( ontoName);
+        if ( existing != null)
+            return existing;
+        Loading image = Loading.read( filePath);
+        return image == null ? null : image.register( ontoName);
+    }
+    /**
+     * Loads an ontology from an image, as {@link #load(String, String)} does, and returns a read-only
+     * {@link OntologySnapshot} of it that also contains the inferences stored in the image.
+     * Thus, the descriptors bound to the snapshot query the inferences without performing the classification,
+     * while the loaded ontology (i.e.: {@link OntologySnapshot#getLive()}) can be changed and reasoned as usual.
+     * If the image does not contain the inferences, or an ontology with the same name is already in the container,
+     * the snapshot is taken with {@link OntologySnapshot#take(OWLReferences)}, which synchronises the reasoner.
+     * @param ontoName the name of the ontology in the {@link OWLReferencesInterface.OWLReferencesContainer}.
+     * @param filePath the path to the image created by {@link #save(OWLReferences, String, boolean)}.
+     * @return a snapshot of the loaded ontology with its inferences, {@code null} if an error occurred (it is printed).
+     */
+    public static OntologySnapshot loadSnapshot(String ontoName, String filePath){
+        OWLReferences existing = existing( ontoName);
+        if ( existing != null)
+            return OntologySnapshot.take( existing);
+        Loading image = Loading.read( filePath);
+        if ( image == null)
+            return null;
+        OWLReferences ontology = image.register( ontoName);
+        if ( ontology == null)
+            return null;
+        if ( ! image.decoder.reasoned)
+            return OntologySnapshot.take( ontology);
+        Set<OWLAxiom> axioms = new HashSet<>();
+        for ( List<OWLAxiom> part : image.parts)
+            axioms.addAll( part);
+        return OntologySnapshot.of( ontology, axioms);
+    }
+    private static OWLReferences existing(String ontoName){
+        OWLReferencesInterface existing = OWLReferencesInterface.OWLReferencesContainer.getOWLReferences( ontoName);
+        if ( existing != null)
+            System.out.println( "\tontological representation already in container with name: " + ontoName);
+        return (OWLReferences) existing;
+    }
+
+    // an image read from a file and not registered yet
+    private static class Loading {
+        private final long start = System.nanoTime();
+        private final String filePath;
+        private Decoder decoder;
+        private List<List<OWLAxiom>> parts;
+
+        private Loading(String filePath) {
+            this.filePath = filePath;
+        }
+
+        // it returns null if an error occurs (it is printed)
+        private static Loading read(String filePath){
+            Loading image = new Loading( filePath);
+            MappedByteBuffer buffer;
+            try ( RandomAccessFile file = new RandomAccessFile( filePath, "r")) {
+                if ( file.length() > Integer.MAX_VALUE)
+                    throw new IOException( "The ontological image " + filePath + " is larger than 2 GB.");
+                buffer = file.getChannel().map( FileChannel.MapMode.READ_ONLY, 0, file.length()); // valid after closing
+            } catch ( IOException e) {
+                e.printStackTrace();
+                return null;
+            }
+            try {
+                image.decoder = new Decoder( buffer, OWLManager.getOWLDataFactory());
+                image.parts = image.decoder.decode();
+                if ( image.parts.size() != 3)
+                    throw new IOException( "The ontological image " + filePath + " has not been saved from an ontology.");
+            } catch ( IOException | OWLOntologyCreationException | RuntimeException e) {
+                System.err.println( "\tOntological image " + filePath + " cannot be read!");
+                e.printStackTrace();
+                return null;
+            }
+            return image;
+        }
+
+        // it returns null if an error occurs (it is printed)
+        private OWLReferences register(String ontoName){
+            String ontologyIri = decoder.string( decoder.ontologyIri);
+            OWLReferences ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                    ontoName, decoder.string( decoder.filePath), ontologyIri, true); // otherwise each axiom is reasoned
+            OWLOntologyManager manager = ontology.getOWLManager();
+            manager.addAxioms( ontology.getOWLOntology(), parts.get( ASSERTED).stream());
+            if ( ! parts.get( IMPORTED).isEmpty()) try {
+                IRI imports = IRI.create( ontologyIri + IMPORTS_SUFFIX);
+                manager.addAxioms( manager.createOntology( imports), parts.get( IMPORTED).stream());
+                manager.applyChange( new AddImport( ontology.getOWLOntology(), manager.getOWLDataFactory().getOWLImportsDeclaration( imports)));
+            } catch ( OWLOntologyCreationException e) {
+                System.err.println( "\tOntological image " + filePath + " cannot be read!");
+                e.printStackTrace();
+                OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontology);
+                return null;
+            }
+            System.out.println( "\tontological representation (" + parts.get( ASSERTED).size() + " asserted and " +
+                    parts.get( IMPORTED).size() + " imported axioms) loaded from image: " +
+                    filePath + " in " + ( System.nanoTime() - start) / 1000000 + " [ms]");
+            return ontology;
+        }
+    }
+
+    /**
+     * Encodes some axioms as an image without IRI and file path, it is used by the {@link OntologyJournal}.
+     * @param axioms the axioms to encode.
+     * @return the image of the given axioms.
+     * @throws IOException if the axioms cannot be encoded.
+     */
+    static byte[] encode(Set<OWLAxiom> axioms) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try ( DataOutputStream out = new DataOutputStream( bytes)) {
+            new Encoder( null, null, false).encode( Collections.singletonList( axioms)).write( out);
+        } catch ( OWLOntologyCreationException | OWLOntologyStorageException e) {
+            throw new IOException( e);
+        }
+        return bytes.toByteArray();
+    }
+    /**
+     * Decodes the axioms encoded by {@link #encode(Set)}, it is used by the {@link OntologyJournal}.
+     * @param image the encoded axioms, from position 0.
+     * @param factory the factory of the decoded axioms.
+     * @return the decoded axioms.
+     * @throws IOException if the image is not valid.
+     */
+    static List<OWLAxiom> decode(ByteBuffer image, OWLDataFactory factory) throws IOException {
+        try {
+            List<OWLAxiom> axioms = new ArrayList<>();
+            for ( List<OWLAxiom> part : new Decoder( image, factory).decode())
+                axioms.addAll( part);
+            return axioms;
+        } catch ( OWLOntologyCreationException e) {
+            throw new IOException( e);
+        }
+    }
+
+    // a growable array of integers
+    private static class Ints {
+        private int[] values = new int[ 16];
+        private int size = 0;
+
+        private void add(int value){
+            if ( size == values.length)
+                values = Arrays.copyOf( values, size * 2);
+            values[ size++] = value;
+        }
+        private void write(DataOutputStream out) throws IOException {
+            out.writeInt( size);
+            for ( int i = 0; i < size; i++)
+                out.writeInt( values[ i]);
+        }
+    }
+
+    // it assigns the identifiers and writes the image
+    private static class Encoder {
+        private final Map<String, Integer> stringIds = new HashMap<>();
+        private final List<byte[]> strings = new ArrayList<>();
+        private final Map<Object, Integer> entityIds = new HashMap<>(); // OWLEntity or IRI
+        private final Ints entityKinds = new Ints(), entityIris = new Ints();
+        private final Map<OWLLiteral, Integer> literalIds = new HashMap<>();
+        private final Ints literalValues = new Ints(), literalTypes = new Ints(), literalLanguages = new Ints();
+        // for each part, the sections of axioms and the axioms in the functional syntax
+        private Ints[][] sections;
+        private int[][] counts;
+        private byte[][] residualSyntax;
+        private final int ontologyIri, filePath;
+        private final boolean reasoned;
+        private int part; // the part being encoded
+
+        private Encoder(String ontologyIri, String filePath, boolean reasoned) {
+            this.reasoned = reasoned;
+            this.ontologyIri = string( ontologyIri);
+            this.filePath = string( filePath);
+        }
+
+        private int string(String s){
+            if ( s == null)
+                return NONE;
+            return stringIds.computeIfAbsent( s, k -> {
+                strings.add( k.getBytes( StandardCharsets.UTF_8));
+                return strings.size() - 1;
+            });
+        }
+        private int entity(Object e){
+            Integer id = entityIds.get( e);
+            if ( id != null)
+                return id;
+            if ( e instanceof OWLEntity) {
+                OWLEntity entity = (OWLEntity) e;
+                entityKinds.add( Arrays.asList( KINDS).indexOf( entity.getEntityType()));
+                entityIris.add( string( entity.getIRI().toString()));
+            } else {
+                entityKinds.add( 0);
+                entityIris.add( string( e.toString()));
+            }
+            entityIds.put( e, entityKinds.size - 1);
+            return entityKinds.size - 1;
+        }
+        private int literal(OWLLiteral l){
+            Integer id = literalIds.get( l);
+            if ( id != null)
+                return id;
+            literalValues.add( string( l.getLiteral()));
+            literalTypes.add( entity( l.getDatatype()));
+            literalLanguages.add( l.hasLang() ? string( l.getLang()) : NONE);
+            literalIds.put( l, literalValues.size - 1);
+            return literalValues.size - 1;
+        }
+
+        private Encoder encode(List<Set<OWLAxiom>> parts) throws OWLOntologyCreationException, OWLOntologyStorageException {
+            sections = new Ints[ parts.size()][ Section.values().length];
+            counts = new int[ parts.size()][ Section.values().length];
+            residualSyntax = new byte[ parts.size()][];
+            for ( part = 0; part < parts.size(); part++) {
+                for ( int i = 0; i < Section.values().length; i++)
+                    sections[ part][ i] = new Ints();
+                residualSyntax[ part] = new byte[ 0];
+                Set<OWLAxiom> residual = new HashSet<>();
+                for ( OWLAxiom a : parts.get( part))
+                    if ( a.isAnnotated() || ! encode( a))
+                        residual.add( a);
+                if ( ! residual.isEmpty()) {
+                    OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+                    manager.setOntologyWriterConfiguration( manager.getOntologyWriterConfiguration().withBannersEnabled( false));
+                    FunctionalSyntaxDocumentFormat format = new FunctionalSyntaxDocumentFormat();
+                    format.setAddMissingTypes( false);
+                    ByteArrayOutputStream syntax = new ByteArrayOutputStream();
+                    manager.saveOntology( manager.createOntology( residual), format, syntax);
+                    residualSyntax[ part] = syntax.toByteArray();
+                }
+            }
+            return this;
+        }
+        // it returns false if the axiom cannot be stored with identifiers
+        private boolean encode(OWLAxiom a){
+            if ( a instanceof OWLDeclarationAxiom)
+                return add( Section.DECLARATION, ((OWLDeclarationAxiom) a).getEntity());
+            if ( a instanceof OWLSubClassOfAxiom)
+                return add( Section.SUB_CLASS, ((OWLSubClassOfAxiom) a).getSubClass(), ((OWLSubClassOfAxiom) a).getSuperClass());
+            if ( a instanceof OWLClassAssertionAxiom)
+                return add( Section.CLASS_ASSERTION, ((OWLClassAssertionAxiom) a).getClassExpression(), ((OWLClassAssertionAxiom) a).getIndividual());
+            if ( a instanceof OWLObjectPropertyAssertionAxiom) {
+                OWLObjectPropertyAssertionAxiom o = (OWLObjectPropertyAssertionAxiom) a;
+                return add( Section.OBJECT_ASSERTION, o.getProperty(), o.getSubject(), o.getObject());
+            }
+            if ( a instanceof OWLDataPropertyAssertionAxiom) {
+                OWLDataPropertyAssertionAxiom d = (OWLDataPropertyAssertionAxiom) a;
+                if ( !( d.getProperty() instanceof OWLEntity && d.getSubject() instanceof OWLEntity))
+                    return false;
+                int property = entity( d.getProperty()), subject = entity( d.getSubject());
+                return addIds( Section.DATA_ASSERTION, property, subject, literal( d.getObject()));
+            }
+            if ( a instanceof OWLSubObjectPropertyOfAxiom)
+                return add( Section.SUB_OBJECT_PROPERTY, ((OWLSubObjectPropertyOfAxiom) a).getSubProperty(), ((OWLSubObjectPropertyOfAxiom) a).getSuperProperty());
+            if ( a instanceof OWLSubDataPropertyOfAxiom)
+                return add( Section.SUB_DATA_PROPERTY, ((OWLSubDataPropertyOfAxiom) a).getSubProperty(), ((OWLSubDataPropertyOfAxiom) a).getSuperProperty());
+            if ( a instanceof OWLInverseObjectPropertiesAxiom)
+                return add( Section.INVERSE_OBJECT_PROPERTIES, ((OWLInverseObjectPropertiesAxiom) a).getFirstProperty(), ((OWLInverseObjectPropertiesAxiom) a).getSecondProperty());
+            if ( a instanceof OWLEquivalentClassesAxiom)
+                return add( Section.EQUIVALENT_CLASSES, ((OWLEquivalentClassesAxiom) a).classExpressions().toArray());
+            if ( a instanceof OWLDisjointClassesAxiom)
+                return add( Section.DISJOINT_CLASSES, ((OWLDisjointClassesAxiom) a).classExpressions().toArray());
+            if ( a instanceof OWLSameIndividualAxiom)
+                return add( Section.SAME_INDIVIDUALS, ((OWLSameIndividualAxiom) a).individuals().toArray());
+            if ( a instanceof OWLDifferentIndividualsAxiom)
+                return add( Section.DIFFERENT_INDIVIDUALS, ((OWLDifferentIndividualsAxiom) a).individuals().toArray());
+            if ( a instanceof OWLEquivalentObjectPropertiesAxiom)
+                return add( Section.EQUIVALENT_OBJECT_PROPERTIES, ((OWLEquivalentObjectPropertiesAxiom) a).properties().toArray());
+            if ( a instanceof OWLEquivalentDataPropertiesAxiom)
+                return add( Section.EQUIVALENT_DATA_PROPERTIES, ((OWLEquivalentDataPropertiesAxiom) a).properties().toArray());
+            if ( a instanceof OWLAnnotationAssertionAxiom) {
+                OWLAnnotationAssertionAxiom n = (OWLAnnotationAssertionAxiom) a;
+                if ( !( n.getSubject() instanceof IRI))
+                    return false;
+                int property = entity( n.getProperty()), subject = entity( n.getSubject());
+                if ( n.getValue() instanceof IRI)
+                    return addIds( Section.ANNOTATION_IRI, property, subject, entity( n.getValue()));
+                if ( n.getValue() instanceof OWLLiteral)
+                    return addIds( Section.ANNOTATION_LITERAL, property, subject, literal( (OWLLiteral) n.getValue()));
+            }
+            return false;
+        }
+        // adds an axiom whose operands are all named entities
+        private boolean add(Section section, Object... operands){
+            for ( Object o : operands)
+                if ( !( o instanceof OWLEntity))
+                    return false;
+            int[] ids = new int[ operands.length];
+            for ( int i = 0; i < ids.length; i++)
+                ids[ i] = entity( operands[ i]);
+            return addIds( section, ids);
+        }
+        private boolean addIds(Section section, int... ids){
+            Ints s = sections[ part][ section.ordinal()];
+            if ( section.arity == 0)
+                s.add( ids.length);
+            for ( int id : ids)
+                s.add( id);
+            counts[ part][ section.ordinal()]++;
+            return true;
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeInt( MAGIC);
+            out.writeInt( VERSION);
+            out.writeInt( reasoned ? FLAG_REASONED : 0);
+            out.writeInt( ontologyIri);
+            out.writeInt( filePath);
+            // the strings, by offsets
+            out.writeInt( strings.size());
+            int offset = 0;
+            for ( byte[] s : strings) {
+                out.writeInt( offset);
+                offset += s.length;
+            }
+            out.writeInt( offset);
+            for ( byte[] s : strings)
+                out.write( s);
+            pad( out, offset);
+            // the dictionaries
+            entityKinds.write( out);
+            entityIris.write( out);
+            literalValues.write( out);
+            literalTypes.write( out);
+            literalLanguages.write( out);
+            // the axioms of each part, by non empty sections
+            out.writeInt( sections.length);
+            for ( int p = 0; p < sections.length; p++) {
+                int nonEmpty = 0;
+                for ( int count : counts[ p])
+                    if ( count > 0)
+                        nonEmpty++;
+                out.writeInt( nonEmpty);
+                for ( Section section : Section.values()) {
+                    if ( counts[ p][ section.ordinal()] == 0)
+                        continue;
+                    out.writeInt( section.ordinal());
+                    out.writeInt( counts[ p][ section.ordinal()]);
+                    sections[ p][ section.ordinal()].write( out);
+                }
+                out.writeInt( residualSyntax[ p].length);
+                out.write( residualSyntax[ p]);
+                pad( out, residualSyntax[ p].length);
+            }
+        }
+        private static void pad(DataOutputStream out, int length) throws IOException {
+            for ( int i = length; i % 4 != 0; i++)
+                out.write( 0);
+        }
+    }
+
+    // it reads a mapped image, the strings and the entities are decoded when they are used the first time
+    private static class Decoder {
+        private final ByteBuffer buffer;
+        private final OWLDataFactory factory;
+        private final boolean reasoned;
+        private final int ontologyIri, filePath;
+        private final int stringOffsets, stringBytes; // positions in the buffer
+        private final String[] strings;
+        private final int[] entityKinds, entityIris;
+        private final Object[] entities; // OWLEntity or IRI
+        private final int[] literalValues, literalTypes, literalLanguages;
+        private final OWLLiteral[] literals;
+        private int position;
+
+        private Decoder(ByteBuffer buffer, OWLDataFactory factory) throws IOException {
+            this.buffer = buffer;
+            this.factory = factory;
+            if ( buffer.getInt( 0) != MAGIC || buffer.getInt( 4) != VERSION)
+                throw new IOException( "Not an ontological image, or an image of another version.");
+            reasoned = ( buffer.getInt( 8) & FLAG_REASONED) != 0;
+            ontologyIri = buffer.getInt( 12);
+            filePath = buffer.getInt( 16);
+            position = 20;
+            strings = new String[ next()];
+            stringOffsets = position;
+            position += ( strings.length + 1) * 4;
+            stringBytes = position;
+            int length = buffer.getInt( stringOffsets + strings.length * 4);
+            position += ( length + 3) / 4 * 4;
+            entityKinds = ints();
+            entityIris = ints();
+            entities = new Object[ entityKinds.length];
+            literalValues = ints();
+            literalTypes = ints();
+            literalLanguages = ints();
+            literals = new OWLLiteral[ literalValues.length];
+        }
+
+        private int next(){
+            int value = buffer.getInt( position);
+            position += 4;
+            return value;
+        }
+        private int[] ints(){
+            int[] values = new int[ next()];
+            for ( int i = 0; i < values.length; i++)
+                values[ i] = next();
+            return values;
+        }
+
+        private String string(int id){
+            if ( id == NONE)
+                return null;
+            String s = strings[ id];
+            if ( s == null) {
+                int from = buffer.getInt( stringOffsets + id * 4), to = buffer.getInt( stringOffsets + id * 4 + 4);
+                byte[] bytes = new byte[ to - from];
+                for ( int i = 0; i < bytes.length; i++)
+                    bytes[ i] = buffer.get( stringBytes + from + i);
+                s = strings[ id] = new String( bytes, StandardCharsets.UTF_8);
+            }
+            return s;
+        }
+        @SuppressWarnings("unchecked")
+        private <E> E entity(int id){
+            Object e = entities[ id];
+            if ( e == null) {
+                IRI iri = IRI.create( string( entityIris[ id]));
+                int kind = entityKinds[ id];
+                e = entities[ id] = kind == 0 ? iri : factory.getOWLEntity( KINDS[ kind], iri);
+            }
+            return (E) e;
+        }
+        private OWLLiteral literal(int id){
+            OWLLiteral l = literals[ id];
+            if ( l == null) {
+                String value = string( literalValues[ id]);
+                l = literals[ id] = literalLanguages[ id] != NONE ? factory.getOWLLiteral( value, string( literalLanguages[ id]))
+                        : factory.getOWLLiteral( value, (OWLDatatype) entity( literalTypes[ id]));
+            }
+            return l;
+        }
+        private <E> Set<E> entities(int count){
+            Set<E> set = new HashSet<>();
+            for ( int i = 0; i < count; i++)
+                set.add( entity( next()));
+            return set;
+        }
+
+        private List<List<OWLAxiom>> decode() throws IOException, OWLOntologyCreationException {
+            List<List<OWLAxiom>> parts = new ArrayList<>();
+            int count = next();
+            for ( int p = 0; p < count; p++)
+                parts.add( decodePart());
+            return parts;
+        }
+        private List<OWLAxiom> decodePart() throws IOException, OWLOntologyCreationException {
+            List<OWLAxiom> axioms = new ArrayList<>();
+            int sections = next();
+            for ( int s = 0; s < sections; s++) {
+                Section section = Section.values()[ next()];
+                int count = next();
+                position += 4; // the number of identifiers
+                for ( int i = 0; i < count; i++)
+                    axioms.add( decode( section));
+            }
+            int length = next();
+            if ( length > 0) {
+                byte[] syntax = new byte[ length];
+                for ( int i = 0; i < length; i++)
+                    syntax[ i] = buffer.get( position + i);
+                OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+                manager.loadOntologyFromOntologyDocument( new ByteArrayInputStream( syntax)).axioms()
+                        .filter( a -> a.isAnnotated() || !( a instanceof OWLDeclarationAxiom)) // the others are in their section
+                        .forEach( axioms::add);
+                position += ( length + 3) / 4 * 4;
+            }
+            return axioms;
+        }
+        private OWLAxiom decode(Section section) throws IOException {
+            switch ( section) {
+                case DECLARATION: return factory.getOWLDeclarationAxiom( entity( next()));
+                case SUB_CLASS: return factory.getOWLSubClassOfAxiom( entity( next()), entity( next()));
+                case CLASS_ASSERTION: return factory.getOWLClassAssertionAxiom( entity( next()), entity( next()));
+                case OBJECT_ASSERTION: return factory.getOWLObjectPropertyAssertionAxiom( entity( next()), entity( next()), entity( next()));
+                case DATA_ASSERTION: return factory.getOWLDataPropertyAssertionAxiom( entity( next()), entity( next()), literal( next()));
+                case SUB_OBJECT_PROPERTY: return factory.getOWLSubObjectPropertyOfAxiom( entity( next()), entity( next()));
+                case SUB_DATA_PROPERTY: return factory.getOWLSubDataPropertyOfAxiom( entity( next()), entity( next()));
+                case INVERSE_OBJECT_PROPERTIES: return factory.getOWLInverseObjectPropertiesAxiom( entity( next()), entity( next()));
+                case EQUIVALENT_CLASSES: return factory.getOWLEquivalentClassesAxiom( this.<OWLClass>entities( next()));
+                case DISJOINT_CLASSES: return factory.getOWLDisjointClassesAxiom( this.<OWLClass>entities( next()));
+                case SAME_INDIVIDUALS: return factory.getOWLSameIndividualAxiom( this.<OWLNamedIndividual>entities( next()));
+                case DIFFERENT_INDIVIDUALS: return factory.getOWLDifferentIndividualsAxiom( this.<OWLNamedIndividual>entities( next()));
+                case EQUIVALENT_OBJECT_PROPERTIES: return factory.getOWLEquivalentObjectPropertiesAxiom( this.<OWLObjectProperty>entities( next()));
+                case EQUIVALENT_DATA_PROPERTIES: return factory.getOWLEquivalentDataPropertiesAxiom( this.<OWLDataProperty>entities( next()));
+                case ANNOTATION_IRI: return factory.getOWLAnnotationAssertionAxiom( entity( next()), (IRI) entity( next()), (IRI) entity( next()));
+                case ANNOTATION_LITERAL: return factory.getOWLAnnotationAssertionAxiom( entity( next()), (IRI) entity( next()), literal( next()));
+            }
+            throw new IOException( "Unknown section of axioms: " + section);
+        }
+    }
+}
@@ -0,0 +1,456 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import org.semanticweb.owlapi.model.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class makes the changes of an ontology durable, by appending them to a write-ahead journal.
+ * <p>
+ *     A journal is a directory that contains the last snapshot of the asserted axioms of the ontology
+ *     (an {@link OntologyImage}), and a sequence of segments, i.e.: memory-mapped files where the
+ *     changes applied to the ontology afterwards are appended. There is at most one journal for each
+ *     ontology (see {@link #of(OWLReferences)}). A journal is {@link #attach(OWLReferences, String)}ed
+ *     to an ontology, which is saved as its first snapshot, and the ontology is {@link #load(String, String)}ed
+ *     at the following startups, by replaying the segments on top of the snapshot.
+ * </p>
+ * <p>
+ *     The journal listens for the axioms added and removed in the ontology by any writer, e.g.: the
+ *     {@link Axiom.MappingIntent#getOntologyChanges()} of {@link Axiom.Descriptor#writeAxioms()}, or the changes
+ *     applied through aMOR. Note that the changes buffered in the aMOR manipulator are journaled when they are applied.
+ *     Each list of changes is encoded as the {@link OntologyImage} does, and it is written in the mapped segment
+ *     before being applied to the ontology, thus appending a change costs as a copy in memory, and the changes survive
+ *     a crash of the process. If a change cannot be journaled (e.g.: the disk is full), it is vetoed, i.e.: the
+ *     ontology does not change, and the writer gets an {@link OWLOntologyChangeVetoException} (or, for the expressions
+ *     that catch their failures, a {@link Axiom.MappingIntent} whose {@code errorOccur()} is {@code true}).
+ *     A record is committed after its changes have been applied, and only the committed records are replayed,
+ *     thus the changes vetoed by other listeners are ignored. Also, the length of a record is written after
+ *     its content, thus a record that is partially written is ignored during the replay.
+ *     If {@link #isForced()}, each committed record is also {@link MappedByteBuffer#force()}d to the disk,
+ *     in order to survive a crash of the system.
+ * </p>
+ * <p>
+ *     The journal is {@link #compact()}ed by saving a new snapshot and deleting the previous segments. This is done
+ *     periodically (see {@link #setCompaction(long, long)}) if the segments are larger than a threshold, and it
+ *     holds the write {@link OntologyLock} of the ontology, as well as the monitor that aMOR holds while applying
+ *     changes. Only the axioms of the ontology (not of its imports) are journaled, and the ontology annotations
+ *     and imports declarations are not.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyJournal <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologyJournal {
+
+    public static final int DEFAULT_SEGMENT = 16 << 20; // bytes
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 64 << 20; // bytes
+    public static final long DEFAULT_COMPACTION_PERIOD = 60000; // milliseconds
+
+    private static final String SNAPSHOT = "snapshot.img";
+    private static final String SEGMENT_PREFIX = "journal-", SEGMENT_SUFFIX = ".log";
+    private static final int MAGIC = 0x4F574C4A; // "OWLJ"
+    private static final int HEADER = 8, RECORD_HEADER = 8; // bytes
+    private static final int ADD = 1, REMOVE = 2, COMMITTED = 4; // the operation of a record, and its committed bit
+
+    // the journals of all the ontologies, there is at most one journal for each OWLReferences.
+    private static final OntologyRegistry.Entries<OntologyJournal> JOURNALS =
+            OntologyRegistry.register( OntologyJournal.class, OntologyJournal::close);
+
+    /**
+     * @param ontology an ontology.
+     * @return the journal attached to the given ontology, {@code null} if it is not journaled.
+     */
+    public static OntologyJournal of(OWLReferences ontology){
+        return JOURNALS.get( ontology);
+    }
+
+    /**
+     * Loads an ontology from the snapshot of a journal (see {@link OntologyImage#load(String, String)}),
+     * replays the changes appended after the snapshot, and keeps journaling the following changes.
+     * @param ontoName the name of the ontology in the aMOR container.
+     * @param directory the directory of the journal.
+     * @return the recovered ontology, {@code null} if the journal does not have a snapshot, or if an error occurred (it is printed).
+     */
+    public static OWLReferences load(String ontoName, String directory){
+        File snapshot = new File( directory, SNAPSHOT);
+        if ( ! snapshot.isFile()) {
+            System.err.println( "\tOntological journal " + directory + " not found!");
+            return null;
+        }
+        OWLReferences ontology = OntologyImage.load( ontoName, snapshot.getPath());
+        if ( ontology == null || open( ontology, directory, true) == null)
+            return null;
+        return ontology;
+    }
+
+    /**
+     * Starts journaling the changes of an ontology in the given directory, which is created if it does not exist.
+     * The ontology is saved as the snapshot of the journal, and the previous content of the directory
+     * (if any) is discarded. If the ontology is already journaled, its journal is returned.
+     * @param ontology the ontology to journal.
+     * @param directory the directory of the journal.
+     * @return the journal of the ontology, {@code null} if an error occurred (it is printed).
+     */
+    public static OntologyJournal attach(OWLReferences ontology, String directory){
+        return open( ontology, directory, false);
+    }
+    private static OntologyJournal open(OWLReferences ontology, String directory, boolean recover){
+        synchronized ( JOURNALS) {
+            OntologyJournal journal = JOURNALS.get( ontology);
+            if ( journal != null)
+                return journal;
+            try {
+                OntologyJournal opened = new OntologyJournal( ontology, new File( directory), recover);
+                return JOURNALS.of( ontology, o -> opened);
+            } catch ( IOException e) {
+                e.printStackTrace();
+                return null;
+            }
+        }
+    }
+
+    private final OWLReferences ontology;
+    private final File directory;
+    private final ImpendingOWLOntologyChangeListener impending;
+    private final OWLOntologyChangeListener listener;
+    // the records appended by each thread for the changes being applied, which are committed once they are applied
+    private final ThreadLocal<List<Record>> appended = ThreadLocal.withInitial( ArrayList::new);
+    private volatile boolean forced = false;
+    private volatile int segmentSize = DEFAULT_SEGMENT;
+    private volatile long compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+    private ScheduledExecutorService executor = null;
+    // the segment being appended, they are guarded by this
+    private long sequence;
+    private MappedByteBuffer segment = null;
+    private long journaled = 0, records = 0, compactions = 0; // journaled is the bytes since the last compaction
+
+    // use attach(OWLReferences, String) or load(String, String) instead.
+    private OntologyJournal(OWLReferences ontology, File directory, boolean recover) throws IOException {
+        this.ontology = ontology;
+        this.directory = directory;
+        if ( ! directory.isDirectory() && ! directory.mkdirs())
+            throw new IOException( "Cannot create the ontological journal " + directory);
+        long start = System.nanoTime();
+        int replayed = 0;
+        List<File> segments = segments();
+        sequence = segments.isEmpty() ? 0 : sequence( segments.get( segments.size() - 1)); // it never decreases
+        if ( recover) {
+            for ( File f : segments)
+                replayed += replay( f);
+        } else {
+            saveSnapshot();
+            for ( File f : segments)
+                if ( ! f.delete())
+                    throw new IOException( "Cannot delete the ontological journal segment " + f);
+        }
+        OWLOntology owlOntology = ontology.getOWLOntology();
+        impending = changes -> {
+            List<Record> records = appended.get();
+            records.clear(); // e.g.: of changes vetoed by another listener, they are never committed
+            try {
+                append( owlOntology, changes, records);
+            } catch ( IOException e) {
+                records.clear();
+                throw new OWLOntologyChangeVetoException( changes.get( 0).getChangeData(),
+                        "The changes of " + ontology.getReferenceName() + " cannot be journaled.", e);
+            }
+        };
+        listener = changes -> commit( appended.get());
+        ontology.getOWLManager().addImpendingOntologyChangeListener( impending);
+        ontology.getOWLManager().addOntologyChangeListener( listener);
+        setCompaction( DEFAULT_COMPACTION_PERIOD, DEFAULT_COMPACTION_THRESHOLD);
+        System.out.println( "\tontological journal " + directory + " attached to " + ontology.getReferenceName() +
+                " (" + replayed + " changes replayed) in " + ( System.nanoTime() - start) / 1000000 + " [ms]");
+    }
+
+    // the segments in the directory, sorted by sequence
+    private List<File> segments(){
+        File[] files = directory.listFiles( (d, name) -> name.startsWith( SEGMENT_PREFIX) && name.endsWith( SEGMENT_SUFFIX));
+        List<File> segments = files == null ? new ArrayList<>() : new ArrayList<>( Arrays.asList( files));
+        segments.sort( Comparator.comparingLong( OntologyJournal::sequence));
+        return segments;
+    }
+    private static long sequence(File segment){
+        String name = segment.getName();
+        return Long.parseLong( name.substring( SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+    private File segment(long sequence){
+        return new File( directory, String.format( "%s%016d%s", SEGMENT_PREFIX, sequence, SEGMENT_SUFFIX));
+    }
+
+    // it applies the changes of a segment to the ontology, it returns the number of changes
+    private int replay(File f) throws IOException {
+        ByteBuffer buffer;
+        try ( RandomAccessFile file = new RandomAccessFile( f, "r")) {
+            buffer = file.getChannel().map( FileChannel.MapMode.READ_ONLY, 0, file.length());
+        }
+        if ( buffer.limit() < HEADER || buffer.getInt( 0) != MAGIC)
+            throw new IOException( "Not an ontological journal segment: " + f);
+        OWLOntologyManager manager = ontology.getOWLManager();
+        int replayed = 0;
+        for ( int position = HEADER; position + RECORD_HEADER <= buffer.limit(); ) {
+            int length = buffer.getInt( position);
+            if ( length <= 0 || position + RECORD_HEADER + length > buffer.limit())
+                break; // the end of the segment, or a record that was not completely written
+            int operation = buffer.getInt( position + 4);
+            if ( ( operation & COMMITTED) == 0) { // its changes have not been applied
+                position += RECORD_HEADER + ( length + 3) / 4 * 4;
+                continue;
+            }
+            ByteBuffer image = buffer.duplicate();
+            image.position( position + RECORD_HEADER);
+            image.limit( position + RECORD_HEADER + length);
+            List<OWLAxiom> axioms;
+            try {
+                axioms = OntologyImage.decode( image.slice(), ontology.getOWLFactory());
+            } catch ( RuntimeException e) {
+                throw new IOException( "Corrupted record in " + f + " at " + position, e);
+            }
+            if ( ( operation & ADD) != 0)
+                manager.addAxioms( ontology.getOWLOntology(), axioms.stream());
+            else manager.removeAxioms( ontology.getOWLOntology(), axioms.stream());
+            replayed += axioms.size();
+            position += RECORD_HEADER + ( length + 3) / 4 * 4;
+        }
+        return replayed;
+    }
+
+    // a record appended to a segment and not committed yet
+    private static class Record {
+        private final MappedByteBuffer segment;
+        private final int position;
+
+        private Record(MappedByteBuffer segment, int position) {
+            this.segment = segment;
+            this.position = position;
+        }
+    }
+
+    // it is called by the manager before applying each list of changes, the appended records are added to the given list
+    private void append(OWLOntology owlOntology, List<? extends OWLOntologyChange> changes, List<Record> records)
+            throws IOException {
+        // consecutive changes of the same type are appended as one record, the order is preserved
+        Set<OWLAxiom> run = new LinkedHashSet<>();
+        int operation = 0;
+        for ( OWLOntologyChange c : changes) {
+            if ( c.getOntology() != owlOntology || !( c.isAddAxiom() || c.isRemoveAxiom()))
+                continue;
+            int o = c.isAddAxiom() ? ADD : REMOVE;
+            if ( o != operation && ! run.isEmpty()) {
+                records.add( append( operation, run));
+                run = new LinkedHashSet<>();
+            }
+            operation = o;
+            run.add( c.getAxiom());
+        }
+        if ( ! run.isEmpty())
+            records.add( append( operation, run));
+    }
+    // it is called by the manager after having applied each list of changes
+    private synchronized void commit(List<Record> records){
+        if ( records.isEmpty())
+            return;
+        for ( Record r : records) {
+            r.segment.putInt( r.position + 4, r.segment.getInt( r.position + 4) | COMMITTED);
+            if ( forced)
+                r.segment.force();
+        }
+        records.clear();
+    }
+    private synchronized Record append(int operation, Set<OWLAxiom> axioms) throws IOException {
+        byte[] record = OntologyImage.encode( axioms);
+        int size = RECORD_HEADER + ( record.length + 3) / 4 * 4;
+        if ( segment == null || segment.remaining() < size + 4) // a zero length terminates the segment
+            roll( size + 4);
+        int position = segment.position();
+        segment.putInt( position + 4, operation);
+        segment.position( position + RECORD_HEADER);
+        segment.put( record);
+        segment.putInt( position, record.length); // the record is valid from now on
+        segment.position( position + size);
+        journaled += size;
+        records++;
+        return new Record( segment, position);
+    }
+
+    // it closes the current segment, and creates the next one
+    private void roll(int required) throws IOException {
+        if ( segment != null)
+            segment.force();
+        sequence++;
+        try ( RandomAccessFile file = new RandomAccessFile( segment( sequence), "rw")) {
+            int size = Math.max( segmentSize, HEADER + required);
+            file.setLength( size);
+            segment = file.getChannel().map( FileChannel.MapMode.READ_WRITE, 0, size); // valid after closing
+        }
+        segment.putInt( 0, MAGIC);
+        segment.position( HEADER);
+    }
+
+    // it replaces the snapshot, the previous one is kept until the new one is completely written
+    private void saveSnapshot() throws IOException {
+        File temporary = new File( directory, SNAPSHOT + ".tmp");
+        if ( ! OntologyImage.save( ontology, temporary.getPath(), false))
+            throw new IOException( "Cannot save the snapshot of the ontological journal " + directory);
+        Files.move( temporary.toPath(), new File( directory, SNAPSHOT).toPath(),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Saves a new snapshot of the ontology, and deletes the segments appended before it.
+     * It holds the write {@link OntologyLock} of the ontology, thus the descriptors cannot write meanwhile.
+     * @return {@code true} if the journal has been compacted, {@code false} if an error occurred (it is printed).
+     */
+    public boolean compact(){
+        return OntologyLock.of( ontology).write( () -> {
+            synchronized ( ontology) { // as aMOR does while applying the changes, which are appended meanwhile
+                return compacted();
+            }
+        });
+    }
+    // it is called while holding the monitor of the ontology, which is taken before the one of this journal
+    private synchronized boolean compacted(){
+        long start = System.nanoTime();
+        try {
+            saveSnapshot();
+            roll( 0); // the following changes are not in the snapshot
+        } catch ( IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+        // changes replayed twice are harmless, thus a crash before deleting does not lose anything
+        for ( File f : segments())
+            if ( sequence( f) < sequence && ! f.delete())
+                System.err.println( "\tCannot delete the ontological journal segment " + f);
+        journaled = 0;
+        compactions++;
+        System.out.println( "\tontological journal " + directory + " compacted in " +
+                ( System.nanoTime() - start) / 1000000 + " [ms]");
+        return true;
+    }
+
+    // it runs on the executor
+    private void compactIfLarge(){
+        long threshold = compactionThreshold;
+        synchronized ( this) {
+            if ( journaled < threshold)
+                return;
+        }
+        compact();
+    }
+
+    /**
+     * Sets when the journal is compacted automatically.
+     * @param period the milliseconds (default {@link #DEFAULT_COMPACTION_PERIOD}) between two checks of the size
+     *               of the segments, {@code 0} to compact only through {@link #compact()}.
+     * @param threshold the bytes (default {@link #DEFAULT_COMPACTION_THRESHOLD}) appended since the last compaction,
+     *                  over which the journal is compacted.
+     */
+    public synchronized void setCompaction(long period, long threshold) {
+        this.compactionThreshold = threshold;
+        if ( executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+        if ( period <= 0)
+            return;
+        executor = Executors.newSingleThreadScheduledExecutor( r -> {
+            Thread t = new Thread( r, "owloop-journal-" + ontology.getReferenceName());
+            t.setDaemon( true);
+            return t;
+        });
+        executor.scheduleWithFixedDelay( this::compactIfLarge, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param forced {@code true} to force each change to the disk, {@code false} (default) to let the operating system
+     *               write the mapped segments.
+     */
+    public void setForced(boolean forced) {
+        this.forced = forced;
+    }
+    /**
+     * @return {@code true} if each change is forced to the disk.
+     */
+    public boolean isForced() {
+        return forced;
+    }
+
+    /**
+     * @param segmentSize the bytes (default {@link #DEFAULT_SEGMENT}) of the segments created from now on.
+     */
+    public void setSegmentSize(int segmentSize) {
+        this.segmentSize = Math.max( HEADER + RECORD_HEADER, segmentSize);
+    }
+    /**
+     * @return the bytes of the segments.
+     */
+    public int getSegmentSize() {
+        return segmentSize;
+    }
+
+    /**
+     * @return the bytes appended since the last compaction.
+     */
+    public synchronized long getJournaled() {
+        return journaled;
+    }
+    /**
+     * @return the number of records appended to this journal.
+     */
+    public synchronized long getRecords() {
+        return records;
+    }
+    /**
+     * @return the number of compactions of this journal.
+     */
+    public synchronized long getCompactions() {
+        return compactions;
+    }
+    /**
+     * @return the directory of this journal.
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Stops journaling the changes of the ontology, and forces the current segment to the disk.
+     * The ontology can be {@link #load(String, String)}ed from the journal later, without the changes applied meanwhile.
+     */
+    public void close(){
+        ontology.getOWLManager().removeImpendingOntologyChangeListener( impending);
+        ontology.getOWLManager().removeOntologyChangeListener( listener);
+        setCompaction( 0, compactionThreshold);
+        synchronized ( this) {
+            if ( segment != null)
+                segment.force();
+            segment = null;
+        }
+        JOURNALS.remove( ontology, this);
+    }
+
+    @Override
+    public String toString() {
+        return "OntologyJournal{" + ontology.getReferenceName() + ", directory=" + directory + ", records=" + getRecords() +
+                ", journaled=" + getJournaled() + ", compactions=" + getCompactions() + "}";
+    }
+}
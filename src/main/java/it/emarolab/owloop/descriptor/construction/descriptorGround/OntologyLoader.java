@@ -0,0 +1,207 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.core.Axiom;
+import org.semanticweb.owlapi.reasoner.InferenceType;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class loads several ontologies in parallel, before that the descriptors are built.
+ * <p>
+ *     The descriptor constructors that are given a file path (e.g.: {@code new FullIndividualDesc( name, ontoName, filePath, iriPath)})
+ *     load the ontology lazily, when the first descriptor is built. Therefore, the ontologies are loaded one
+ *     after the other, and the first readings also pay for the initialisation of the reasoner.
+ *     Instead, this class loads all the {@link #add(String, String, String)}ed ontologies on a pool of threads,
+ *     with aMOR and the Pellet reasoner, and it registers them in the
+ *     {@link OWLReferencesInterface.OWLReferencesContainer}. Then, the descriptors can be built with
+ *     the name of the ontology (e.g.: {@code new FullIndividualDesc( name, ontoName)}) or with the
+ *     returned {@link OWLReferences}. An ontology with a name that is already in the container is not loaded again.
+ * </p>
+ * <p>
+ *     If {@link #isPrewarm()} (default), the reasoner of each ontology is also synchronised (see {@link OntologyRevision#reason()})
+ *     and it precomputes the classification and the realisation, which are required by most of the inferences
+ *     queried by the descriptors. This is done while holding the write {@link OntologyLock} of the ontology.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyLoader <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologyLoader {
+
+    /**
+     * The inferences precomputed by the reasoner when {@link #isPrewarm()}.
+     */
+    public static final InferenceType[] PREWARM_INFERENCES = {
+            InferenceType.CLASS_HIERARCHY, InferenceType.CLASS_ASSERTIONS,
+            InferenceType.OBJECT_PROPERTY_HIERARCHY, InferenceType.DATA_PROPERTY_HIERARCHY
+    };
+
+    private static final AtomicInteger POOLS = new AtomicInteger();
+
+    // the ontologies to load, by name
+    private final Map<String, Source> sources = new LinkedHashMap<>();
+    private final int threads;
+    private boolean prewarm = true;
+
+    /**
+     * Creates a loader that uses a thread for each available processor.
+     */
+    public OntologyLoader() {
+        this( Runtime.getRuntime().availableProcessors());
+    }
+    /**
+     * @param threads the maximum number of ontologies loaded at the same time.
+     */
+    public OntologyLoader(int threads) {
+        this.threads = Math.max( 1, threads);
+    }
+
+    /**
+     * Adds an ontology to be loaded without buffering the changes.
+     * @param ontoName the name of the ontology in the {@link OWLReferencesInterface.OWLReferencesContainer}.
+     * @param filePath the path to the ontology file.
+     * @param iriPath the IRI of the ontology.
+     * @return this loader.
+     */
+    public OntologyLoader add(String ontoName, String filePath, String iriPath){
+        return add( ontoName, filePath, iriPath, false);
+    }
+    /**
+     * Adds an ontology to be loaded. If another ontology with the same name has already been added, it is replaced.
+     * @param ontoName the name of the ontology in the {@link OWLReferencesInterface.OWLReferencesContainer}.
+     * @param filePath the path to the ontology file.
+     * @param iriPath the IRI of the ontology.
+     * @param bufferingChanges {@code true} if the aMOR manipulator should buffer the changes.
+     * @return this loader.
+     */
+    public OntologyLoader add(String ontoName, String filePath, String iriPath, boolean bufferingChanges){
+        if ( sources.put( ontoName, new Source( ontoName, filePath, iriPath, bufferingChanges)) != null)
+            System.err.println( "\tOntology " + ontoName + " added twice, only the last one is loaded.");
+        return this;
+    }
+
+    /**
+     * @param prewarm {@code true} (default) to synchronise the reasoner of the loaded ontologies, and to
+     *                precompute their {@link #PREWARM_INFERENCES}.
+     * @return this loader.
+     */
+    public OntologyLoader setPrewarm(boolean prewarm) {
+        this.prewarm = prewarm;
+        return this;
+    }
+    /**
+     * @return {@code true} if the reasoners of the loaded ontologies are prewarmed.
+     */
+    public boolean isPrewarm() {
+        return prewarm;
+    }
+
+    /**
+     * @return the maximum number of ontologies loaded at the same time.
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Loads all the added ontologies in parallel and waits for them.
+     * If an ontology cannot be loaded, the exception is printed and the other ontologies are loaded anyway.
+     * @return the loaded ontologies by name (in the order they have been added),
+     * an ontology is {@code null} if it could not be loaded.
+     */
+    public Map<String, OWLReferences> load(){
+        Map<String, OWLReferences> loaded = new LinkedHashMap<>();
+        if ( sources.isEmpty())
+            return loaded;
+        Axiom.Descriptor.OntologyReference.activateAMORlogging( false); // as the descriptor constructors
+        long start = System.nanoTime();
+        int poolId = POOLS.incrementAndGet();
+        AtomicInteger threadId = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool( Math.min( threads, sources.size()), r -> {
+            Thread t = new Thread( r, "owloop-loader-" + poolId + "-" + threadId.incrementAndGet());
+            t.setDaemon( true);
+            return t;
+        });
+        try {
+            Map<String, Future<OWLReferences>> futures = new LinkedHashMap<>();
+            for ( Source s : sources.values())
+                futures.put( s.ontoName, executor.submit( () -> load( s)));
+            for ( Map.Entry<String, Future<OWLReferences>> e : futures.entrySet()) {
+                OWLReferences ontology = null;
+                try {
+                    ontology = e.getValue().get();
+                } catch ( ExecutionException ex) {
+                    ex.getCause().printStackTrace();
+                } catch ( InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                loaded.put( e.getKey(), ontology);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        System.out.println( "\t" + loaded.size() + " ontological representations loaded in " +
+                ( System.nanoTime() - start) / 1000000 + " [ms]");
+        return loaded;
+    }
+
+    // loads, registers and prewarms an ontology, it is called by the pool.
+    private OWLReferences load(Source s){
+        OWLReferences ontology;
+        OWLReferencesInterface existing = OWLReferencesInterface.OWLReferencesContainer.getOWLReferences( s.ontoName);
+        if ( existing != null) {
+            ontology = (OWLReferences) existing;
+            System.out.println( "\tontological representation already in container with name: " + s.ontoName);
+        } else {
+            long start = System.nanoTime();
+            ontology = OWLReferencesInterface.OWLReferencesContainer.
+                    newOWLReferenceFromFileWithPellet( s.ontoName, s.filePath, s.iriPath, s.bufferingChanges);
+            System.out.println( "\tontological representation loaded from: " + s.filePath + " in " +
+                    ( System.nanoTime() - start) / 1000000 + " [ms]");
+        }
+        if ( prewarm)
+            prewarm( ontology);
+        return ontology;
+    }
+
+    /**
+     * Synchronises the reasoner of an ontology and precomputes its {@link #PREWARM_INFERENCES},
+     * while holding the write {@link OntologyLock}.
+     * @param ontology the ontology to prewarm.
+     */
+    public static void prewarm(OWLReferences ontology){
+        long start = System.nanoTime();
+        OntologyRevision.of( ontology).reason();
+        OntologyLock.of( ontology).write( () -> ontology.getOWLReasoner().precomputeInferences( PREWARM_INFERENCES));
+        System.out.println( "\treasoner of " + ontology.getReferenceName() + " prewarmed in " +
+                ( System.nanoTime() - start) / 1000000 + " [ms]");
+    }
+
+    @Override
+    public String toString() {
+        return "OntologyLoader{" + sources.keySet() + ", threads=" + threads + ", prewarm=" + prewarm + "}";
+    }
+
+    // an ontology to be loaded
+    private static class Source {
+        private final String ontoName, filePath, iriPath;
+        private final boolean bufferingChanges;
+
+        private Source(String ontoName, String filePath, String iriPath, boolean bufferingChanges) {
+            this.ontoName = ontoName;
+            this.filePath = filePath;
+            this.iriPath = iriPath;
+            this.bufferingChanges = bufferingChanges;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * This class coordinates the descriptors that access the same {@link OWLReferences} from different threads.
+ * <p>
+ *     There is only one lock for each ontology (see {@link #of(OWLReferences)}), and it is shared
+ *     by all the {@link DescriptorGroundInterface}s grounded on it.
+ *     The queries (i.e.: the {@code query...()} methods of the descriptor expressions)
+ *     are performed through {@link #read(Supplier)}, and they can run concurrently with each other.
+ *     The manipulations of the ontology (i.e.: the {@code writeAxioms()} methods of the descriptor expressions
+ *     and the reasoner synchronisation) are performed through {@link #write(Supplier)},
+ *     which waits for all the queries to finish and excludes all the other threads.
+ *     Since the lock is reentrant, a thread that is writing can also query the ontology.
+ *     Instead, a thread should never write while it is performing a query, and it should
+ *     not wait for other threads that query the ontology while it is writing.
+ * </p>
+ * <p>
+ *     Queries never run without locking on a live ontology, since aMOR and the reasoner are not safe while
+ *     the ontology is being manipulated. Only the data that is never modified once it is published (e.g.: the
+ *     arrays of an {@link InferenceIndex}) is read without locking: the stamp given by {@link #tryOptimisticRead()}
+ *     is validated through {@link #validate(long)} after reading, and the read lock is taken if a writing occurred
+ *     meanwhile. Also, the ontologies that are never written (i.e.: an {@link OntologySnapshot}) are
+ *     {@link #isOptimistic()}, and {@link #read(Supplier)} queries them without locking.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyLock <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologyLock {
+
+    // the locks of all the ontologies, there is at most one lock for each OWLReferences.
+    private static final OntologyRegistry.Entries<OntologyLock> LOCKS =
+            OntologyRegistry.register( OntologyLock.class, null);
+    // used for descriptors that are not grounded on an ontology yet.
+    private static final OntologyLock NO_ONTOLOGY = new OntologyLock();
+
+    /**
+     * Returns the lock associated to the given ontology, it is created the first time this method
+     * is called for an {@link OWLReferences}.
+     * @param ontology the ontology to be locked.
+     * @return the lock shared by all the descriptors grounded on the given ontology.
+     */
+    public static OntologyLock of(OWLReferences ontology){
+        if ( ontology == null)
+            return NO_ONTOLOGY;
+        return LOCKS.of( ontology, o -> new OntologyLock());
+    }
+
+    /**
+     * @return {@code true} if the current thread is manipulating an ontology, i.e.: if it
+     * holds the write lock of any {@link OntologyLock}.
+     */
+    public static boolean isWritingOnCurrentThread(){
+        if ( NO_ONTOLOGY.lock.isWriteLockedByCurrentThread())
+            return true;
+        for ( OntologyLock l : LOCKS.values())
+            if ( l.lock.isWriteLockedByCurrentThread())
+                return true;
+        return false;
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // incremented when a writing starts and ends, it is odd while writing.
+    private final AtomicLong writings = new AtomicLong();
+    private volatile boolean optimistic = false;
+
+    // use of(OWLReferences) instead.
+    private OntologyLock() {
+    }
+
+    /**
+     * Performs a query to the ontology, concurrently with other queries but not with manipulations.
+     * If {@link #isOptimistic()}, the query is performed without locking, since the ontology is never written.
+     * @param query the query to perform.
+     * @param <T> the type of the query result.
+     * @return the result of the query.
+     */
+    public <T> T read(Supplier<T> query){
+        if ( optimistic)
+            return query.get();
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a stamp to validate a reading performed without locking, through {@link #validate(long)}.
+     * It should only be used to read data that is never modified once it is published (e.g.: the arrays of
+     * an {@link InferenceIndex}), and never to query aMOR or the reasoner.
+     * @return a stamp describing the writings performed so far, or {@code 0} if
+     * a writing is actually in progress.
+     */
+    public long tryOptimisticRead(){
+        long stamp = writings.get();
+        if ( ( stamp & 1) != 0)
+            return 0;
+        return stamp + 2; // never 0
+    }
+
+    /**
+     * @param stamp the value returned by {@link #tryOptimisticRead()} before reading without locking.
+     * @return {@code true} if no writings occurred since the stamp was given.
+     */
+    public boolean validate(long stamp){
+        return stamp != 0 && writings.get() + 2 == stamp;
+    }
+
+    /**
+     * Manipulates the ontology, while no other threads are querying or manipulating it.
+     * @param manipulation the changes to perform.
+     * @param <T> the type of the manipulation result.
+     * @return the result of the manipulation.
+     */
+    public <T> T write(Supplier<T> manipulation){
+        lockWrite();
+        try {
+            return manipulation.get();
+        } finally {
+            unlockWrite();
+        }
+    }
+    /**
+     * Manipulates the ontology, while no other threads are querying or manipulating it.
+     * @param manipulation the changes to perform.
+     */
+    public void write(Runnable manipulation){
+        lockWrite();
+        try {
+            manipulation.run();
+        } finally {
+            unlockWrite();
+        }
+    }
+    private void lockWrite(){
+        lock.writeLock().lock();
+        if ( lock.getWriteHoldCount() == 1)
+            writings.incrementAndGet(); // odd: optimistic reads are invalid from now on
+    }
+    private void unlockWrite(){
+        if ( lock.getWriteHoldCount() == 1)
+            writings.incrementAndGet(); // even: optimistic reads can start again
+        lock.writeLock().unlock();
+    }
+
+    /**
+     * It is only enabled for the ontologies that are never written after being created, i.e.: {@link OntologySnapshot}s.
+     * @param optimistic {@code true} to perform queries without locking when {@link #read(Supplier)} is called.
+     *                   {@code false} (default) to always lock.
+     */
+    void setOptimistic(boolean optimistic) {
+        this.optimistic = optimistic;
+    }
+    /**
+     * @return {@code true} if queries are performed without locking, since the ontology is never written.
+     */
+    public boolean isOptimistic() {
+        return optimistic;
+    }
+
+    /**
+     * @return the underlying lock, e.g.: to check if it is hold by the current thread.
+     */
+    public ReentrantReadWriteLock getLock() {
+        return lock;
+    }
+
+    @Override
+    public String toString() {
+        return "OntologyLock{" + lock + "}";
+    }
+}
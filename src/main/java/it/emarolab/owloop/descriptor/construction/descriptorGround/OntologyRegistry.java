@@ -0,0 +1,127 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * This class collects all the objects that OWLOOP associates to an ontology, e.g.: its {@link OntologyLock},
+ * {@link OntologyRevision}, {@link InferenceIndex}, {@link ReasoningScheduler}, {@link OntologyWriter},
+ * {@link DescriptorObserver}, {@link OntologyJournal} and
+ * {@link it.emarolab.owloop.descriptor.construction.descriptorEntitySet.EntityDictionary}.
+ * <p>
+ *     Each type of objects is registered once (see {@link #register(Class, Consumer)}), and there is at most
+ *     one object of a type for each {@link OWLReferences}. Since the registry refers to the ontologies,
+ *     they are not garbage collected until {@link #release(OWLReferences)} is called, which removes
+ *     all the objects of an ontology and releases them (e.g.: by removing their change listeners
+ *     and stopping their threads).
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyRegistry <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public final class OntologyRegistry {
+
+    // all the types of objects associated to the ontologies, in registration order.
+    private static final List<Entries<?>> ENTRIES = new CopyOnWriteArrayList<>();
+
+    private OntologyRegistry() {
+    }
+
+    /**
+     * Registers a type of objects to be associated to the ontologies. It should be called
+     * once for each type, while initialising its class.
+     * @param type the type of the objects.
+     * @param release the function that releases an object when its ontology is released,
+     *                it can be {@code null} if there is nothing to release.
+     * @param <T> the type of the objects.
+     * @return the objects of the given type, for each ontology.
+     */
+    public static <T> Entries<T> register(Class<T> type, Consumer<? super T> release){
+        Entries<T> entries = new Entries<>( type, release);
+        ENTRIES.add( entries);
+        return entries;
+    }
+
+    /**
+     * Removes all the objects associated to the given ontology, and releases them.
+     * The asynchronous writings on the ontology (see {@link OntologyWriter}) are applied before.
+     * The objects created afterwards for the same ontology are new.
+     * @param ontology the ontology to release.
+     */
+    public static void release(OWLReferences ontology){
+        if ( ontology == null)
+            return;
+        OntologyWriter.flush( ontology); // the pending writings are applied (and journaled) before releasing
+        for ( Entries<?> e : ENTRIES)
+            e.release( ontology);
+    }
+
+    /**
+     * The objects of a type, at most one for each ontology (see {@link #register(Class, Consumer)}).
+     * @param <T> the type of the objects.
+     */
+    public static final class Entries<T> {
+
+        private final Class<T> type;
+        private final Consumer<? super T> release;
+        private final Map<OWLReferences, T> objects = new ConcurrentHashMap<>();
+
+        private Entries(Class<T> type, Consumer<? super T> release) {
+            this.type = type;
+            this.release = release;
+        }
+
+        /**
+         * @param ontology an ontology.
+         * @param create the function that creates the object of the given ontology, the first time it is required.
+         * @return the object associated to the given ontology.
+         */
+        public T of(OWLReferences ontology, Function<OWLReferences, ? extends T> create){
+            return objects.computeIfAbsent( ontology, create);
+        }
+        /**
+         * @param ontology an ontology.
+         * @return the object associated to the given ontology, {@code null} if it has not been created.
+         */
+        public T get(OWLReferences ontology){
+            return objects.get( ontology);
+        }
+        /**
+         * Removes the object associated to the given ontology, without releasing it.
+         * @param ontology an ontology.
+         * @param object the object to remove, nothing is removed if it is not associated to the ontology anymore.
+         * @return {@code true} if the object has been removed.
+         */
+        public boolean remove(OWLReferences ontology, T object){
+            return objects.remove( ontology, object);
+        }
+        /**
+         * @return the objects associated to all the ontologies.
+         */
+        public Iterable<T> values(){
+            return objects.values();
+        }
+
+        private void release(OWLReferences ontology){
+            T object = objects.remove( ontology);
+            if ( object != null && release != null)
+                release.accept( object);
+        }
+
+        @Override
+        public String toString() {
+            return "Entries{" + type.getSimpleName() + ", ontologies=" + objects.size() + "}";
+        }
+    }
+}
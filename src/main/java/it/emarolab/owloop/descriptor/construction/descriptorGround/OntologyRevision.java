@@ -0,0 +1,174 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.Metrics;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * This class tracks the changes of an ontology in order to avoid useless reasoning.
+ * <p>
+ *     There is only one revision for each ontology (see {@link #of(OWLReferences)}), and its
+ *     {@link #getRevision()} number increases every time that the ontology changes.
+ *     It is fed by the {@link Axiom.MappingIntent#getOntologyChanges()} generated by the descriptors
+ *     during {@link Axiom.Descriptor#writeAxioms()} (see {@link #changed(List)}), and by all the
+ *     {@link OWLOntologyChange}s applied to the ontology or to its imports closure, e.g.: directly through aMOR.
+ * </p>
+ * <p>
+ *     If {@link #isIncremental()} (default), {@link #reason()} first applies the changes that
+ *     are buffered in the aMOR manipulator, then it synchronises the reasoner only if the
+ *     ontology changed since the last synchronisation. Otherwise, it always synchronises the reasoner.
+ *     {@link DescriptorGroundInterface#reason()} relies on this class, therefore
+ *     {@link Axiom.Descriptor#writeAxiomsReasonReadAxioms()} does not reason if nothing has been written.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyRevision <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologyRevision {
+
+    // the revisions of all the ontologies, there is at most one revision for each OWLReferences.
+    private static final OntologyRegistry.Entries<OntologyRevision> REVISIONS =
+            OntologyRegistry.register( OntologyRevision.class, OntologyRevision::release);
+
+    /**
+     * Returns the revision associated to the given ontology, it is created the first time this method
+     * is called for an {@link OWLReferences}.
+     * @param ontology the ontology to be tracked.
+     * @return the revision shared by all the descriptors grounded on the given ontology.
+     */
+    public static OntologyRevision of(OWLReferences ontology){
+        return REVISIONS.of( ontology, OntologyRevision::new);
+    }
+
+    private final OWLReferences ontology;
+    private final AtomicLong revision = new AtomicLong();
+    private final OWLOntologyChangeListener listener;
+    private volatile long reasonedRevision = -1; // the first reasoning is never skipped
+    private volatile boolean incremental = true;
+
+    // use of(OWLReferences) instead.
+    private OntologyRevision(OWLReferences ontology) {
+        this.ontology = ontology;
+        OWLOntology owlOntology = ontology.getOWLOntology();
+        listener = changes -> {
+            Set<OWLOntology> closure = owlOntology.importsClosure().collect( Collectors.toSet()); // the reasoner also sees the imports
+            for ( OWLOntologyChange c : changes)
+                if ( closure.contains( c.getOntology()))
+                    revision.incrementAndGet();
+        };
+        ontology.getOWLManager().addOntologyChangeListener( listener);
+    }
+
+    // removes the change listener, when the ontology is released (see OntologyRegistry).
+    private void release(){
+        ontology.getOWLManager().removeOntologyChangeListener( listener);
+    }
+
+    /**
+     * @return a number that increases every time the ontology changes.
+     */
+    public long getRevision() {
+        return revision.get();
+    }
+
+    /**
+     * @return the {@link #getRevision()} at the last reasoner synchronisation,
+     * {@code -1} if the reasoner has not been synchronised through this object yet.
+     */
+    public long getReasonedRevision() {
+        return reasonedRevision;
+    }
+
+    /**
+     * @return {@code true} if the ontology changed since the last reasoner synchronisation.
+     */
+    public boolean isChanged(){
+        return revision.get() != reasonedRevision;
+    }
+
+    /**
+     * Updates the revision with the changes written by a descriptor.
+     * @param intents the results of {@link Axiom.Descriptor#writeAxioms()}.
+     */
+    public void changed(List<Axiom.MappingIntent> intents){
+        if ( intents == null)
+            return;
+        for ( Axiom.MappingIntent i : intents)
+            changed( i.getOntologyChanges());
+    }
+    /**
+     * Updates the revision with the changes written by a descriptor.
+     * @param changes the changes generated during {@link Axiom.Descriptor#writeAxioms()}
+     *                (e.g.: a list of {@link OWLOntologyChange}).
+     */
+    public void changed(Object changes){
+        if ( changes instanceof Collection) {
+            int size = ((Collection<?>) changes).size();
+            if ( size > 0)
+                revision.addAndGet( size);
+        }
+    }
+
+    /**
+     * Synchronises the reasoner, while holding the write {@link OntologyLock},
+     * after the pending asynchronous writings (see {@link OntologyWriter#flush(OWLReferences)}).
+     * If {@link #isIncremental()}, the buffered changes are applied first, and
+     * the reasoner is synchronised only if {@link #isChanged()}.
+     * Then, the {@link InferenceIndex} is updated, if it is enabled.
+     * @return {@code true} if the reasoner has been synchronised.
+     */
+    public boolean reason(){
+        OntologyWriter.flush( ontology); // asynchronous writings, if any
+        return OntologyLock.of( ontology).write( () -> {
+            if ( incremental) {
+                ontology.applyOWLManipulatorChanges(); // flush the buffered changes, if any
+                if ( ! isChanged()) {
+                    InferenceIndex.of( ontology).update( reasonedRevision); // e.g.: if it has just been enabled
+                    return false;
+                }
+            }
+            long start = System.nanoTime();
+            ontology.synchronizeReasoner();
+            if ( Metrics.isEnabled())
+                Metrics.get().record( Metrics.Phase.REASON, getClass().getSimpleName(), "synchronizeReasoner",
+                        ontology.getReferenceName(), System.nanoTime() - start);
+            reasonedRevision = revision.get();
+            InferenceIndex.of( ontology).update( reasonedRevision);
+            DescriptorObserver.reasoned( ontology);
+            return true;
+        });
+    }
+
+    /**
+     * @param incremental {@code true} (default) to skip reasoning if the ontology did not change,
+     *                    {@code false} to always synchronise the reasoner.
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+    /**
+     * @return {@code true} if reasoning is skipped when the ontology did not change.
+     */
+    public boolean isIncremental() {
+        return incremental;
+    }
+
+    @Override
+    public String toString() {
+        return "OntologyRevision{" + ontology.getReferenceName() + ", revision=" + revision + ", reasoned=" + reasonedRevision + "}";
+    }
+}
@@ -0,0 +1,194 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import org.semanticweb.owlapi.model.ImpendingOWLOntologyChangeListener;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyChangeVetoException;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.util.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class is a read-only copy of an ontology at a given {@link OntologyRevision}.
+ * <p>
+ *     A snapshot is taken with {@link #take(OWLReferences)}, which copies all the asserted axioms of
+ *     the ontology, as well as the axioms inferred by its reasoner (i.e.: class and property assertions,
+ *     and the hierarchies of classes and properties), into a new {@link OWLReferences}.
+ *     Then, any change to the snapshot is vetoed. Therefore, the descriptors bound to the snapshot
+ *     (see {@link #bind(DescriptorGround)}) always read the same axioms, e.g.: while
+ *     walking a hierarchy through their {@code build...()} methods, even if other threads are writing
+ *     on the live ontology in the meanwhile. Moreover, the queries to the snapshot never contend
+ *     the {@link OntologyLock} of the live ontology, and they are performed optimistically
+ *     (see {@link OntologyLock#isOptimistic()}), i.e.: without locking since nothing is written.
+ * </p>
+ * <p>
+ *     Taking a snapshot requires to materialise all the inferences, and it holds the write
+ *     {@link OntologyLock} of the live ontology meanwhile, while the copy is built after having released it.
+ *     Since the inferences are copied, the snapshot is queried without inferences
+ *     (see {@link OWLReferences#setOWLEnquirerIncludesInferences(Boolean)}), and its reasoner is not synchronised.
+ *     A snapshot should be taken once
+ *     for a long-running reader (or a set of readers), and {@link #dispose()}d when it is no longer needed.
+ *     {@link #isStale()} tells if the live ontology changed since the snapshot was taken.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologySnapshot <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologySnapshot {
+
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+    /**
+     * Takes a snapshot of the given ontology, after applying its pending asynchronous writings
+     * (see {@link OntologyWriter}) and synchronising its reasoner (see {@link OntologyRevision#reason()}).
+     * @param live the ontology to copy.
+     * @return a read-only copy of the asserted and inferred axioms of the ontology.
+     */
+    public static OntologySnapshot take(OWLReferences live){
+        OntologyWriter.flush( live);
+        AtomicLong revision = new AtomicLong();
+        Set<OWLAxiom> axioms = OntologyLock.of( live).write( () -> {
+            OntologyRevision r = OntologyRevision.of( live);
+            r.reason(); // reentrant
+            revision.set( r.getRevision());
+            return materialise( live);
+        });
+        return new OntologySnapshot( live, revision.get(), axioms); // the live ontology is not locked
+    }
+    // a snapshot with the given asserted and inferred axioms of the live ontology, it is used by OntologyImage
+    static OntologySnapshot of(OWLReferences live, Set<OWLAxiom> axioms){
+        return new OntologySnapshot( live, OntologyRevision.of( live).getRevision(), axioms);
+    }
+
+    private final OWLReferences live;
+    private final long revision;
+    private final OWLReferences ontology;
+    private final ImpendingOWLOntologyChangeListener veto;
+    private volatile boolean sealed = false;
+
+    // use take(OWLReferences) instead.
+    private OntologySnapshot(OWLReferences live, long revision, Set<OWLAxiom> axioms) {
+        this.live = live;
+        this.revision = revision;
+        this.ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                live.getReferenceName() + "@snapshot" + COUNTER.getAndIncrement(), // it is unique
+                live.getFilePath(), live.getOntologyPath(), true);
+        ontology.setOWLEnquirerIncludesInferences( false); // they are materialised
+        veto = changes -> {
+            if ( sealed && ! changes.isEmpty())
+                throw new OWLOntologyChangeVetoException( changes.get( 0).getChangeData(),
+                        "The ontology snapshot " + ontology.getReferenceName() + " is read-only.");
+        };
+        ontology.getOWLManager().addImpendingOntologyChangeListener( veto);
+        ontology.getOWLManager().addAxioms( ontology.getOWLOntology(), axioms.stream());
+        OntologyLock.of( ontology).setOptimistic( true); // nothing is written from now on
+        sealed = true;
+    }
+
+    // the asserted axioms of the given ontology and of its imports, it is also used by OntologyImage
+    static Set<OWLAxiom> assertions(OWLReferences live){
+        Set<OWLAxiom> axioms = new HashSet<>();
+        live.getOWLOntology().importsClosure().forEach( o -> o.axioms().forEach( axioms::add));
+        return axioms;
+    }
+    // the asserted and the inferred axioms of the given ontology
+    static Set<OWLAxiom> materialise(OWLReferences live){
+        Set<OWLAxiom> axioms = assertions( live);
+        axioms.addAll( inferences( live));
+        return axioms;
+    }
+    // the axioms inferred by the reasoner of the given ontology (including some assertions), it is also used by OntologyImage
+    static Set<OWLAxiom> inferences(OWLReferences live){
+        Set<OWLAxiom> axioms = new HashSet<>();
+        List<InferredAxiomGenerator<? extends OWLAxiom>> generators = Arrays.asList(
+                new InferredClassAssertionAxiomGenerator(), new InferredPropertyAssertionGenerator(),
+                new InferredSubClassAxiomGenerator(), new InferredEquivalentClassAxiomGenerator(),
+                new InferredSubObjectPropertyAxiomGenerator(), new InferredSubDataPropertyAxiomGenerator());
+        synchronized ( live) { // as aMOR does, the reasoner is not used concurrently
+            OWLReasoner reasoner = live.getOWLReasoner();
+            for ( InferredAxiomGenerator<? extends OWLAxiom> g : generators)
+                axioms.addAll( g.createAxioms( live.getOWLFactory(), reasoner));
+        }
+        return axioms;
+    }
+
+    /**
+     * Grounds the given descriptor on this snapshot (with the same instance),
+     * its following readings and built descriptors are consistent with {@link #getRevision()}.
+     * Note that the changes to the snapshot are vetoed, thus writing the descriptor throws an
+     * {@link OWLOntologyChangeVetoException} (or, for the expressions that catch their failures, it prints the exception
+     * and returns a {@link it.emarolab.owloop.core.Axiom.MappingIntent} whose {@code errorOccur()} is {@code true}).
+     * Since the changes to a snapshot are never collected (see {@link OntologyLock#isOptimistic()}),
+     * a vetoed writing does not affect the following ones.
+     * @param descriptor the descriptor to bind.
+     * @param <D> the type of descriptor.
+     * @return the given descriptor, for chaining.
+     */
+    public <D extends DescriptorGround<?>> D bind(D descriptor){
+        descriptor.setGroundOntology( ontology);
+        return descriptor;
+    }
+    /**
+     * Grounds the given descriptor (with the same instance) back on the live ontology.
+     * @param descriptor the descriptor to release from this snapshot.
+     * @param <D> the type of descriptor.
+     * @return the given descriptor, for chaining.
+     */
+    public <D extends DescriptorGround<?>> D release(D descriptor){
+        descriptor.setGroundOntology( live);
+        return descriptor;
+    }
+
+    /**
+     * @return the ontology from which the snapshot has been taken.
+     */
+    public OWLReferences getLive() {
+        return live;
+    }
+    /**
+     * @return the read-only ontology of this snapshot.
+     */
+    public OWLReferences getOntology() {
+        return ontology;
+    }
+    /**
+     * @return the {@link OntologyRevision#getRevision()} of the live ontology when the snapshot has been taken.
+     */
+    public long getRevision() {
+        return revision;
+    }
+    /**
+     * @return {@code true} if the live ontology changed since the snapshot has been taken.
+     */
+    public boolean isStale(){
+        return OntologyRevision.of( live).getRevision() != revision;
+    }
+
+    /**
+     * Releases the reasoner of this snapshot and removes it from the aMOR container.
+     * Also, it releases all the objects associated to the snapshot (see {@link OntologyRegistry#release(OWLReferences)}).
+     * Descriptors bound to the snapshot should not be used anymore.
+     */
+    public void dispose(){
+        ontology.getOWLManager().removeImpendingOntologyChangeListener( veto);
+        OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontology);
+        ontology.getOWLReasoner().dispose();
+        OntologyRegistry.release( ontology);
+    }
+
+    @Override
+    public String toString() {
+        return "OntologySnapshot{" + ontology.getReferenceName() + ", revision=" + revision + ", stale=" + isStale() + "}";
+    }
+}
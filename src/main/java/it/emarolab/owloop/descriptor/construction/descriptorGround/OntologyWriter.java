@@ -0,0 +1,271 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ChangeCoalescing;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.CollectedWriting;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * This class writes descriptors asynchronously, on a thread dedicated to an ontology.
+ * <p>
+ *     There is only one writer for each ontology (see {@link #of(OWLReferences)}), and its thread
+ *     is started the first time that something is written through {@link #write(Supplier)}.
+ *     The writings are performed in the same order in which they have been enqueued.
+ *     All the writings that are enqueued while the writer is busy are coalesced, i.e.: their changes
+ *     are applied to the ontology together (see {@link CollectedWriting#collectAxioms(OWLReferences, List)}),
+ *     and a descriptor enqueued several times is written only once (see {@link ChangeCoalescing}).
+ *     Since a descriptor computes its changes by querying the ontology, the changes of different descriptors
+ *     with the same ground are not applied together.
+ *     {@link #flush()} waits for all the enqueued writings to be applied, and it
+ *     should be called before reading something that has been written asynchronously.
+ *     {@link OntologyRevision#reason()} flushes the writer (if any) before synchronising the reasoner.
+ * </p>
+ * <p>
+ *     Note that the state of a descriptor is copied when it is enqueued (see {@link DescriptorGround#copyState()}),
+ *     thus it can be changed right after, and the writer thread never synchronises on it.
+ *     If a writing fails, its future is completed exceptionally, and the writer keeps performing the others.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyWriter <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologyWriter {
+
+    // the writers of all the ontologies, there is at most one writer for each OWLReferences.
+    private static final OntologyRegistry.Entries<OntologyWriter> WRITERS =
+            OntologyRegistry.register( OntologyWriter.class, OntologyWriter::release);
+
+    /**
+     * Returns the writer associated to the given ontology, it is created the first time this method
+     * is called for an {@link OWLReferences}.
+     * @param ontology the ontology to be written.
+     * @return the writer shared by all the descriptors grounded on the given ontology.
+     */
+    public static OntologyWriter of(OWLReferences ontology){
+        return WRITERS.of( ontology, OntologyWriter::new);
+    }
+
+    /**
+     * Waits for the asynchronous writings on the given ontology, if a writer has been created for it.
+     * It does nothing if called by the writer thread, or while holding the write {@link OntologyLock}.
+     * @param ontology the ontology to flush.
+     */
+    public static void flush(OWLReferences ontology){
+        if ( ontology == null)
+            return;
+        OntologyWriter writer = WRITERS.get( ontology);
+        if ( writer != null && ! OntologyLock.of( ontology).getLock().isWriteLockedByCurrentThread())
+            writer.flush();
+    }
+
+    private final OWLReferences ontology;
+    private final BlockingQueue<Writing> queue = new LinkedBlockingQueue<>();
+    private volatile Thread thread = null;
+    private long batches = 0, writings = 0;
+
+    // use of(OWLReferences) instead.
+    private OntologyWriter(OWLReferences ontology) {
+        this.ontology = ontology;
+    }
+
+    /**
+     * Enqueues a writing to be performed on the writer thread.
+     * @param writing the writing to perform, e.g.: {@code descriptor::writeAxioms}.
+     * @return the future changes made in the ontology.
+     */
+    @SuppressWarnings("rawtypes")
+    public CompletableFuture<List<Axiom.MappingIntent>> write(Supplier<List<Axiom.MappingIntent>> writing){
+        return enqueue( new Writing( writing, null, null));
+    }
+    /**
+     * Enqueues the {@link DescriptorGround#writeAxioms()} of a descriptor to be performed on the writer thread.
+     * The state of the descriptor is copied on the calling thread.
+     * If the same descriptor is enqueued several times while the writer is busy, it is written only once,
+     * with the state copied by its last enqueueing.
+     * @param descriptor the descriptor to write.
+     * @return the future changes made in the ontology.
+     */
+    public CompletableFuture<List<Axiom.MappingIntent>> write(DescriptorGround<?> descriptor){
+        DescriptorGround<?> state = descriptor.copyState();
+        return enqueue( new Writing( state::writeAxioms, descriptor, state));
+    }
+    private CompletableFuture<List<Axiom.MappingIntent>> enqueue(Writing w){
+        queue.add( w);
+        start(); // after adding, since a terminating writer thread restarts if the queue is not empty
+        return w.future;
+    }
+
+    /**
+     * Waits for all the writings enqueued so far to be applied to the ontology.
+     * It does nothing if called by the writer thread.
+     * @throws IllegalStateException if it is interrupted while waiting (its interrupt flag is restored).
+     * The failure of the writer thread (if any) is propagated as it is if unchecked,
+     * otherwise it is wrapped in an {@link IllegalStateException}.
+     */
+    public void flush(){
+        if ( Thread.currentThread() == thread)
+            return;
+        try {
+            write( ArrayList::new).get();
+        } catch ( InterruptedException e){
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( "Interrupted while waiting for the writings on '" +
+                    ontology.getReferenceName() + "' to be applied.", e);
+        } catch ( ExecutionException e){
+            Throwable cause = e.getCause();
+            if ( cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if ( cause instanceof Error)
+                throw (Error) cause;
+            throw new IllegalStateException( cause);
+        }
+    }
+
+    /**
+     * @return the number of writings that are waiting to be performed.
+     */
+    public int getPending(){
+        return queue.size();
+    }
+    /**
+     * @return the number of times that the changes of some coalesced writings have been applied together.
+     */
+    public synchronized long getBatches() {
+        return batches;
+    }
+    /**
+     * @return the number of writings performed so far (including the ones used by {@link #flush()}).
+     */
+    public synchronized long getWritings() {
+        return writings;
+    }
+
+    private synchronized void start(){
+        if ( thread != null)
+            return;
+        thread = new Thread( this::run, "owloop-writer-" + ontology.getReferenceName());
+        thread.setDaemon( true);
+        thread.start();
+    }
+    private synchronized void stopped(){
+        thread = null;
+    }
+    // stops the writer thread, when the ontology is released (see OntologyRegistry).
+    private synchronized void release(){
+        if ( thread != null)
+            thread.interrupt();
+    }
+
+    private void run(){
+        List<Writing> batch = new ArrayList<>();
+        try {
+            while ( true) {
+                batch.add( queue.take());
+                queue.drainTo( batch); // coalesce all the writings enqueued so far
+                write( batch);
+                batch.clear();
+            }
+        } catch ( InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch ( Throwable t) {
+            for ( Writing w : batch)
+                w.completeExceptionally( t); // it does nothing on the writings already completed
+        } finally {
+            stopped();
+            if ( ! queue.isEmpty())
+                start(); // the writings enqueued meanwhile
+        }
+    }
+    private void write(List<Writing> batch){
+        synchronized ( this) {
+            writings += batch.size();
+        }
+        // the same descriptor is written only once, with the futures of its redundant writings
+        List<Writing> coalesced = ChangeCoalescing.coalesce( batch, w -> w.descriptor,
+                ( eliminated, performed) -> performed.merged.add( eliminated.future));
+        // a descriptor reads the ontology to compute its changes, thus descriptors with the same ground
+        // cannot be collected together
+        List<Writing> segment = new ArrayList<>();
+        Set<Object> grounds = new HashSet<>();
+        for ( Writing w : coalesced) {
+            if ( w.state != null && ! grounds.add( w.state.getGround().copyGround())) {
+                collect( segment);
+                segment.clear();
+                grounds.clear();
+                grounds.add( w.state.getGround().copyGround());
+            }
+            segment.add( w);
+        }
+        collect( segment);
+    }
+    private void collect(List<Writing> segment){
+        try {
+            CollectedWriting.collectAxioms( ontology, segment);
+            for ( Writing w : segment)
+                w.complete();
+        } catch ( Throwable t){
+            for ( Writing w : segment)
+                w.completeExceptionally( t);
+        }
+        synchronized ( this) {
+            batches++;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OntologyWriter{" + ontology.getReferenceName() + ", pending=" + getPending() + ", batches=" + getBatches() +
+                ", writings=" + getWritings() + "}";
+    }
+
+    // a writing that keeps its result until the changes are applied to the ontology.
+    private static class Writing implements Supplier<List<Axiom.MappingIntent>> {
+        private final Supplier<List<Axiom.MappingIntent>> writing;
+        private final DescriptorGround<?> descriptor; // the enqueued descriptor, null if it is not a descriptor
+        private final DescriptorGround<?> state; // the copy of the descriptor that is written
+        private final CompletableFuture<List<Axiom.MappingIntent>> future = new CompletableFuture<>();
+        private final List<CompletableFuture<List<Axiom.MappingIntent>>> merged = new ArrayList<>();
+        private List<Axiom.MappingIntent> result = new ArrayList<>();
+        private Throwable error;
+
+        private Writing(Supplier<List<Axiom.MappingIntent>> writing, DescriptorGround<?> descriptor, DescriptorGround<?> state) {
+            this.writing = writing;
+            this.descriptor = descriptor;
+            this.state = state;
+        }
+
+        @Override
+        public List<Axiom.MappingIntent> get() {
+            try {
+                result = writing.get();
+            } catch ( Throwable t){
+                error = t; // it does not affect the other writings
+            }
+            return result;
+        }
+
+        private void complete(){
+            if ( error != null)
+                completeExceptionally( error);
+            else {
+                future.complete( result);
+                for ( CompletableFuture<List<Axiom.MappingIntent>> f : merged)
+                    f.complete( result);
+            }
+        }
+        private void completeExceptionally(Throwable t){
+            future.completeExceptionally( t);
+            for ( CompletableFuture<List<Axiom.MappingIntent>> f : merged)
+                f.completeExceptionally( t);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * This class debounces the reasoner synchronisations requested by different threads.
+ * <p>
+ *     There is only one scheduler for each ontology (see {@link #of(OWLReferences)}).
+ *     When it is enabled (see {@link #setEnabled(boolean)}), {@link DescriptorGroundInterface#reason()}
+ *     and {@link DescriptorGroundInterface.GroundInstance#reason()} do not synchronise the reasoner directly,
+ *     but they {@link #request()} a synchronisation and wait for it.
+ *     All the requests received within {@link #getWindow()} milliseconds from the first one are
+ *     served by a single {@link OntologyRevision#reason()}, which is performed on a thread dedicated
+ *     to the ontology. Therefore, there is at most one synchronisation in-flight, and the requests
+ *     received while it is running are served by the following one.
+ * </p>
+ * <p>
+ *     If a thread requests a synchronisation while holding the write {@link OntologyLock},
+ *     the reasoner is synchronised directly, since the scheduler could not acquire the lock.
+ *     Instead, a thread that only holds the read lock (i.e.: while querying) cannot synchronise the reasoner at all,
+ *     since the read lock cannot be upgraded, and it gets an {@link IllegalStateException}.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.ReasoningScheduler <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ReasoningScheduler {
+
+    public static final long DEFAULT_WINDOW = 10; // milliseconds
+
+    // the schedulers of all the ontologies, there is at most one scheduler for each OWLReferences.
+    private static final OntologyRegistry.Entries<ReasoningScheduler> SCHEDULERS =
+            OntologyRegistry.register( ReasoningScheduler.class, ReasoningScheduler::shutdown);
+
+    /**
+     * Returns the scheduler associated to the given ontology, it is created the first time this method
+     * is called for an {@link OWLReferences}.
+     * @param ontology the ontology to be reasoned.
+     * @return the scheduler shared by all the descriptors grounded on the given ontology.
+     */
+    public static ReasoningScheduler of(OWLReferences ontology){
+        return SCHEDULERS.of( ontology, ReasoningScheduler::new);
+    }
+
+    private final OWLReferences ontology;
+    private volatile boolean enabled = false;
+    private volatile long window = DEFAULT_WINDOW;
+    private ScheduledExecutorService executor = null;
+    private List<CompletableFuture<Boolean>> pending = new ArrayList<>();
+    private boolean scheduled = false;
+    private long requests = 0, synchronisations = 0;
+
+    // use of(OWLReferences) instead.
+    private ReasoningScheduler(OWLReferences ontology) {
+        this.ontology = ontology;
+    }
+
+    /**
+     * Synchronises the reasoner through this scheduler if {@link #isEnabled()}, otherwise directly.
+     * In both cases, it returns when the reasoner has been synchronised, and
+     * it throws the same exceptions of {@link OntologyRevision#reason()}.
+     * @throws IllegalStateException if the current thread holds only the read {@link OntologyLock} (it would
+     * wait forever for the write lock), or if it is interrupted while waiting (its interrupt flag is restored).
+     */
+    public void reason(){
+        ReentrantReadWriteLock lock = OntologyLock.of( ontology).getLock();
+        if ( lock.getReadHoldCount() > 0 && ! lock.isWriteLockedByCurrentThread())
+            throw new IllegalStateException( "The reasoner of '" + ontology.getReferenceName() +
+                    "' cannot be synchronised while querying the ontology on the same thread.");
+        if ( ! enabled || lock.isWriteLockedByCurrentThread())
+            OntologyRevision.of( ontology).reason();
+        else {
+            try {
+                request().get();
+            } catch ( InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException( "Interrupted while waiting for the reasoner of '" +
+                        ontology.getReferenceName() + "' to be synchronised.", e);
+            } catch ( ExecutionException e) {
+                Throwable cause = e.getCause();
+                if ( cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                if ( cause instanceof Error)
+                    throw (Error) cause;
+                throw new IllegalStateException( cause);
+            }
+        }
+    }
+
+    /**
+     * Requests a synchronisation of the reasoner, which is performed within {@link #getWindow()} milliseconds
+     * (or after the synchronisation that is running, if any).
+     * @return a future that completes when the reasoner has been synchronised, with {@code true}
+     * if it has been actually synchronised, {@code false} if nothing changed in the ontology
+     * (see {@link OntologyRevision#reason()}).
+     */
+    public synchronized CompletableFuture<Boolean> request(){
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
+        pending.add( future);
+        requests++;
+        if ( ! scheduled) {
+            scheduled = true;
+            if ( executor == null)
+                executor = Executors.newSingleThreadScheduledExecutor( r -> {
+                    Thread t = new Thread( r, "owloop-reasoner-" + ontology.getReferenceName());
+                    t.setDaemon( true);
+                    return t;
+                });
+            executor.schedule( this::synchronise, window, TimeUnit.MILLISECONDS);
+        }
+        return future;
+    }
+
+    // it runs on the executor, thus there is at most one synchronisation in-flight.
+    private void synchronise(){
+        List<CompletableFuture<Boolean>> served;
+        synchronized ( this) {
+            served = pending;
+            pending = new ArrayList<>();
+            scheduled = false; // new requests schedule the next synchronisation
+            synchronisations++;
+        }
+        try {
+            boolean reasoned = OntologyRevision.of( ontology).reason();
+            for ( CompletableFuture<Boolean> f : served)
+                f.complete( reasoned);
+        } catch ( Throwable t){
+            for ( CompletableFuture<Boolean> f : served)
+                f.completeExceptionally( t);
+        }
+    }
+
+    // stops the thread of this scheduler, the pending requests are cancelled.
+    private synchronized void shutdown(){
+        if ( executor != null)
+            executor.shutdownNow();
+        executor = null;
+        scheduled = false;
+        for ( CompletableFuture<Boolean> f : pending)
+            f.cancel( false);
+        pending = new ArrayList<>();
+    }
+
+    /**
+     * @param enabled {@code true} to debounce the synchronisations of the reasoner,
+     *                {@code false} (default) to synchronise the reasoner every time it is requested.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    /**
+     * @return {@code true} if the synchronisations of the reasoner are debounced.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param window the milliseconds (default {@link #DEFAULT_WINDOW}) to wait for other requests,
+     *               before synchronising the reasoner.
+     */
+    public void setWindow(long window) {
+        this.window = Math.max( 0, window);
+    }
+    /**
+     * @return the milliseconds to wait for other requests, before synchronising the reasoner.
+     */
+    public long getWindow() {
+        return window;
+    }
+
+    /**
+     * @return the number of requests waiting for a synchronisation of the reasoner to start.
+     */
+    public synchronized int getQueueDepth(){
+        return pending.size();
+    }
+    /**
+     * @return the number of synchronisations requested through this scheduler.
+     */
+    public synchronized long getRequests() {
+        return requests;
+    }
+    /**
+     * @return the number of synchronisations performed by this scheduler.
+     */
+    public synchronized long getSynchronisations() {
+        return synchronisations;
+    }
+    /**
+     * @return the average number of requests served by a synchronisation, {@code 0} if none has been performed.
+     */
+    public synchronized double getCoalescingRatio(){
+        if ( synchronisations == 0)
+            return 0;
+        return (double) ( requests - pending.size()) / synchronisations;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ReasoningScheduler{" + ontology.getReferenceName() + ", enabled=" + enabled + ", window=" + window +
+                "ms, queue=" + pending.size() + ", requests=" + requests + ", synchronisations=" + synchronisations + "}";
+    }
+}
@@ -0,0 +1,162 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.owloop.core.Axiom;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * This class removes the redundant writings and changes that have been collected before being applied to the ontology.
+ * <p>
+ *     When some writings are collected (e.g.: by the {@link it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyWriter}),
+ *     the same descriptor might be enqueued several times before being written (e.g.: when a descriptor toggles an
+ *     assertion across several asynchronous writings). Since a descriptor computes its changes with respect
+ *     to the ontology, only its last writing affects the ontology. Thus, {@link #coalesce(List, Function, BiConsumer)}
+ *     keeps only the last writing of each descriptor, and the changes of the others are never computed.
+ * </p>
+ * <p>
+ *     Then, the changes of the writings collected together (see {@link CollectedWriting}) might still concern
+ *     the same axiom several times (e.g.: an assertion added by a descriptor and removed by another one).
+ *     Since only the last change of an axiom affects the ontology, {@link #coalesce(List, Set)} keeps
+ *     only the last change of each axiom, and it also removes it if it would not change the ontology
+ *     (e.g.: adding an axiom that is already there). Changes that do not concern axioms
+ *     (e.g.: annotations of the ontology) are always kept.
+ *     The number of changes eliminated for each writing is given by {@link Axiom.MappingIntent#getEliminatedChanges()}.
+ * </p>
+ * <p>
+ *     By default coalescing is enabled, but it only applies to collected writings, i.e.: if
+ *     {@link CollectedWriting#isCollected()}, within a {@link DescriptorBatch}, or if descriptors are written asynchronously.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ChangeCoalescing <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ChangeCoalescing {
+
+    private static volatile boolean coalescing = true;
+    private static final AtomicLong ELIMINATED = new AtomicLong();
+    private static final AtomicLong ELIMINATED_CHANGES = new AtomicLong();
+
+    private ChangeCoalescing() {} // not instantiable
+
+    /**
+     * @param coalescing {@code true} (default) to remove redundant writings and changes before performing them,
+     *                   {@code false} to perform all the collected writings and to apply all their changes.
+     */
+    public static void setCoalescing(boolean coalescing) {
+        ChangeCoalescing.coalescing = coalescing;
+    }
+    /**
+     * @return {@code true} if redundant writings and changes are removed before being performed.
+     */
+    public static boolean isCoalescing() {
+        return coalescing;
+    }
+    /**
+     * @return the number of writings eliminated so far, for all the ontologies.
+     */
+    public static long getEliminated() {
+        return ELIMINATED.get();
+    }
+    /**
+     * @return the number of changes eliminated so far, for all the ontologies.
+     */
+    public static long getEliminatedChanges() {
+        return ELIMINATED_CHANGES.get();
+    }
+
+    /**
+     * Removes the redundant writings from the given ones, which must not be performed yet.
+     * A writing is redundant if it is followed by another writing of the same descriptor,
+     * and there is no writing without a descriptor (e.g.: a flush) between them.
+     * If {@link #isCoalescing()} is {@code false}, it returns all the writings.
+     * @param writings the collected writings, in the order in which they should be performed. It is not modified.
+     * @param descriptor gives the descriptor written by a writing (identified by reference),
+     *                   {@code null} if the writing must not be reordered with respect to the others.
+     * @param eliminated called with each redundant writing and the last writing of the same descriptor,
+     *                   which is performed instead.
+     * @param <W> the type of writings.
+     * @return the writings to perform, where each descriptor is written at the position of its last writing.
+     */
+    public static <W> List<W> coalesce(List<W> writings, Function<? super W, ?> descriptor, BiConsumer<? super W, ? super W> eliminated){
+        if ( ! coalescing || writings.size() < 2)
+            return writings;
+
+        List<W> coalesced = new ArrayList<>( writings.size());
+        List<W> run = new ArrayList<>(); // the writings between two writings without descriptor
+        for ( W w : writings) {
+            if ( descriptor.apply( w) != null) {
+                run.add( w);
+                continue;
+            }
+            coalesce( run, descriptor, eliminated, coalesced);
+            run.clear();
+            coalesced.add( w);
+        }
+        coalesce( run, descriptor, eliminated, coalesced);
+        ELIMINATED.addAndGet( writings.size() - coalesced.size());
+        return coalesced;
+    }
+    // adds to coalesced the last writing of each descriptor in the run, in the order of their last occurrence.
+    private static <W> void coalesce(List<W> run, Function<? super W, ?> descriptor,
+                                     BiConsumer<? super W, ? super W> eliminated, List<W> coalesced){
+        Map<Object, W> last = new IdentityHashMap<>();
+        for ( W w : run)
+            last.put( descriptor.apply( w), w);
+        for ( W w : run) {
+            W performed = last.get( descriptor.apply( w));
+            if ( performed == w)
+                coalesced.add( w);
+            else eliminated.accept( w, performed);
+        }
+    }
+
+    /**
+     * Removes the redundant changes from the given ones, which must not be applied to the ontology yet.
+     * A change is redundant if it is followed by another change of the same axiom in the same ontology,
+     * or if it would not change the ontology (e.g.: adding an axiom that is already there).
+     * If {@link #isCoalescing()} is {@code false}, it does nothing.
+     * @param changes the collected changes, in the order in which they should be applied. It is not modified.
+     * @param eliminated the set in which the redundant changes are added (it should be based on identity).
+     * @return the changes to apply, where each axiom is changed at the position of its last change,
+     * or {@code null} if no change is redundant.
+     */
+    public static List<OWLOntologyChange> coalesce(List<OWLOntologyChange> changes, Set<OWLOntologyChange> eliminated){
+        if ( ! coalescing || changes.isEmpty())
+            return null;
+
+        // the last change for each axiom, in the order of their last occurrence
+        Map<Object, OWLOntologyChange> last = new LinkedHashMap<>();
+        int redundant = 0;
+        for ( OWLOntologyChange c : changes) {
+            if ( ! c.isAxiomChange()) {
+                last.put( new Object(), c); // always kept
+                continue;
+            }
+            List<Object> key = Arrays.asList( c.getOntology(), c.getAxiom());
+            OWLOntologyChange previous = last.remove( key);
+            if ( previous != null && eliminated.add( previous))
+                redundant++;
+            last.put( key, c);
+        }
+        List<OWLOntologyChange> coalesced = new ArrayList<>( last.size());
+        for ( OWLOntologyChange c : last.values()) {
+            if ( c.isAxiomChange() && c.isAddAxiom() == c.getOntology().containsAxiom( c.getAxiom())) {
+                if ( eliminated.add( c)) // it would not change the ontology
+                    redundant++;
+            } else coalesced.add( c);
+        }
+        if ( redundant == 0)
+            return null;
+        ELIMINATED_CHANGES.addAndGet( redundant);
+        return coalesced;
+    }
+}
@@ -0,0 +1,227 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.Metrics;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyLock;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * This class configures the opt-in collect-then-apply writing of descriptors.
+ * <p>
+ *     By default, each expression of a descriptor applies its changes to the ontology one axiom at a time
+ *     during {@link Axiom.Descriptor#writeAxioms()}.
+ *     When {@link #setCollected(boolean)} is enabled, the changes of all the expressions of a compound
+ *     descriptor (e.g.: {@link it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc})
+ *     and of all the consecutive descriptors of a {@link DescriptorBatch} grounded on the same ontology
+ *     are only collected, through the aMOR manipulator buffering. Then, they are applied with a single
+ *     {@link org.semanticweb.owlapi.model.OWLOntologyManager#applyChanges(List)}.
+ *     This is done while holding the write
+ *     {@link it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyLock},
+ *     thus other threads never observe partially written descriptors.
+ * </p>
+ * <p>
+ *     If the changes of an ontology are already buffered (see {@link #setBuffering(OWLReferences, boolean)}),
+ *     they are not applied here, but when the reasoner is synchronised as usual.
+ *     Since aMOR does not expose the state of its manipulator, the buffering enabled through
+ *     {@link OWLReferencesInterface#setOWLManipulatorBuffering(Boolean)} is not seen by this class, and it is
+ *     turned off by the next collected writing.
+ * </p>
+ * <p>
+ *     The changes collected together are coalesced before being applied (see {@link ChangeCoalescing}).
+ *     Since the changes buffered by aMOR cannot be removed, the coalesced changes are applied first, and
+ *     the buffered changes afterwards. The latter do not change the ontology anymore, because all the
+ *     writings compute their changes with respect to the same state of the ontology, thus the changes of an axiom are
+ *     either all additions or all removals. In any case, the ontology ends up as if all the buffered
+ *     changes were applied, since the last change of each axiom is never eliminated if it changes the ontology.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.CollectedWriting <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class CollectedWriting {
+
+    private static volatile boolean collected = false;
+    // the ontologies whose changes are buffered by the aMOR manipulator, by OWLOOP or by the user
+    private static final Set<OWLReferences> BUFFERING = ConcurrentHashMap.newKeySet();
+    // the changes collected for each ontology, to be coalesced before being applied
+    private static final Map<OWLReferences, Round> ROUNDS = new ConcurrentHashMap<>();
+
+    private CollectedWriting() {} // not instantiable
+
+    /**
+     * @param collected {@code true} to apply the changes of a descriptor (or of a batch) all together,
+     *                  {@code false} (default) to apply them one axiom at a time.
+     */
+    public static void setCollected(boolean collected) {
+        CollectedWriting.collected = collected;
+    }
+    /**
+     * @return {@code true} if the changes of a descriptor (or of a batch) are applied all together.
+     */
+    public static boolean isCollected() {
+        return collected;
+    }
+
+    /**
+     * Enables or disables the buffering of the aMOR manipulator of the given ontology, and keeps track of it.
+     * While the changes are buffered, the collected writings do not apply them,
+     * and they are applied when the reasoner is synchronised (or through
+     * {@link OWLReferencesInterface#applyOWLManipulatorChanges()}), as usual.
+     * It should be used instead of {@link OWLReferencesInterface#setOWLManipulatorBuffering(Boolean)}.
+     * @param ontology the ontology whose changes are buffered.
+     * @param buffering {@code true} to buffer the changes, {@code false} to apply them immediately.
+     */
+    public static void setBuffering(OWLReferences ontology, boolean buffering){
+        OntologyLock.of( ontology).write( () -> { // not while collecting changes
+            ontology.setOWLManipulatorBuffering( buffering);
+            if ( buffering)
+                BUFFERING.add( ontology);
+            else BUFFERING.remove( ontology);
+        });
+    }
+    /**
+     * @param ontology the ontology to check.
+     * @return {@code true} if the changes of the ontology are buffered, by the user
+     * (see {@link #setBuffering(OWLReferences, boolean)}) or by a collected writing.
+     */
+    public static boolean isBuffering(OWLReferences ontology){
+        return BUFFERING.contains( ontology);
+    }
+
+    /**
+     * Performs all the given writings and aggregates their results in the given order.
+     * If {@link #isCollected()}, the changes to the ontology are applied all together at the end.
+     * @param ontology the ontology in which all the writings occur.
+     * @param writings the writings to perform, e.g.: {@code descriptor::writeAxioms}.
+     * @return the aggregated changes made in the ontology during the writings.
+     */
+    @SuppressWarnings("rawtypes")
+    public static List<Axiom.MappingIntent> writeAxioms(OWLReferences ontology, List<? extends Supplier<List<Axiom.MappingIntent>>> writings){
+        if ( ! collected || ontology == null)
+            return write( writings);
+        return collectAxioms( ontology, writings);
+    }
+
+    /**
+     * Performs all the given writings and applies their changes to the ontology all together,
+     * regardless of {@link #isCollected()}.
+     * The changes are not collected if the ontology is not expected to be written (see {@link OntologyLock#isOptimistic()}),
+     * e.g.: a snapshot that vetoes all the changes, which would otherwise remain in the aMOR buffer.
+     * If a writing fails, the changes of the previous writings are applied anyway, as it would happen
+     * without collecting them, and the exception is rethrown (with the failure to apply the changes, if any,
+     * as a suppressed exception).
+     * @param ontology the ontology in which all the writings occur.
+     * @param writings the writings to perform, e.g.: {@code descriptor::writeAxioms}.
+     * @return the aggregated changes made in the ontology during the writings.
+     */
+    @SuppressWarnings("rawtypes")
+    public static List<Axiom.MappingIntent> collectAxioms(OWLReferences ontology, List<? extends Supplier<List<Axiom.MappingIntent>>> writings){
+        return OntologyLock.of( ontology).write( () -> {
+            if ( OntologyLock.of( ontology).isOptimistic() || ! BUFFERING.add( ontology))
+                return write( writings); // changes are not written, or collected by an outer writing or by the user
+            List<Axiom.MappingIntent> intents;
+            try {
+                ROUNDS.put( ontology, new Round());
+                ontology.setOWLManipulatorBuffering( true);
+                intents = write( writings);
+            } catch ( Throwable t){
+                try {
+                    apply( ontology);
+                } catch ( Throwable s){
+                    t.addSuppressed( s);
+                }
+                throw t;
+            }
+            apply( ontology);
+            return intents;
+        });
+    }
+    @SuppressWarnings("rawtypes")
+    private static List<Axiom.MappingIntent> write(List<? extends Supplier<List<Axiom.MappingIntent>>> writings){
+        boolean recorded = Axiom.MappingIntent.getRecording() != Axiom.MappingIntent.Recording.NONE; // read once
+        List<Axiom.MappingIntent> intents = recorded ? new ArrayList<>() : Collections.emptyList();
+        for ( Supplier<List<Axiom.MappingIntent>> w : writings) {
+            List<Axiom.MappingIntent> written = w.get();
+            if ( recorded)
+                intents.addAll( written);
+        }
+        return intents;
+    }
+
+    /**
+     * Keeps track of the changes made by an expression while they are collected, in order to coalesce them.
+     * It does nothing if the changes of the ontology are not being collected by this class.
+     * It is called by {@link it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGround#getChangingIntent(it.emarolab.owloop.core.EntitySet.SynchronisationIntent, Object)}.
+     * @param ontology the ontology in which the changes have been buffered.
+     * @param changes the changes made by an expression (i.e.: {@link Axiom.MappingIntent#getOntologyChanges()}).
+     * @param intents the results of the expression, whose {@link Axiom.MappingIntent#getEliminatedChanges()}
+     *                is set when the changes are applied.
+     */
+    @SuppressWarnings("rawtypes")
+    public static void collected(OWLReferences ontology, Object changes, List<Axiom.MappingIntent> intents){
+        Round round = ROUNDS.get( ontology);
+        if ( round != null && changes instanceof Collection)
+            round.collected( (Collection<?>) changes, intents);
+    }
+
+    // stops buffering and applies all the buffered changes together.
+    private static void apply(OWLReferences ontology){
+        Round round = ROUNDS.remove( ontology);
+        try {
+            ontology.setOWLManipulatorBuffering( false);
+        } finally {
+            BUFFERING.remove( ontology);
+        }
+        long start = System.nanoTime();
+        List<OWLOntologyChange> coalesced = round == null ? null : round.coalesce();
+        if ( coalesced != null)
+            ontology.applyOWLManipulatorChanges( coalesced); // the redundant changes are not applied
+        ontology.applyOWLManipulatorChanges(); // it leaves the ontology as it is (see class documentation)
+        if ( Metrics.isEnabled())
+            Metrics.get().record( Metrics.Phase.APPLY, CollectedWriting.class.getSimpleName(), "collected",
+                    ontology.getReferenceName(), System.nanoTime() - start);
+    }
+
+    // the changes collected in an ontology, and the intents that describe them.
+    @SuppressWarnings("rawtypes")
+    private static class Round {
+        private final List<OWLOntologyChange> changes = new ArrayList<>();
+        private final List<Collection<?>> written = new ArrayList<>();
+        private final List<List<Axiom.MappingIntent>> intents = new ArrayList<>();
+
+        private void collected(Collection<?> changes, List<Axiom.MappingIntent> intents){
+            for ( Object c : changes)
+                if ( c instanceof OWLOntologyChange)
+                    this.changes.add( (OWLOntologyChange) c);
+            written.add( changes);
+            this.intents.add( intents);
+        }
+        // returns the coalesced changes and sets the eliminated changes of each intent, null if nothing is eliminated.
+        private List<OWLOntologyChange> coalesce(){
+            Set<OWLOntologyChange> eliminated = Collections.newSetFromMap( new IdentityHashMap<>());
+            List<OWLOntologyChange> coalesced = ChangeCoalescing.coalesce( changes, eliminated);
+            if ( coalesced == null)
+                return null;
+            for ( int i = 0; i < written.size(); i++) {
+                int count = 0;
+                for ( Object c : written.get( i))
+                    if ( eliminated.contains( c))
+                        count++;
+                for ( Axiom.MappingIntent intent : intents.get( i))
+                    intent.setEliminatedChanges( count);
+            }
+            return coalesced;
+        }
+    }
+}
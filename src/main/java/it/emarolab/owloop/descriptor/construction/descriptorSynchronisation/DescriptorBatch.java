@@ -0,0 +1,190 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * This class synchronises a collection of {@link Axiom.Descriptor}s together.
+ * <p>
+ *     {@link Axiom.Descriptor#writeAxiomsReasonReadAxioms()} synchronises the reasoner
+ *     once for each descriptor. Instead, {@link #writeAxiomsReasonReadAxioms()} first writes
+ *     all the descriptors of this batch, then it synchronises the reasoner only once for
+ *     each ontology involved, and finally it reads all the descriptors.
+ *     The returned {@link Axiom.MappingIntent}s are aggregated in the same order
+ *     in which the descriptors have been added to the batch.
+ * </p>
+ * <p>
+ *     For instance:
+ *     <pre>
+ *     {@code
+ *     DescriptorBatch batch = new DescriptorBatch( drugDesc, patientDesc, doctorDesc);
+ *     List<MappingIntent> intents = batch.writeAxiomsReasonReadAxioms();
+ *     }
+ *     </pre>
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.DescriptorBatch <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class DescriptorBatch {
+
+    private List<Axiom.Descriptor<?,?>> descriptors = new ArrayList<>();
+
+    /**
+     * Initialise an empty batch, descriptors can be added with {@link #add(Axiom.Descriptor[])}.
+     */
+    public DescriptorBatch() {
+    }
+    /**
+     * Initialise the batch with the given descriptors.
+     * @param descriptors the descriptors to synchronise together.
+     */
+    public DescriptorBatch(Axiom.Descriptor<?,?>... descriptors) {
+        add( descriptors);
+    }
+    /**
+     * Initialise the batch with the given descriptors.
+     * @param descriptors the descriptors to synchronise together.
+     */
+    public DescriptorBatch(Collection<? extends Axiom.Descriptor<?,?>> descriptors) {
+        addAll( descriptors);
+    }
+
+    /**
+     * Adds some descriptors to this batch.
+     * @param descriptors the descriptors to be added.
+     * @return this batch, for chaining calls.
+     */
+    public DescriptorBatch add(Axiom.Descriptor<?,?>... descriptors){
+        return addAll( Arrays.asList( descriptors));
+    }
+    /**
+     * Adds some descriptors to this batch.
+     * @param descriptors the descriptors to be added.
+     * @return this batch, for chaining calls.
+     */
+    public DescriptorBatch addAll(Collection<? extends Axiom.Descriptor<?,?>> descriptors){
+        for ( Axiom.Descriptor<?,?> d : descriptors)
+            if ( d != null)
+                this.descriptors.add( d);
+        return this;
+    }
+
+    /**
+     * Removes all the descriptors from this batch.
+     */
+    public void clear(){
+        descriptors.clear();
+    }
+
+    /**
+     * @return the descriptors in this batch (not modifiable).
+     */
+    public List<Axiom.Descriptor<?,?>> getDescriptors(){
+        return Collections.unmodifiableList( descriptors);
+    }
+
+    /**
+     * Calls {@link Axiom.Descriptor#readAxioms()} on all the descriptors of this batch.
+     * If {@link ParallelReading#isParallel()}, descriptors are read concurrently.
+     * @return the aggregated changes made in the descriptors during the reading.
+     */
+    public List<Axiom.MappingIntent> readAxioms(){
+        List<Supplier<List<Axiom.MappingIntent>>> readings = new ArrayList<>( descriptors.size());
+        for ( Axiom.Descriptor<?,?> d : descriptors)
+            readings.add( d::readAxioms);
+        return ParallelReading.readAxioms( readings);
+    }
+
+    /**
+     * Calls {@link Axiom.Descriptor#writeAxioms()} on all the descriptors of this batch.
+     * If {@link CollectedWriting#isCollected()}, the changes of consecutive descriptors grounded
+     * on the same ontology are applied together.
+     * @return the aggregated changes made in the ontologies during the writing.
+     */
+    public List<Axiom.MappingIntent> writeAxioms(){
+        boolean recorded = Axiom.MappingIntent.getRecording() != Axiom.MappingIntent.Recording.NONE; // read once
+        List<Axiom.MappingIntent> intents = recorded ? new ArrayList<>() : Collections.emptyList();
+        List<Supplier<List<Axiom.MappingIntent>>> writings = new ArrayList<>();
+        Object ontology = null;
+        for ( Axiom.Descriptor<?,?> d : descriptors) {
+            if ( ! writings.isEmpty() && d.getOntologyReference() != ontology) {
+                List<Axiom.MappingIntent> written = writeAxioms( ontology, writings);
+                if ( recorded)
+                    intents.addAll( written);
+                writings.clear();
+            }
+            ontology = d.getOntologyReference();
+            writings.add( d::writeAxioms);
+        }
+        if ( ! writings.isEmpty()) {
+            List<Axiom.MappingIntent> written = writeAxioms( ontology, writings);
+            if ( recorded)
+                intents.addAll( written);
+        }
+        return intents;
+    }
+    @SuppressWarnings("rawtypes")
+    private List<Axiom.MappingIntent> writeAxioms(Object ontology, List<Supplier<List<Axiom.MappingIntent>>> writings){
+        if ( ontology instanceof OWLReferences)
+            return CollectedWriting.writeAxioms( (OWLReferences) ontology, writings);
+        return CollectedWriting.writeAxioms( null, writings);
+    }
+
+    /**
+     * Synchronises the reasoner of each ontology used by the descriptors in this batch,
+     * only once for ontology, through {@link Axiom.Descriptor#groundReason()}.
+     */
+    public void reason(){
+        for ( Axiom.Descriptor<?,?> d : getOntologyRepresentatives())
+            d.groundReason();
+    }
+
+    /**
+     * It writes all the descriptors, then it synchronises the reasoner once for each ontology
+     * (see {@link #reason()}) and, finally, it reads all the descriptors.
+     * @param reason set to (false) to disable reasoning. This will add only asserted elements.
+     * @return the changes made by the {@link #writeAxioms()} and {@link #readAxioms()} operations.
+     */
+    public List<Axiom.MappingIntent> writeAxiomsReasonReadAxioms(boolean reason){
+        List<Axiom.MappingIntent> written = writeAxioms();
+        if ( reason)
+            reason();
+        List<Axiom.MappingIntent> read = readAxioms();
+        if ( Axiom.MappingIntent.getRecording() == Axiom.MappingIntent.Recording.NONE)
+            return Collections.emptyList(); // nothing is aggregated
+        List<Axiom.MappingIntent> intents = new ArrayList<>( written.size() + read.size());
+        intents.addAll( written);
+        intents.addAll( read);
+        return intents;
+    }
+    /**
+     * It writes all the descriptors, then it synchronises the reasoner once for each ontology
+     * (see {@link #reason()}) and, finally, it reads all the descriptors.
+     * @return the changes made by the {@link #writeAxioms()} and {@link #readAxioms()} operations.
+     */
+    public List<Axiom.MappingIntent> writeAxiomsReasonReadAxioms(){
+        return writeAxiomsReasonReadAxioms( true);
+    }
+
+    // returns the first descriptor for each different ontology in this batch.
+    private Collection<Axiom.Descriptor<?,?>> getOntologyRepresentatives(){
+        Map<Object, Axiom.Descriptor<?,?>> representatives = new IdentityHashMap<>();
+        for ( Axiom.Descriptor<?,?> d : descriptors)
+            representatives.putIfAbsent( d.getOntologyReference(), d);
+        return representatives.values();
+    }
+
+    @Override
+    public String toString() {
+        return "DescriptorBatch{" + descriptors + "}";
+    }
+}
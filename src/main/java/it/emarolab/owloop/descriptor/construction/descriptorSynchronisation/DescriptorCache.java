@@ -0,0 +1,213 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGround;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface.GroundInstance;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyRevision;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A read-through cache of descriptors that have been already read from the ontology.
+ * <p>
+ *     Descriptors are identified by their class and their {@link GroundInstance} (i.e.: ontology and instance).
+ *     Each cached descriptor is associated to the {@link OntologyRevision} of its ontology at the time
+ *     of its last {@link DescriptorGround#readAxioms()}. {@link #read(DescriptorGround)} returns the cached
+ *     descriptor (with its {@link it.emarolab.owloop.core.Axiom.EntitySet}s already populated) as long as
+ *     the ontology has not changed and the reasoner has not been synchronised since then.
+ *     Otherwise, it reads the given descriptor and caches it.
+ *     When more than {@link #getMaxSize()} descriptors are cached, the least recently used is evicted.
+ * </p>
+ * <p>
+ *     If a cache is assigned to a descriptor through {@link DescriptorGround#setDescriptorCache(DescriptorCache)},
+ *     its {@code build...()} methods (e.g.: {@code buildTypes()}, {@code buildIndividuals()}, etc.)
+ *     use it instead of reading all the built descriptors.
+ *     Note that cached descriptors are shared, thus they should not be modified without
+ *     calling {@link DescriptorGround#writeAxioms()}.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.DescriptorCache <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class DescriptorCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final int maxSize;
+    private final LinkedHashMap<Key, Entry> cache;
+    private long hits = 0, misses = 0, evictions = 0;
+
+    /**
+     * Initialise a cache with {@link #DEFAULT_MAX_SIZE}.
+     */
+    public DescriptorCache() {
+        this( DEFAULT_MAX_SIZE);
+    }
+    /**
+     * Initialise a cache with a given maximum size.
+     * @param maxSize the maximum number of descriptors to be cached.
+     */
+    public DescriptorCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.cache = new LinkedHashMap<Key, Entry>( 16, .75f, true){ // access order, for LRU eviction
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                if ( size() > DescriptorCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached descriptor with the same class and ground of the given one, if
+     * the ontology did not change since it was read. Otherwise, it reads the given descriptor,
+     * caches and returns it.
+     * @param descriptor the descriptor to be read.
+     * @param <D> the type of the descriptor.
+     * @return a descriptor synchronised with the actual state of the ontology.
+     */
+    @SuppressWarnings("unchecked")
+    public <D extends DescriptorGround<?>> D read(D descriptor){
+        Key key = new Key( descriptor);
+        long[] stamp = getStamp( descriptor);
+        synchronized ( this) {
+            Entry cached = cache.get( key);
+            if ( cached != null && cached.isValid( stamp)) {
+                hits++;
+                return (D) cached.descriptor;
+            }
+            misses++;
+        }
+        // read outside of the monitor, so that different descriptors can be read concurrently
+        descriptor.readAxioms();
+        if ( descriptor.getDescriptorCache() == null)
+            descriptor.setDescriptorCache( this); // in order to build also its neighbours from the cache
+        synchronized ( this) {
+            cache.put( key, new Entry( descriptor, stamp));
+        }
+        return descriptor;
+    }
+
+    /**
+     * Removes the descriptor with the same class and ground of the given one from the cache.
+     * @param descriptor the descriptor to be removed from the cache.
+     */
+    public synchronized void invalidate(DescriptorGround<?> descriptor){
+        cache.remove( new Key( descriptor));
+    }
+
+    /**
+     * Removes all the descriptors from the cache. It does not reset the counters.
+     */
+    public synchronized void clear(){
+        cache.clear();
+    }
+
+    /**
+     * @return the number of descriptors actually cached.
+     */
+    public synchronized int size(){
+        return cache.size();
+    }
+    /**
+     * @return the maximum number of descriptors that can be cached.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+    /**
+     * @return the number of times that {@link #read(DescriptorGround)} returned a cached descriptor.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+    /**
+     * @return the number of times that {@link #read(DescriptorGround)} had to read the descriptor.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+    /**
+     * @return the number of descriptors removed from the cache since it was full.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+    /**
+     * @return the ratio between {@link #getHits()} and all the calls to {@link #read(DescriptorGround)},
+     * {@code 0} if it has never been called.
+     */
+    public synchronized double getHitRatio(){
+        long total = hits + misses;
+        if ( total == 0)
+            return 0;
+        return (double) hits / total;
+    }
+    /**
+     * Resets {@link #getHits()}, {@link #getMisses()} and {@link #getEvictions()}.
+     */
+    public synchronized void resetCounters(){
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    // the state of the ontology: its revision and the revision at the last reasoning.
+    private long[] getStamp( DescriptorGround<?> descriptor){
+        OntologyRevision revision = OntologyRevision.of( descriptor.getOntologyReference());
+        return new long[]{ revision.getRevision(), revision.getReasonedRevision()};
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "DescriptorCache{size=" + cache.size() + "/" + maxSize + ", hits=" + hits + ", misses=" + misses +
+                ", evictions=" + evictions + "}";
+    }
+
+    // identifies a descriptor through its class and ground.
+    private static class Key {
+        private final Class<?> type;
+        private final GroundInstance<?> ground;
+
+        private Key( DescriptorGround<?> descriptor) {
+            this.type = descriptor.getClass();
+            this.ground = descriptor.getGround().copyGround(); // the ground instance of a descriptor can change
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return type.equals( key.type) && ground.equals( key.ground);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + ground.hashCode();
+        }
+    }
+
+    // a cached descriptor with the ontology stamp at the time it was read.
+    private static class Entry {
+        private final DescriptorGround<?> descriptor;
+        private final long[] stamp;
+
+        private Entry( DescriptorGround<?> descriptor, long[] stamp) {
+            this.descriptor = descriptor;
+            this.stamp = stamp;
+        }
+
+        private boolean isValid( long[] actual){
+            return stamp[ 0] == actual[ 0] && stamp[ 1] == actual[ 1];
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGround;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * It supports lazy graph traversals based on the {@code build...()} methods of the descriptors.
+ * <p>
+ *     By default, a {@code build...()} method (e.g.: {@code buildSubClasses()}) instantiates a new descriptor
+ *     for each linked entity, and it reads all its expressions.
+ *     Instead, the {@code build...()} methods of a descriptor attached to a traversal
+ *     (see {@link #attach(DescriptorGround)}) return descriptors that are attached to the same traversal,
+ *     and each descriptor is instantiated and read only once for each traversal,
+ *     i.e.: shared or cyclic neighbours (e.g.: equivalent classes, inverse properties, etc.) are
+ *     the same object.
+ *     When a descriptor enters the traversal, only the expressions declared for its class with
+ *     {@link #reading(Class, Function, Function)} are read, while all its expressions are read
+ *     (as a {@code build...()} method would do) if none is declared. The getters of the other expressions
+ *     return the entities read so far, and further expressions can be read on demand with
+ *     {@link #read(Axiom.Descriptor, Function, Function)}.
+ *     For instance:
+ *     <pre>
+ *     {@code
+ *     DescriptorTraversal traversal = new DescriptorTraversal()
+ *         .reading( FullClassDesc.class, FullClassDesc::getSubClasses, FullClassDesc::synchroniseSubClassesFromExpressionAxioms);
+ *     FullClassDesc root = traversal.attach( new FullClassDesc( "LOCATION", ontoRef)); // reads the sub classes
+ *     Set<FullClassDesc> hierarchy = traversal.traverse( root, FullClassDesc::buildSubClasses); // memoised
+ *     }
+ *     </pre>
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.DescriptorTraversal <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class DescriptorTraversal {
+
+    // the descriptors built during this traversal, identified by their class and ground.
+    private final Map<List<Object>, DescriptorGround<?>> descriptors = new HashMap<>();
+    // the EntitySets that have been already read, there is one for each expression of a descriptor.
+    private final Set<Axiom.EntitySet<?>> read = Collections.newSetFromMap( new IdentityHashMap<>());
+    // the expressions read when a descriptor of a given class enters the traversal.
+    private final Map<Class<?>, List<Consumer<DescriptorGround<?>>>> expressions = new LinkedHashMap<>();
+    private long readings = 0;
+
+    /**
+     * Declares an expression to be read when a descriptor of the given class enters this traversal,
+     * i.e.: when it is attached or built. If at least one expression is declared for a class,
+     * the other expressions of its descriptors are not read.
+     * @param type the class of the descriptors (e.g.: {@code FullClassDesc.class}).
+     * @param entities the {@link Axiom.EntitySet} of the expression to read (e.g.: {@code FullClassDesc::getSubClasses}).
+     * @param synchroniser the synchronisation of the expression to read
+     *                     (e.g.: {@code FullClassDesc::synchroniseSubClassesFromExpressionAxioms}).
+     * @param <D> the type of the descriptor.
+     * @param <Y> the type of the entities in the expression.
+     * @return this traversal, for chaining.
+     */
+    public synchronized <D extends DescriptorGround<?>,Y> DescriptorTraversal reading(Class<D> type,
+                                Function<D, ? extends Axiom.EntitySet<Y>> entities, Function<D, Axiom.EntitySet.SynchronisationIntent<Y>> synchroniser){
+        expressions.computeIfAbsent( type, t -> new ArrayList<>())
+                .add( d -> read( type.cast( d), entities, synchroniser));
+        return this;
+    }
+
+    /**
+     * Attaches a descriptor to this traversal, and reads it as described in {@link #memoise(DescriptorGround)}.
+     * Its {@code build...()} methods will return memoised descriptors, which are attached to this traversal as well.
+     * @param descriptor the descriptor from which the traversal starts.
+     * @param <D> the type of the descriptor.
+     * @return the descriptor of this traversal with the same class and ground, which might be
+     * the given descriptor.
+     */
+    public <D extends DescriptorGround<?>> D attach(D descriptor){
+        return memoise( descriptor);
+    }
+
+    /**
+     * It is called by {@link DescriptorGround#readBuiltDescriptor(Axiom.Descriptor)} in order
+     * to return the descriptor with the same class and ground of the given one.
+     * The first time that a descriptor enters the traversal, the expressions declared for its class
+     * with {@link #reading(Class, Function, Function)} are read, or all its expressions
+     * if none is declared. Afterwards, it is returned without reading it again.
+     * The ontology is read without holding the monitor of this traversal, thus the same descriptor
+     * might be read by concurrent threads, but only the first one that finishes is memoised.
+     * @param built the descriptor instantiated by a {@code build...()} method.
+     * @param <D> the type of the descriptor.
+     * @return the descriptor of this traversal with the same class and ground.
+     */
+    @SuppressWarnings("unchecked")
+    public <D extends DescriptorGround<?>> D memoise(D built){
+        List<Object> key = Arrays.asList( built.getClass(), built.getGround().copyGround());
+        List<Consumer<DescriptorGround<?>>> declared = new ArrayList<>();
+        synchronized ( this) {
+            DescriptorGround<?> memoised = descriptors.get( key);
+            if ( memoised != null)
+                return (D) memoised;
+            for ( Map.Entry<Class<?>, List<Consumer<DescriptorGround<?>>>> e : expressions.entrySet())
+                if ( e.getKey().isInstance( built))
+                    declared.addAll( e.getValue());
+        }
+        built.setDescriptorTraversal( this);
+        if ( declared.isEmpty()) {
+            built.readAxioms(); // as a build...() method does
+            synchronized ( this) {
+                readings++;
+            }
+        } else for ( Consumer<DescriptorGround<?>> r : declared)
+            r.accept( built);
+        DescriptorGround<?> memoised;
+        synchronized ( this) {
+            memoised = descriptors.putIfAbsent( key, built);
+        }
+        if ( memoised == null)
+            return built;
+        built.setDescriptorTraversal( null); // another thread memoised it meanwhile
+        return (D) memoised;
+    }
+
+    /**
+     * Reads a single expression of a descriptor, if it has not been read yet during this traversal.
+     * It performs the same synchronisation of the {@code readAxioms()} method of the related expression.
+     * @param descriptor the descriptor to read.
+     * @param entities the {@link Axiom.EntitySet} of the expression to read (e.g.: {@code FullClassDesc::getSubClasses}).
+     * @param synchroniser the synchronisation of the expression to read
+     *                     (e.g.: {@code FullClassDesc::synchroniseSubClassesFromExpressionAxioms}).
+     * @param <D> the type of the descriptor.
+     * @param <Y> the type of the entities in the expression.
+     * @return the entities of the expression, synchronised with the ontology.
+     */
+    public <D extends Axiom.Descriptor<?,?>,Y> Axiom.EntitySet<Y> read(D descriptor, Function<D, ? extends Axiom.EntitySet<Y>> entities,
+                                                                      Function<D, Axiom.EntitySet.SynchronisationIntent<Y>> synchroniser){
+        Axiom.EntitySet<Y> set = entities.apply( descriptor);
+        synchronized ( this) {
+            if ( ! read.add( set))
+                return set; // already read during this traversal
+            readings++;
+        }
+        Axiom.EntitySet.SynchronisationIntent<Y> from = synchroniser.apply( descriptor);
+        if ( from != null) {
+            set.addAll( from.getToAdd());
+            set.removeAll( from.getToRemove());
+        }
+        return set;
+    }
+
+    /**
+     * Visits all the descriptors reachable from the given one, each only once even if the graph contains cycles.
+     * @param root the descriptor from which the traversal starts, it is attached to this traversal.
+     * @param neighbours a function that gives the next descriptors to visit, typically a {@code build...()} method
+     *                   of an expression declared with {@link #reading(Class, Function, Function)}.
+     * @param <D> the type of the descriptors.
+     * @return all the visited descriptors, in breadth-first order.
+     */
+    public <D extends DescriptorGround<?>> Set<D> traverse(D root, Function<D, ? extends Collection<D>> neighbours){
+        Set<D> visited = new LinkedHashSet<>();
+        Deque<D> toVisit = new ArrayDeque<>();
+        toVisit.add( attach( root));
+        while ( ! toVisit.isEmpty()){
+            D d = toVisit.poll();
+            if ( ! visited.add( d))
+                continue;
+            for ( D n : neighbours.apply( d))
+                if ( ! visited.contains( n))
+                    toVisit.add( n);
+        }
+        return visited;
+    }
+
+    /**
+     * Detaches all the descriptors from this traversal, and forgets the read expressions.
+     * The expressions declared with {@link #reading(Class, Function, Function)} are kept.
+     */
+    public synchronized void clear(){
+        for ( DescriptorGround<?> d : descriptors.values())
+            d.setDescriptorTraversal( null);
+        descriptors.clear();
+        read.clear();
+    }
+
+    /**
+     * @return the number of descriptors instantiated during this traversal.
+     */
+    public synchronized int getDescriptorsCount(){
+        return descriptors.size();
+    }
+    /**
+     * @return the number of expressions that have been read from the ontology during this traversal,
+     * a descriptor read with all its expressions counts as one.
+     */
+    public synchronized long getReadingsCount(){
+        return readings;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "DescriptorTraversal{descriptors=" + descriptors.size() + ", readings=" + readings + "}";
+    }
+}
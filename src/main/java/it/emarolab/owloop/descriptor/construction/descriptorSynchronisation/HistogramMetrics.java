@@ -0,0 +1,255 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.owloop.core.Metrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The default in-memory implementation of {@link Metrics}.
+ * <p>
+ *     It aggregates the latencies in a {@link Histogram} for each {@link Key}, i.e.: for each phase,
+ *     descriptor class, expression and ontology. A histogram has buckets with a logarithmic size (as in HDR histograms),
+ *     thus it requires a constant memory and its percentiles have a relative error of about 3%, for
+ *     latencies from one nanosecond up to about half an hour. The histograms are updated without locking.
+ * </p>
+ * <p>
+ *     Use {@link #install()} to start measuring, and {@link #report()} to see which expressions
+ *     (e.g.: which {@code query...()} call) take most of the time. Note that, if
+ *     {@link CollectedWriting#isCollected()}, the changes of all the expressions are applied together,
+ *     and their latency is recorded with the {@code "collected"} expression.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.HistogramMetrics <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class HistogramMetrics implements Metrics {
+
+    /**
+     * Creates new metrics and {@link Metrics#install(Metrics)} them for all the descriptors.
+     * @return the installed metrics.
+     */
+    public static HistogramMetrics install(){
+        HistogramMetrics metrics = new HistogramMetrics();
+        Metrics.install( metrics);
+        return metrics;
+    }
+
+    private final Map<Key, Histogram> histograms = new ConcurrentHashMap<>();
+
+    @Override // see super class for documentation
+    public void record(Phase phase, String descriptor, String expression, String ontology, long nanos) {
+        histograms.computeIfAbsent( new Key( phase, descriptor, expression, ontology), k -> new Histogram()).record( nanos);
+    }
+
+    /**
+     * @param phase the measured phase.
+     * @param descriptor the simple name of the class of the descriptor.
+     * @param expression the name of the expression.
+     * @param ontology the name of the ontology.
+     * @return the latencies with the given tags, {@code null} if nothing has been recorded.
+     */
+    public Histogram getHistogram(Phase phase, String descriptor, String expression, String ontology){
+        return histograms.get( new Key( phase, descriptor, expression, ontology));
+    }
+    /**
+     * @return all the histograms, sorted by decreasing {@link Histogram#getTotal()}.
+     */
+    public Map<Key, Histogram> getHistograms(){
+        List<Map.Entry<Key, Histogram>> entries = new ArrayList<>( histograms.entrySet());
+        entries.sort( (a, b) -> Long.compare( b.getValue().getTotal(), a.getValue().getTotal()));
+        Map<Key, Histogram> sorted = new LinkedHashMap<>();
+        for ( Map.Entry<Key, Histogram> e : entries)
+            sorted.put( e.getKey(), e.getValue());
+        return Collections.unmodifiableMap( sorted);
+    }
+
+    /**
+     * Removes all the recorded latencies.
+     */
+    public void reset(){
+        histograms.clear();
+    }
+
+    /**
+     * @return a line for each histogram (see {@link #getHistograms()}), with the most expensive first.
+     */
+    public String report(){
+        StringBuilder out = new StringBuilder();
+        for ( Map.Entry<Key, Histogram> e : getHistograms().entrySet())
+            out.append( e.getKey()).append( " ").append( e.getValue()).append( System.lineSeparator());
+        return out.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "HistogramMetrics{" + histograms.size() + " histograms}";
+    }
+
+    /**
+     * The tags of a {@link Histogram}.
+     */
+    public static final class Key {
+
+        private final Phase phase;
+        private final String descriptor, expression, ontology;
+
+        private Key(Phase phase, String descriptor, String expression, String ontology) {
+            this.phase = phase;
+            this.descriptor = descriptor;
+            this.expression = expression;
+            this.ontology = ontology;
+        }
+
+        /**
+         * @return the measured phase.
+         */
+        public Phase getPhase() {
+            return phase;
+        }
+        /**
+         * @return the simple name of the class of the descriptor.
+         */
+        public String getDescriptor() {
+            return descriptor;
+        }
+        /**
+         * @return the name of the expression.
+         */
+        public String getExpression() {
+            return expression;
+        }
+        /**
+         * @return the name of the ontology.
+         */
+        public String getOntology() {
+            return ontology;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if ( this == o) return true;
+            if ( !( o instanceof Key)) return false;
+            Key key = (Key) o;
+            return phase == key.phase && Objects.equals( descriptor, key.descriptor) &&
+                    Objects.equals( expression, key.expression) && Objects.equals( ontology, key.ontology);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash( phase, descriptor, expression, ontology);
+        }
+
+        @Override
+        public String toString() {
+            return phase + " " + descriptor + "." + expression + "@" + ontology;
+        }
+    }
+
+    /**
+     * A thread safe histogram of latencies, with logarithmic buckets.
+     */
+    public static final class Histogram {
+
+        private static final int SUB_BITS = 5, SUB = 1 << SUB_BITS; // buckets for each power of two
+        private static final int MAX_EXPONENT = 40; // 2^41 nanoseconds, larger latencies are clamped
+        private static final int BUCKETS = SUB + ( MAX_EXPONENT - SUB_BITS + 1) * SUB;
+
+        private final AtomicLongArray counts = new AtomicLongArray( BUCKETS);
+        private final LongAdder count = new LongAdder(), total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        /**
+         * @param nanos the latency to add to the histogram.
+         */
+        public void record(long nanos){
+            if ( nanos < 0)
+                nanos = 0;
+            counts.incrementAndGet( bucket( nanos));
+            count.increment();
+            total.add( nanos);
+            max.accumulateAndGet( nanos, Math::max);
+        }
+
+        // the index of the bucket of a value
+        private static int bucket(long value){
+            if ( value < SUB)
+                return (int) value;
+            int exponent = 63 - Long.numberOfLeadingZeros( value);
+            if ( exponent > MAX_EXPONENT)
+                return BUCKETS - 1;
+            int mantissa = (int) ( value >>> ( exponent - SUB_BITS)) & ( SUB - 1);
+            return SUB + ( exponent - SUB_BITS) * SUB + mantissa;
+        }
+        // the middle value of a bucket
+        private static long value(int bucket){
+            if ( bucket < SUB)
+                return bucket;
+            int exponent = ( bucket - SUB) / SUB + SUB_BITS;
+            long width = 1L << ( exponent - SUB_BITS);
+            long lower = ( SUB + ( bucket - SUB) % SUB) * width;
+            return lower + width / 2;
+        }
+
+        /**
+         * @return the number of recorded latencies.
+         */
+        public long getCount() {
+            return count.sum();
+        }
+        /**
+         * @return the sum of the recorded latencies, in nanoseconds.
+         */
+        public long getTotal() {
+            return total.sum();
+        }
+        /**
+         * @return the average of the recorded latencies, in nanoseconds.
+         */
+        public double getMean() {
+            long n = getCount();
+            return n == 0 ? 0 : (double) getTotal() / n;
+        }
+        /**
+         * @return the maximum recorded latency, in nanoseconds.
+         */
+        public long getMax() {
+            return max.get();
+        }
+        /**
+         * @param percentile a value in [0,100].
+         * @return the latency (in nanoseconds) under which the given percentage of the recorded latencies are,
+         * {@code 0} if nothing has been recorded.
+         */
+        public long getValueAtPercentile(double percentile){
+            long n = getCount();
+            if ( n == 0)
+                return 0;
+            long rank = Math.max( 1, (long) Math.ceil( Math.min( 100, Math.max( 0, percentile)) / 100 * n));
+            if ( rank >= n)
+                return getMax();
+            long seen = 0;
+            for ( int i = 0; i < BUCKETS; i++) {
+                seen += counts.get( i);
+                if ( seen >= rank)
+                    return Math.min( value( i), getMax());
+            }
+            return getMax();
+        }
+
+        @Override
+        public String toString() {
+            return String.format( "{count=%d, total=%.3fms, mean=%.1fus, p50=%.1fus, p99=%.1fus, max=%.1fus}",
+                    getCount(), getTotal() / 1e6, getMean() / 1e3,
+                    getValueAtPercentile( 50) / 1e3, getValueAtPercentile( 99) / 1e3, getMax() / 1e3);
+        }
+    }
+}
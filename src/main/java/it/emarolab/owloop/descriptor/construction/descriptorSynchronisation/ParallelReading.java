@@ -0,0 +1,120 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyLock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * This class configures the opt-in parallel reading of descriptors.
+ * <p>
+ *     By default, all the readings are performed sequentially on the calling thread.
+ *     When {@link #setParallel(boolean)} is enabled, the expressions of a compound descriptor
+ *     (e.g.: {@link it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc})
+ *     and the descriptors of a {@link DescriptorBatch} are read concurrently
+ *     on the {@link ForkJoinPool} given by {@link #getPool()}.
+ *     The queries to the same ontology are coordinated by
+ *     {@link it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyLock}.
+ *     Since queries are only read-only after the reasoner has been synchronised,
+ *     parallel reading should be used after {@link Axiom.Descriptor#groundReason()}
+ *     (e.g.: in {@link DescriptorBatch#writeAxiomsReasonReadAxioms()}).
+ *     A thread that is manipulating an ontology (see {@link OntologyLock#isWritingOnCurrentThread()})
+ *     always reads sequentially, since the workers could not query the ontology until it has finished.
+ * </p>
+ * <p>
+ *     Note that aMOR only synchronises each of its methods on the {@link it.emarolab.amor.owlInterface.OWLReferences}
+ *     (and the reasoner calls on a further mutex), thus a query is not atomic with respect to the manipulations
+ *     performed by other threads. The parallel readings are thread safe since each query holds the read
+ *     {@link OntologyLock}, which excludes the manipulations of the ontology while it runs.
+ *     Since the calls to the same ontology still wait for each other on the aMOR locks, the readings of
+ *     descriptors grounded on a single ontology do not scale with the number of threads. Parallel reading only
+ *     overlaps the work done by OWLOOP around the queries (e.g.: the {@link it.emarolab.owloop.descriptor.construction.descriptorGround.InferenceIndex}),
+ *     and the queries to different ontologies.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ParallelReading <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ParallelReading {
+
+    private static volatile boolean parallel = false;
+    private static volatile ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    private ParallelReading() {} // not instantiable
+
+    /**
+     * @param parallel {@code true} to read descriptors on {@link #getPool()},
+     *                 {@code false} (default) to read them sequentially.
+     */
+    public static void setParallel(boolean parallel) {
+        ParallelReading.parallel = parallel;
+    }
+    /**
+     * @return {@code true} if descriptors are read on {@link #getPool()}.
+     */
+    public static boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * @param pool the pool on which descriptors are read in parallel,
+     *             by default it is {@link ForkJoinPool#commonPool()}.
+     */
+    public static void setPool(ForkJoinPool pool) {
+        if ( pool == null)
+            pool = ForkJoinPool.commonPool();
+        ParallelReading.pool = pool;
+    }
+    /**
+     * @return the pool on which descriptors are read in parallel.
+     */
+    public static ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Performs all the given readings and aggregates their results in the given order.
+     * If {@link #isParallel()}, the readings are performed concurrently on {@link #getPool()},
+     * otherwise (or if this thread is manipulating an ontology) they are performed sequentially on this thread.
+     * @param readings the readings to perform, e.g.: {@code descriptor::readAxioms}.
+     * @return the aggregated changes made in the descriptors during the readings.
+     */
+    @SuppressWarnings("rawtypes")
+    public static List<Axiom.MappingIntent> readAxioms(List<? extends Supplier<List<Axiom.MappingIntent>>> readings){
+        boolean recorded = Axiom.MappingIntent.getRecording() != Axiom.MappingIntent.Recording.NONE; // read once
+        List<Axiom.MappingIntent> intents = recorded ? new ArrayList<>() : Collections.emptyList();
+        if ( ! parallel || readings.size() < 2 || OntologyLock.isWritingOnCurrentThread()) {
+            for ( Supplier<List<Axiom.MappingIntent>> r : readings) {
+                List<Axiom.MappingIntent> read = r.get();
+                if ( recorded)
+                    intents.addAll( read);
+            }
+            return intents;
+        }
+
+        List<ForkJoinTask<List<Axiom.MappingIntent>>> tasks = new ArrayList<>( readings.size());
+        for ( Supplier<List<Axiom.MappingIntent>> r : readings)
+            tasks.add( ForkJoinTask.adapt( (Callable<List<Axiom.MappingIntent>>) r::get));
+        ForkJoinPool p = pool;
+        if ( ForkJoinTask.getPool() == p)
+            ForkJoinTask.invokeAll( tasks); // already in the pool (e.g.: descriptors of a batch)
+        else p.invoke( ForkJoinTask.adapt( (Runnable) () -> ForkJoinTask.invokeAll( tasks)));
+        for ( ForkJoinTask<List<Axiom.MappingIntent>> t : tasks) {
+            List<Axiom.MappingIntent> read = t.join();
+            if ( recorded)
+                intents.addAll( read);
+        }
+        return intents;
+    }
+}
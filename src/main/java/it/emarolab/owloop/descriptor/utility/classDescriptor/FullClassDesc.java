@@ -10,6 +10,8 @@ import it.emarolab.owloop.descriptor.utility.individualDescriptor.LinkIndividual
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -93,24 +95,32 @@ public class FullClassDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = EquivalentRestriction.super.readAxioms(); // call this before all
-        r.addAll( ClassExpression.Equivalent.super.readAxioms());
-        r.addAll( ClassExpression.Disjoint.super.readAxioms());
-        r.addAll( ClassExpression.Sub.super.readAxioms());
-        r.addAll( ClassExpression.Super.super.readAxioms());
-        r.addAll( Instance.super.readAxioms());
+        List<MappingIntent> restrictions = EquivalentRestriction.super.readAxioms(); // call this before all
+        List<MappingIntent> expressions = readExpressionAxioms(
+                ClassExpression.Equivalent.super::readAxioms,
+                ClassExpression.Disjoint.super::readAxioms,
+                ClassExpression.Sub.super::readAxioms,
+                ClassExpression.Super.super::readAxioms,
+                Instance.super::readAxioms
+        );
+        if ( MappingIntent.getRecording() == MappingIntent.Recording.NONE)
+            return Collections.emptyList(); // nothing is aggregated
+        List<MappingIntent> r = new ArrayList<>( restrictions.size() + expressions.size());
+        r.addAll( restrictions);
+        r.addAll( expressions);
         return r;
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ClassExpression.Super.super.writeAxioms();
-        r.addAll( EquivalentRestriction.super.writeAxioms());// call this before all and after super
-        r.addAll( ClassExpression.Equivalent.super.writeAxioms());
-        r.addAll( ClassExpression.Disjoint.super.writeAxioms());
-        r.addAll( ClassExpression.Sub.super.writeAxioms());
-        r.addAll( Instance.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                ClassExpression.Super.super::writeAxioms,
+                EquivalentRestriction.super::writeAxioms, // call this before all and after super
+                ClassExpression.Equivalent.super::writeAxioms,
+                ClassExpression.Disjoint.super::writeAxioms,
+                ClassExpression.Sub.super::writeAxioms,
+                Instance.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: Class and ClassExpression */
@@ -177,6 +187,17 @@ public class FullClassDesc
         return individuals;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        restrictions = copyEntitySet( restrictions);
+        disjointClasses = copyEntitySet( disjointClasses);
+        equivalentClasses = copyEntitySet( equivalentClasses);
+        subClasses = copyEntitySet( subClasses);
+        superClasses = copyEntitySet( superClasses);
+        individuals = copyEntitySet( individuals);
+    }
+
     /* Overriding method in class: Object */
 
 
@@ -69,16 +69,18 @@ public class HierarchicalClassDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = ClassExpression.Sub.super.readAxioms();
-        r.addAll( ClassExpression.Super.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                ClassExpression.Sub.super::readAxioms,
+                ClassExpression.Super.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ClassExpression.Sub.super.writeAxioms();
-        r.addAll( ClassExpression.Super.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                ClassExpression.Sub.super::writeAxioms,
+                ClassExpression.Super.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: Class and ClassExpression */
@@ -106,6 +108,13 @@ public class HierarchicalClassDesc
         return superClasses;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        subClasses = copyEntitySet( subClasses);
+        superClasses = copyEntitySet( superClasses);
+    }
+
     /* Overriding method in class: Object */
 
 
@@ -66,7 +66,7 @@ public class InstanceClassDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        return Instance.super.readAxioms();
+        return readExpressionAxioms( Instance.super::readAxioms);
     }
     // To write axioms to an ontology
     @Override
@@ -88,6 +88,12 @@ public class InstanceClassDesc
         return individuals;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        individuals = copyEntitySet( individuals);
+    }
+
     /* Overriding method in class: Object */
 
 
@@ -78,20 +78,22 @@ public class RestrictionClassDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = ClassExpression.Disjoint.super.readAxioms();
-        r.addAll( ClassExpression.Equivalent.super.readAxioms());
-        r.addAll( EquivalentRestriction.super.readAxioms());
-        r.addAll( Instance.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                ClassExpression.Disjoint.super::readAxioms,
+                ClassExpression.Equivalent.super::readAxioms,
+                EquivalentRestriction.super::readAxioms,
+                Instance.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ClassExpression.Disjoint.super.writeAxioms();
-        r.addAll( ClassExpression.Equivalent.super.writeAxioms());
-        r.addAll( EquivalentRestriction.super.writeAxioms());
-        r.addAll( Instance.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                ClassExpression.Disjoint.super::writeAxioms,
+                ClassExpression.Equivalent.super::writeAxioms,
+                EquivalentRestriction.super::writeAxioms,
+                Instance.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: Class and ClassExpression */
@@ -136,6 +138,15 @@ public class RestrictionClassDesc
         return individuals;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        disjointClasses = copyEntitySet( disjointClasses);
+        equivalentClasses = copyEntitySet( equivalentClasses);
+        restrictions = copyEntitySet( restrictions);
+        individuals = copyEntitySet( individuals);
+    }
+
     /* Overriding method in class: Object */
 
 
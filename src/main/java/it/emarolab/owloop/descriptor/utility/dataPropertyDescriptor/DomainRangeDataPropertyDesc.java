@@ -69,16 +69,18 @@ public class DomainRangeDataPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Domain.super.readAxioms();
-        r.addAll( DataPropertyExpression.Range.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                DataPropertyExpression.Domain.super::readAxioms,
+                DataPropertyExpression.Range.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Range.super.writeAxioms();
-        r.addAll( DataPropertyExpression.Domain.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                DataPropertyExpression.Range.super::writeAxioms,
+                DataPropertyExpression.Domain.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: DataProperty and DataPropertyExpression */
@@ -95,6 +97,13 @@ public class DomainRangeDataPropertyDesc
         return rangeRestrictions;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        domainRestrictions = copyEntitySet( domainRestrictions);
+        rangeRestrictions = copyEntitySet( rangeRestrictions);
+    }
+
     /* Overriding method in class: Object */
 
 
@@ -82,24 +82,26 @@ public class FullDataPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Disjoint.super.readAxioms();
-        r.addAll( DataPropertyExpression.Equivalent.super.readAxioms());
-        r.addAll( DataPropertyExpression.Range.super.readAxioms());
-        r.addAll( DataPropertyExpression.Domain.super.readAxioms());
-        r.addAll( DataPropertyExpression.Sub.super.readAxioms());
-        r.addAll( DataPropertyExpression.Super.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                DataPropertyExpression.Disjoint.super::readAxioms,
+                DataPropertyExpression.Equivalent.super::readAxioms,
+                DataPropertyExpression.Range.super::readAxioms,
+                DataPropertyExpression.Domain.super::readAxioms,
+                DataPropertyExpression.Sub.super::readAxioms,
+                DataPropertyExpression.Super.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Disjoint.super.writeAxioms();
-        r.addAll( DataPropertyExpression.Equivalent.super.writeAxioms());
-        r.addAll( DataPropertyExpression.Range.super.writeAxioms());
-        r.addAll( DataPropertyExpression.Domain.super.writeAxioms());
-        r.addAll( DataPropertyExpression.Sub.super.writeAxioms());
-        r.addAll( DataPropertyExpression.Super.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                DataPropertyExpression.Disjoint.super::writeAxioms,
+                DataPropertyExpression.Equivalent.super::writeAxioms,
+                DataPropertyExpression.Range.super::writeAxioms,
+                DataPropertyExpression.Domain.super::writeAxioms,
+                DataPropertyExpression.Sub.super::writeAxioms,
+                DataPropertyExpression.Super.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: DataProperty and DataPropertyExpression --*/
@@ -161,6 +163,17 @@ public class FullDataPropertyDesc
         return superDataProperties;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        disjointDataProperties = copyEntitySet( disjointDataProperties);
+        equivalentDataProperties = copyEntitySet( equivalentDataProperties);
+        subDataProperties = copyEntitySet( subDataProperties);
+        superDataProperties = copyEntitySet( superDataProperties);
+        domainRestrictions = copyEntitySet( domainRestrictions);
+        rangeRestrictions = copyEntitySet( rangeRestrictions);
+    }
+
     /* Overriding method in class: Object */
 
 
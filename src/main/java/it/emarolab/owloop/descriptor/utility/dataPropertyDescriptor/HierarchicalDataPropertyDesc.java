@@ -68,16 +68,18 @@ public class HierarchicalDataPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Sub.super.readAxioms();
-        r.addAll( DataPropertyExpression.Super.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                DataPropertyExpression.Sub.super::readAxioms,
+                DataPropertyExpression.Super.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Sub.super.writeAxioms();
-        r.addAll( DataPropertyExpression.Super.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                DataPropertyExpression.Sub.super::writeAxioms,
+                DataPropertyExpression.Super.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: DataProperty and DataPropertyExpression */
@@ -105,6 +107,13 @@ public class HierarchicalDataPropertyDesc
         return superDataProperties;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        subDataProperties = copyEntitySet( subDataProperties);
+        superDataProperties = copyEntitySet( superDataProperties);
+    }
+
     /* Overriding method in class: Object */
 
 
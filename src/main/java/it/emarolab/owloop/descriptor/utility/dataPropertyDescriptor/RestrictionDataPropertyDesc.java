@@ -69,16 +69,18 @@ public class RestrictionDataPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Disjoint.super.readAxioms();
-        r.addAll( DataPropertyExpression.Equivalent.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                DataPropertyExpression.Disjoint.super::readAxioms,
+                DataPropertyExpression.Equivalent.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = DataPropertyExpression.Disjoint.super.writeAxioms();
-        r.addAll( DataPropertyExpression.Equivalent.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                DataPropertyExpression.Disjoint.super::writeAxioms,
+                DataPropertyExpression.Equivalent.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: DataProperty and DataPropertyExpression */
@@ -106,6 +108,13 @@ public class RestrictionDataPropertyDesc
         return equivalentDataProperties;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        disjointDataProperties = copyEntitySet( disjointDataProperties);
+        equivalentDataProperties = copyEntitySet( equivalentDataProperties);
+    }
+
     /* Overriding method in class: Object */
 
 
@@ -0,0 +1,397 @@
+package it.emarolab.owloop.descriptor.utility.individualDescriptor;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.*;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.*;
+
+/**
+ * This class is a compact and immutable copy of the internal state of a {@link FullIndividualDesc}.
+ * <p>
+ *     It is created by {@link FullIndividualDesc#freeze()}, and it stores the types, the disjoint and equivalent
+ *     individuals as sorted arrays, while the object and data links are flattened in a sorted array of
+ *     properties, an array of offsets, and an array with the values of all the properties.
+ *     Therefore, it does not require a {@link HashSet} for each set (and for the values of each link),
+ *     which is convenient to keep many descriptors in memory (e.g.: as a world model) that are only read.
+ *     Empty sets share the same array.
+ * </p>
+ * <p>
+ *     It provides the same getters of {@link FullIndividualDesc} (e.g.: {@link #getTypes()},
+ *     {@link #getIndividualsFromObjectProperty(OWLObjectProperty)} and {@link #getLiteralFromDataProperty(OWLDataProperty)})
+ *     but they return unmodifiable sets, where {@link Set#contains(Object)} is performed through a binary search.
+ *     It does not read nor write the ontology, use {@link #thaw()} to get a mutable descriptor with the same state.
+ *     Since it is immutable, it can be shared among threads.
+ * </p>
+ *
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.utility.individualDescriptor.FrozenIndividualDesc <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public final class FrozenIndividualDesc {
+
+    private static final OWLObject[] EMPTY = new OWLObject[ 0];
+    private static final int[] NO_OFFSETS = { 0};
+
+    // the bits of the singleton flags of the sets
+    private static final int DISJOINT = 1, EQUIVALENT = 2, TYPES = 4, OBJECT_LINKS = 8, DATA_LINKS = 16;
+
+    private final OWLReferences ontology;
+    private final OWLNamedIndividual instance;
+    private final int singletons;
+
+    private final OWLObject[] disjointIndividuals, equivalentIndividuals, types;
+    // the values of the i-th property are in [offsets[i], offsets[i+1]) of the values array
+    private final OWLObject[] objectProperties, objectValues, dataProperties, dataValues;
+    private final int[] objectOffsets, dataOffsets;
+    // the singleton flags of the values of each property, null if there are not singleton values
+    private final BitSet objectSingletons, dataSingletons;
+
+    // use FullIndividualDesc.freeze() instead.
+    FrozenIndividualDesc(FullIndividualDesc descriptor) {
+        this.ontology = descriptor.getOntologyReference();
+        this.instance = descriptor.getGroundInstance();
+        this.disjointIndividuals = sorted( descriptor.getDisjointIndividuals());
+        this.equivalentIndividuals = sorted( descriptor.getEquivalentIndividuals());
+        this.types = sorted( descriptor.getTypes());
+        this.singletons = ( descriptor.getDisjointIndividuals().isSingleton() ? DISJOINT : 0) |
+                ( descriptor.getEquivalentIndividuals().isSingleton() ? EQUIVALENT : 0) |
+                ( descriptor.getTypes().isSingleton() ? TYPES : 0) |
+                ( descriptor.getObjectProperties().isSingleton() ? OBJECT_LINKS : 0) |
+                ( descriptor.getDataProperties().isSingleton() ? DATA_LINKS : 0);
+
+        List<ObjectLinks> objectLinks = sortedLinks( descriptor.getObjectProperties());
+        this.objectProperties = properties( objectLinks);
+        this.objectOffsets = offsets( objectLinks);
+        this.objectValues = values( objectLinks, objectOffsets);
+        this.objectSingletons = singletons( objectLinks);
+
+        List<DataLinks> dataLinks = sortedLinks( descriptor.getDataProperties());
+        this.dataProperties = properties( dataLinks);
+        this.dataOffsets = offsets( dataLinks);
+        this.dataValues = values( dataLinks, dataOffsets);
+        this.dataSingletons = singletons( dataLinks);
+    }
+
+    private static OWLObject[] sorted(Collection<? extends OWLObject> set){
+        if ( set.isEmpty())
+            return EMPTY;
+        OWLObject[] array = set.toArray( new OWLObject[ set.size()]);
+        Arrays.sort( array);
+        return array;
+    }
+    private static <X extends Axiom.ExpressionEntity<? extends OWLProperty, ?>> List<X> sortedLinks(Collection<X> links){
+        List<X> sorted = new ArrayList<>( links.size());
+        for ( X l : links) // links without values are not stored
+            if ( ! l.getValues().isEmpty())
+                sorted.add( l);
+        sorted.sort( (a, b) -> a.getExpression().compareTo( b.getExpression()));
+        return sorted;
+    }
+    private static OWLObject[] properties(List<? extends Axiom.ExpressionEntity<? extends OWLProperty, ?>> links){
+        if ( links.isEmpty())
+            return EMPTY;
+        OWLObject[] properties = new OWLObject[ links.size()];
+        for ( int i = 0; i < properties.length; i++)
+            properties[ i] = links.get( i).getExpression();
+        return properties;
+    }
+    private static int[] offsets(List<? extends Axiom.ExpressionEntity<?, ?>> links){
+        if ( links.isEmpty())
+            return NO_OFFSETS;
+        int[] offsets = new int[ links.size() + 1];
+        for ( int i = 0; i < links.size(); i++)
+            offsets[ i + 1] = offsets[ i] + links.get( i).getValues().size();
+        return offsets;
+    }
+    private static OWLObject[] values(List<? extends Axiom.ExpressionEntity<?, ? extends OWLObject>> links, int[] offsets){
+        if ( links.isEmpty())
+            return EMPTY;
+        OWLObject[] values = new OWLObject[ offsets[ links.size()]];
+        for ( int i = 0; i < links.size(); i++) {
+            int from = offsets[ i];
+            for ( OWLObject v : links.get( i).getValues())
+                values[ from++] = v;
+            Arrays.sort( values, offsets[ i], offsets[ i + 1]);
+        }
+        return values;
+    }
+    private static BitSet singletons(List<? extends Axiom.ExpressionEntity<?, ?>> links){
+        BitSet singletons = null;
+        for ( int i = 0; i < links.size(); i++)
+            if ( links.get( i).getValues().isSingleton()) {
+                if ( singletons == null)
+                    singletons = new BitSet( links.size());
+                singletons.set( i);
+            }
+        return singletons;
+    }
+
+    /**
+     * Creates a new mutable descriptor, with the same ground and the same internal state of this object.
+     * The ontology is not read, thus the returned descriptor can be modified and written
+     * (see {@link FullIndividualDesc#writeAxioms()}) as usual.
+     * @return a new descriptor with the state of the descriptor that has been frozen.
+     */
+    public FullIndividualDesc thaw(){
+        FullIndividualDesc descriptor = new FullIndividualDesc( instance, ontology);
+        thaw( disjointIndividuals, descriptor.getDisjointIndividuals(), DISJOINT);
+        thaw( equivalentIndividuals, descriptor.getEquivalentIndividuals(), EQUIVALENT);
+        thaw( types, descriptor.getTypes(), TYPES);
+        descriptor.getObjectProperties().setSingleton( ( singletons & OBJECT_LINKS) != 0);
+        for ( int i = 0; i < objectProperties.length; i++) {
+            ObjectLinks link = new ObjectLinks( (OWLObjectProperty) objectProperties[ i], getObjectValues( i));
+            link.getValues().setSingleton( objectSingletons != null && objectSingletons.get( i));
+            descriptor.getObjectProperties().add( link);
+        }
+        descriptor.getDataProperties().setSingleton( ( singletons & DATA_LINKS) != 0);
+        for ( int i = 0; i < dataProperties.length; i++) {
+            DataLinks link = new DataLinks( (OWLDataProperty) dataProperties[ i], getDataValues( i));
+            link.getValues().setSingleton( dataSingletons != null && dataSingletons.get( i));
+            descriptor.getDataProperties().add( link);
+        }
+        return descriptor;
+    }
+    private <T> void thaw(OWLObject[] frozen, Axiom.EntitySet<T> set, int singleton){
+        set.addAll( new SortedArraySet<>( frozen, 0, frozen.length));
+        set.setSingleton( ( singletons & singleton) != 0);
+    }
+
+    /**
+     * @return the ontology of the descriptor that has been frozen.
+     */
+    public OWLReferences getOntologyReference() {
+        return ontology;
+    }
+    /**
+     * @return the ground instance of the descriptor that has been frozen.
+     */
+    public OWLNamedIndividual getGroundInstance() {
+        return instance;
+    }
+    /**
+     * @return the name of the ground instance of the descriptor that has been frozen.
+     */
+    public String getGroundInstanceName() {
+        return ontology.getOWLObjectName( instance);
+    }
+
+    /**
+     * @return the frozen {@link FullIndividualDesc#getDisjointIndividuals()}.
+     */
+    public Set<OWLNamedIndividual> getDisjointIndividuals() {
+        return new SortedArraySet<>( disjointIndividuals, 0, disjointIndividuals.length);
+    }
+    /**
+     * @return the frozen {@link FullIndividualDesc#getEquivalentIndividuals()}.
+     */
+    public Set<OWLNamedIndividual> getEquivalentIndividuals() {
+        return new SortedArraySet<>( equivalentIndividuals, 0, equivalentIndividuals.length);
+    }
+    /**
+     * @return the frozen {@link FullIndividualDesc#getTypes()}.
+     */
+    public Set<OWLClass> getTypes() {
+        return new SortedArraySet<>( types, 0, types.length);
+    }
+
+    /**
+     * @return the object properties of the frozen {@link FullIndividualDesc#getObjectProperties()}.
+     */
+    public Set<OWLObjectProperty> getObjectProperties() {
+        return new SortedArraySet<>( objectProperties, 0, objectProperties.length);
+    }
+    /**
+     * @param instance the object property to look for its values.
+     * @return all the values of the given object property. An {@code empty} set if is not available.
+     */
+    public Set<OWLNamedIndividual> getIndividualsFromObjectProperty(OWLObjectProperty instance){
+        return getObjectValues( Arrays.binarySearch( objectProperties, instance));
+    }
+    /**
+     * @param objectPropertyName the name of the object property to look for its values.
+     * @return all the values of the given object property. An {@code empty} set if is not available.
+     */
+    public Set<OWLNamedIndividual> getIndividualsFromObjectProperty(String objectPropertyName){
+        return getIndividualsFromObjectProperty( ontology.getOWLObjectProperty( objectPropertyName));
+    }
+    /**
+     * @param instance the object property to look for its values.
+     * @return a value of the given object property. {@code Null} if is not available.
+     */
+    public OWLNamedIndividual getIndividualFromObjectProperty(OWLObjectProperty instance){
+        return first( getIndividualsFromObjectProperty( instance));
+    }
+    /**
+     * @param objectPropertyName the name of the object property to look for its values.
+     * @return a value of the given object property. {@code Null} if is not available.
+     */
+    public OWLNamedIndividual getIndividualFromObjectProperty(String objectPropertyName){
+        return getIndividualFromObjectProperty( ontology.getOWLObjectProperty( objectPropertyName));
+    }
+    private Set<OWLNamedIndividual> getObjectValues(int idx){
+        if ( idx < 0)
+            return Collections.emptySet();
+        return new SortedArraySet<>( objectValues, objectOffsets[ idx], objectOffsets[ idx + 1]);
+    }
+
+    /**
+     * @return the data properties of the frozen {@link FullIndividualDesc#getDataProperties()}.
+     */
+    public Set<OWLDataProperty> getDataProperties() {
+        return new SortedArraySet<>( dataProperties, 0, dataProperties.length);
+    }
+    /**
+     * @param instance the data property to look for its values.
+     * @return all the values of the given data property. An {@code empty} set if is not available.
+     */
+    public Set<OWLLiteral> getLiteralsFromDataProperty(OWLDataProperty instance){
+        return getDataValues( Arrays.binarySearch( dataProperties, instance));
+    }
+    /**
+     * @param dataPropertyName the name of the data property to look for its values.
+     * @return all the values of the given data property. An {@code empty} set if is not available.
+     */
+    public Set<OWLLiteral> getLiteralsFromDataProperty(String dataPropertyName){
+        return getLiteralsFromDataProperty( ontology.getOWLDataProperty( dataPropertyName));
+    }
+    /**
+     * @param instance the data property to look for its values.
+     * @return a value of the given data property. {@code Null} if is not available.
+     */
+    public OWLLiteral getLiteralFromDataProperty(OWLDataProperty instance){
+        return first( getLiteralsFromDataProperty( instance));
+    }
+    /**
+     * @param dataPropertyName the name of the data property to look for its values.
+     * @return a value of the given data property. {@code Null} if is not available.
+     */
+    public OWLLiteral getLiteralFromDataProperty(String dataPropertyName){
+        return getLiteralFromDataProperty( ontology.getOWLDataProperty( dataPropertyName));
+    }
+    private Set<OWLLiteral> getDataValues(int idx){
+        if ( idx < 0)
+            return Collections.emptySet();
+        return new SortedArraySet<>( dataValues, dataOffsets[ idx], dataOffsets[ idx + 1]);
+    }
+
+    private static <T> T first(Set<T> values){
+        if ( values.size() > 1)
+            System.out.println( " !![WARNING] Uncertainty in the element that is returned, if there is more than 1 element in the EntitySet: " + values);
+        for ( T v : values)
+            return v;
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if ( this == o) return true;
+        if ( !( o instanceof FrozenIndividualDesc)) return false;
+        FrozenIndividualDesc that = (FrozenIndividualDesc) o;
+        return singletons == that.singletons &&
+                Objects.equals( ontology, that.ontology) &&
+                Objects.equals( instance, that.instance) &&
+                Arrays.equals( disjointIndividuals, that.disjointIndividuals) &&
+                Arrays.equals( equivalentIndividuals, that.equivalentIndividuals) &&
+                Arrays.equals( types, that.types) &&
+                Arrays.equals( objectProperties, that.objectProperties) &&
+                Arrays.equals( objectOffsets, that.objectOffsets) &&
+                Arrays.equals( objectValues, that.objectValues) &&
+                Objects.equals( objectSingletons, that.objectSingletons) &&
+                Arrays.equals( dataProperties, that.dataProperties) &&
+                Arrays.equals( dataOffsets, that.dataOffsets) &&
+                Arrays.equals( dataValues, that.dataValues) &&
+                Objects.equals( dataSingletons, that.dataSingletons);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hash( ontology, instance);
+        result = 31 * result + Arrays.hashCode( types);
+        result = 31 * result + Arrays.hashCode( objectValues);
+        result = 31 * result + Arrays.hashCode( dataValues);
+        return result;
+    }
+
+    // To show internal state of the Descriptor
+    @Override
+    public String toString() {
+        StringBuilder objectLinks = new StringBuilder( "{");
+        for ( int i = 0; i < objectProperties.length; i++)
+            objectLinks.append( i == 0 ? "" : ", ").append( ontology.getOWLObjectName( objectProperties[ i]))
+                    .append( getObjectValues( i));
+        StringBuilder dataLinks = new StringBuilder( "{");
+        for ( int i = 0; i < dataProperties.length; i++)
+            dataLinks.append( i == 0 ? "" : ", ").append( ontology.getOWLObjectName( dataProperties[ i]))
+                    .append( getDataValues( i));
+        return getClass().getSimpleName() + "{" + "\n" +
+                "\n" +
+                "\t" + getGroundInstanceName() + ":" + "\n" +
+                "\n" +
+                "\t\t≠ " + getDisjointIndividuals() + "\n" +
+                "\t\t≡ " + getEquivalentIndividuals() + "\n" +
+                "\t\t∈ " + getTypes() + "\n" +
+                "\t\t⊨ " + objectLinks.append( "}") + "\n" +
+                "\t\t⊢ " + dataLinks.append( "}") + "\n" +
+                "}" + "\n";
+    }
+
+    // an unmodifiable view of a sorted range of an array.
+    private static class SortedArraySet<T> extends AbstractSet<T> {
+
+        private final OWLObject[] array;
+        private final int from, to;
+
+        private SortedArraySet(OWLObject[] array, int from, int to) {
+            this.array = array;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if ( !( o instanceof OWLObject))
+                return false;
+            return Arrays.binarySearch( array, from, to, o) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private int next = from;
+
+                @Override
+                public boolean hasNext() {
+                    return next < to;
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public T next() {
+                    if ( next >= to)
+                        throw new NoSuchElementException();
+                    return (T) array[ next++];
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder out = new StringBuilder( "{");
+            for ( int i = from; i < to; i++)
+                out.append( i == from ? "" : ", ").append( OWLReferencesInterface.getOWLName( array[ i]));
+            return out.append( "}").toString();
+        }
+    }
+}
@@ -81,22 +81,24 @@ public class FullIndividualDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = IndividualExpression.Equivalent.super.readAxioms();
-        r.addAll( IndividualExpression.Disjoint.super.readAxioms());
-        r.addAll( IndividualExpression.Type.super.readAxioms());
-        r.addAll( IndividualExpression.ObjectLink.super.readAxioms());
-        r.addAll( IndividualExpression.DataLink.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                IndividualExpression.Equivalent.super::readAxioms,
+                IndividualExpression.Disjoint.super::readAxioms,
+                IndividualExpression.Type.super::readAxioms,
+                IndividualExpression.ObjectLink.super::readAxioms,
+                IndividualExpression.DataLink.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = IndividualExpression.Equivalent.super.writeAxioms();
-        r.addAll( IndividualExpression.Disjoint.super.writeAxioms());
-        r.addAll( IndividualExpression.Type.super.writeAxioms());
-        r.addAll( IndividualExpression.ObjectLink.super.writeAxioms());
-        r.addAll( IndividualExpression.DataLink.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                IndividualExpression.Equivalent.super::writeAxioms,
+                IndividualExpression.Disjoint.super::writeAxioms,
+                IndividualExpression.Type.super::writeAxioms,
+                IndividualExpression.ObjectLink.super::writeAxioms,
+                IndividualExpression.DataLink.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: Individual and IndividualExpression */
@@ -157,6 +159,26 @@ public class FullIndividualDesc
         return dataLinks;
     }
 
+    /**
+     * Creates a compact and immutable copy of the internal state of this descriptor, to be kept in memory
+     * while it is only read. Use {@link FrozenIndividualDesc#thaw()} to get back a mutable descriptor.
+     * Note that the state is copied as it is, i.e.: the ontology is not read.
+     * @return the frozen state of this descriptor.
+     */
+    public FrozenIndividualDesc freeze(){
+        return new FrozenIndividualDesc( this);
+    }
+
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        disjointIndividuals = copyEntitySet( disjointIndividuals);
+        equivalentIndividuals = copyEntitySet( equivalentIndividuals);
+        classes = copyEntitySet( classes);
+        objectLinks = copyEntitySet( objectLinks);
+        dataLinks = copyEntitySet( dataLinks);
+    }
+
     /* Overriding method in class: Object */
 
 
@@ -69,16 +69,18 @@ public class LinkIndividualDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = IndividualExpression.ObjectLink.super.readAxioms();
-        r.addAll( IndividualExpression.DataLink.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                IndividualExpression.ObjectLink.super::readAxioms,
+                IndividualExpression.DataLink.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ObjectLink.super.writeAxioms();
-        r.addAll( DataLink.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                ObjectLink.super::writeAxioms,
+                DataLink.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: Individual and IndividualExpression */
@@ -106,6 +108,13 @@ public class LinkIndividualDesc
         return dataLinks;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        objectLinks = copyEntitySet( objectLinks);
+        dataLinks = copyEntitySet( dataLinks);
+    }
+
     /* Overriding method in class: Object */
 
 
@@ -69,16 +69,18 @@ public class RestrictionIndividualDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = IndividualExpression.Equivalent.super.readAxioms();
-        r.addAll( IndividualExpression.Disjoint.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                IndividualExpression.Equivalent.super::readAxioms,
+                IndividualExpression.Disjoint.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = IndividualExpression.Equivalent.super.writeAxioms();
-        r.addAll( IndividualExpression.Disjoint.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                IndividualExpression.Equivalent.super::writeAxioms,
+                IndividualExpression.Disjoint.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: Individual and IndividualExpression */
@@ -106,6 +108,13 @@ public class RestrictionIndividualDesc
         return equivalentIndividuals;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        disjointIndividuals = copyEntitySet( disjointIndividuals);
+        equivalentIndividuals = copyEntitySet( equivalentIndividuals);
+    }
+
     /* Overriding method in class: Object */
 
 
@@ -68,7 +68,7 @@ public class TypeIndividualDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        return IndividualExpression.Type.super.readAxioms();
+        return readExpressionAxioms( IndividualExpression.Type.super::readAxioms);
     }
     // To write axioms to an ontology
     @Override
@@ -90,6 +90,12 @@ public class TypeIndividualDesc
         return classes;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        classes = copyEntitySet( classes);
+    }
+
     /* Overriding method in class: Object */
 
 
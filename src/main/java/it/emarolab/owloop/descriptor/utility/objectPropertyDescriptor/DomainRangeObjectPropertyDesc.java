@@ -69,16 +69,18 @@ public class DomainRangeObjectPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Domain.super.readAxioms();
-        r.addAll( ObjectPropertyExpression.Range.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                ObjectPropertyExpression.Domain.super::readAxioms,
+                ObjectPropertyExpression.Range.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Domain.super.writeAxioms();
-        r.addAll( ObjectPropertyExpression.Range.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                ObjectPropertyExpression.Domain.super::writeAxioms,
+                ObjectPropertyExpression.Range.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: ObjectProperty and ObjectPropertyExpression */
@@ -97,6 +99,13 @@ public class DomainRangeObjectPropertyDesc
         return rangeRestrictions;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        domainRestrictions = copyEntitySet( domainRestrictions);
+        rangeRestrictions = copyEntitySet( rangeRestrictions);
+    }
+
     /* Overriding method in class: Object */
 
 
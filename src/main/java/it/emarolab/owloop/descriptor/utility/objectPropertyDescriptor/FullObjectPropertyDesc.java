@@ -85,26 +85,28 @@ public class FullObjectPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.readAxioms();
-        r.addAll( ObjectPropertyExpression.Equivalent.super.readAxioms());
-        r.addAll( ObjectPropertyExpression.Range.super.readAxioms());
-        r.addAll( ObjectPropertyExpression.Domain.super.readAxioms());
-        r.addAll( ObjectPropertyExpression.Sub.super.readAxioms());
-        r.addAll( ObjectPropertyExpression.Super.super.readAxioms());
-        r.addAll( ObjectPropertyExpression.Inverse.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                ObjectPropertyExpression.Disjoint.super::readAxioms,
+                ObjectPropertyExpression.Equivalent.super::readAxioms,
+                ObjectPropertyExpression.Range.super::readAxioms,
+                ObjectPropertyExpression.Domain.super::readAxioms,
+                ObjectPropertyExpression.Sub.super::readAxioms,
+                ObjectPropertyExpression.Super.super::readAxioms,
+                ObjectPropertyExpression.Inverse.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.writeAxioms();
-        r.addAll( ObjectPropertyExpression.Equivalent.super.writeAxioms());
-        r.addAll( ObjectPropertyExpression.Range.super.writeAxioms());
-        r.addAll( ObjectPropertyExpression.Domain.super.writeAxioms());
-        r.addAll( ObjectPropertyExpression.Sub.super.writeAxioms());
-        r.addAll( ObjectPropertyExpression.Super.super.writeAxioms());
-        r.addAll( ObjectPropertyExpression.Inverse.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                ObjectPropertyExpression.Disjoint.super::writeAxioms,
+                ObjectPropertyExpression.Equivalent.super::writeAxioms,
+                ObjectPropertyExpression.Range.super::writeAxioms,
+                ObjectPropertyExpression.Domain.super::writeAxioms,
+                ObjectPropertyExpression.Sub.super::writeAxioms,
+                ObjectPropertyExpression.Super.super::writeAxioms,
+                ObjectPropertyExpression.Inverse.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: ObjectProperty and ObjectPropertyExpression */
@@ -177,6 +179,18 @@ public class FullObjectPropertyDesc
         return inverseObjectProperties;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        disjointObjectProperties = copyEntitySet( disjointObjectProperties);
+        equivalentObjectProperties = copyEntitySet( equivalentObjectProperties);
+        inverseObjectProperties = copyEntitySet( inverseObjectProperties);
+        subObjectProperties = copyEntitySet( subObjectProperties);
+        superObjectProperties = copyEntitySet( superObjectProperties);
+        domainRestrictions = copyEntitySet( domainRestrictions);
+        rangeRestrictions = copyEntitySet( rangeRestrictions);
+    }
+
     /* Overriding method in class: Object */
 
 
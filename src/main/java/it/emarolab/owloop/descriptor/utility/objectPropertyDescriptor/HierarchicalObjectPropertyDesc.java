@@ -68,16 +68,18 @@ public class HierarchicalObjectPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Sub.super.readAxioms();
-        r.addAll( ObjectPropertyExpression.Super.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                ObjectPropertyExpression.Sub.super::readAxioms,
+                ObjectPropertyExpression.Super.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Sub.super.writeAxioms();
-        r.addAll( ObjectPropertyExpression.Super.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                ObjectPropertyExpression.Sub.super::writeAxioms,
+                ObjectPropertyExpression.Super.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: ObjectProperty and ObjectPropertyExpression */
@@ -105,6 +107,13 @@ public class HierarchicalObjectPropertyDesc
         return superObjectProperties;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        subObjectProperties = copyEntitySet( subObjectProperties);
+        superObjectProperties = copyEntitySet( superObjectProperties);
+    }
+
     /* Overriding method in class: Object */
 
 
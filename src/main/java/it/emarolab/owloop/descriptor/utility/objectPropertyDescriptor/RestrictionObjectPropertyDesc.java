@@ -72,18 +72,20 @@ public class RestrictionObjectPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.readAxioms();
-        r.addAll( ObjectPropertyExpression.Equivalent.super.readAxioms());
-        r.addAll( ObjectPropertyExpression.Inverse.super.readAxioms());
-        return r;
+        return readExpressionAxioms(
+                ObjectPropertyExpression.Disjoint.super::readAxioms,
+                ObjectPropertyExpression.Equivalent.super::readAxioms,
+                ObjectPropertyExpression.Inverse.super::readAxioms
+        );
     }
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
-        List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.writeAxioms();
-        r.addAll( ObjectPropertyExpression.Equivalent.super.writeAxioms());
-        r.addAll( ObjectPropertyExpression.Inverse.super.writeAxioms());
-        return r;
+        return writeExpressionAxioms(
+                ObjectPropertyExpression.Disjoint.super::writeAxioms,
+                ObjectPropertyExpression.Equivalent.super::writeAxioms,
+                ObjectPropertyExpression.Inverse.super::writeAxioms
+        );
     }
 
     /* Overriding methods in classes: ObjectProperty and ObjectPropertyExpression */
@@ -122,6 +124,14 @@ public class RestrictionObjectPropertyDesc
         return inverseObjectProperties;
     }
 
+    // To copy the internal state of the Descriptor, when it is written asynchronously
+    @Override
+    protected void copyEntitySets() {
+        disjointObjectProperties = copyEntitySet( disjointObjectProperties);
+        equivalentObjectProperties = copyEntitySet( equivalentObjectProperties);
+        inverseObjectProperties = copyEntitySet( inverseObjectProperties);
+    }
+
     /* Overriding method in class: Object */
 
 
@@ -0,0 +1,170 @@
+package it.emarolab.owloop.core;
+
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DescriptorEntitySet;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectLinkSet;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectLinks;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the differences computed by {@link Axiom.EntitySet.SynchronisationIntent}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.core.SynchronisationIntentTest <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class SynchronisationIntentTest {
+
+    private static final OWLDataFactory FACTORY = OWLManager.getOWLDataFactory();
+    private static final String IRI_PREFIX = "http://www.semanticweb.org/emaroLab/owloop/intentTest#";
+
+    @Test
+    public void diffTest() {
+        Axiom.EntitySet<String> local = set( "A", "B", "C"), queried = set( "B", "C", "D");
+
+        Axiom.EntitySet.SynchronisationIntent<String> read = local.synchroniseFrom( queried);
+        assertEquals( elements( "D"), read.getToAdd());
+        assertEquals( elements( "A"), read.getToRemove());
+        assertEquals( elements( "B", "C"), read.getUnchanged());
+
+        Axiom.EntitySet.SynchronisationIntent<String> write = local.synchroniseTo( queried);
+        assertEquals( elements( "A"), write.getToAdd());
+        assertEquals( elements( "D"), write.getToRemove());
+        assertEquals( elements( "B", "C"), write.getUnchanged());
+
+        assertEquals( set( "A", "B", "C"), local); // the inputs are not changed
+        assertEquals( set( "B", "C", "D"), queried);
+    }
+
+    @Test
+    public void emptyTest() {
+        Axiom.EntitySet<String> local = set( "A", "B");
+
+        Axiom.EntitySet.SynchronisationIntent<String> read = local.synchroniseFrom( null);
+        assertTrue( read.getToAdd().isEmpty());
+        assertEquals( elements( "A", "B"), read.getToRemove());
+        assertTrue( read.getUnchanged().isEmpty());
+
+        Axiom.EntitySet.SynchronisationIntent<String> write = local.synchroniseTo( set());
+        assertEquals( elements( "A", "B"), write.getToAdd());
+        assertTrue( write.getToRemove().isEmpty());
+
+        Axiom.EntitySet.SynchronisationIntent<String> none = set().synchroniseFrom( set());
+        assertTrue( none.getToAdd().isEmpty());
+        assertTrue( none.getToRemove().isEmpty());
+        assertTrue( none.getUnchanged().isEmpty());
+        assertSame( none.getToAdd(), write.getToRemove()); // the empty sets are shared
+    }
+
+    @Test
+    public void singletonTest() {
+        Axiom.EntitySet<String> local = set( "A");
+        local.setSingleton( true);
+        Axiom.EntitySet<String> queried = set( "A", "B");
+
+        Axiom.EntitySet.SynchronisationIntent<String> write = local.synchroniseTo( queried);
+        assertTrue( write.getToAdd().isEmpty());
+        assertEquals( elements( "B"), write.getToRemove());
+        assertEquals( elements( "A"), write.getUnchanged());
+
+        queried.setSingleton( true);
+        queried.remove( "A");
+        write = local.synchroniseTo( queried);
+        assertEquals( elements( "A"), write.getToAdd());
+        assertEquals( elements( "B"), write.getToRemove());
+        assertTrue( write.getUnchanged().isEmpty());
+    }
+
+    @Test
+    public void unmodifiableTest() {
+        Axiom.EntitySet.SynchronisationIntent<String> intent = set( "A", "B").synchroniseTo( set( "B", "C"));
+        for ( Set<String> bucket : Arrays.asList( intent.getToAdd(), intent.getToRemove(), intent.getUnchanged())) {
+            String element = bucket.iterator().next();
+            assertUnsupported( () -> bucket.add( "D"));
+            assertUnsupported( () -> bucket.remove( element));
+            assertUnsupported( bucket::clear);
+            assertUnsupported( () -> {
+                Iterator<String> i = bucket.iterator();
+                i.next();
+                i.remove();
+            });
+            assertEquals( 1, bucket.size());
+        }
+        assertUnsupported( () -> set().synchroniseTo( set()).getToAdd().add( "D")); // the shared empty set
+    }
+
+    @Test
+    public void copyEqualsTest() {
+        Axiom.EntitySet.SynchronisationIntent<String> intent = set( "A", "B").synchroniseTo( set( "B", "C"));
+        assertSame( intent, intent.copy()); // not modifiable, thus shared
+
+        Axiom.EntitySet.SynchronisationIntent<String> same = Axiom.EntitySet.SynchronisationIntent.of(
+                elements( "A"), elements( "C"), elements( "B"));
+        assertEquals( intent, same);
+        assertEquals( same, intent);
+        assertEquals( intent.hashCode(), same.hashCode());
+        assertNotEquals( intent, set( "A", "B").synchroniseFrom( set( "B", "C")));
+
+        Axiom.EntitySet.SynchronisationIntent<String> empty = Axiom.EntitySet.SynchronisationIntent.of(
+                new HashSet<>(), new HashSet<>(), new HashSet<>());
+        assertEquals( set().synchroniseTo( set()), empty);
+    }
+
+    @Test
+    public void expressionDiffTest() {
+        ObjectLinkSet local = new ObjectLinkSet( Collections.singleton( links( "hasPart", "A", "B")));
+        ObjectLinkSet queried = new ObjectLinkSet( Arrays.asList( links( "hasPart", "B", "C"), links( "isIn", "D")));
+
+        Axiom.EntitySet.SynchronisationIntent<ObjectLinks> read = local.synchroniseFrom( queried);
+        assertEquals( new HashSet<>( Arrays.asList( links( "hasPart", "C"), links( "isIn", "D"))), read.getToAdd());
+        assertEquals( Collections.singleton( links( "hasPart", "A")), read.getToRemove());
+        assertEquals( Collections.singleton( links( "hasPart", "B")), read.getUnchanged());
+        assertUnsupported( () -> read.getToAdd().clear());
+
+        Axiom.EntitySet.SynchronisationIntent<ObjectLinks> write = local.synchroniseTo( queried);
+        assertEquals( Collections.singleton( links( "hasPart", "A")), write.getToAdd());
+        assertEquals( new HashSet<>( Arrays.asList( links( "hasPart", "C"), links( "isIn", "D"))), write.getToRemove());
+        assertSame( write, write.copy());
+
+        Axiom.EntitySet.SynchronisationIntent<ObjectLinks> none = new ObjectLinkSet().synchroniseFrom( new ObjectLinkSet());
+        assertTrue( none.getToAdd().isEmpty());
+        assertTrue( none.getToRemove().isEmpty());
+        assertTrue( none.getUnchanged().isEmpty());
+    }
+
+    private static void assertUnsupported(Runnable modification){
+        try {
+            modification.run();
+            fail( "the intent should not be modifiable");
+        } catch ( UnsupportedOperationException e) {
+            // expected
+        }
+    }
+
+    private static Axiom.EntitySet<String> set(String... elements){
+        return new DescriptorEntitySet.EntitySetBase<>( Arrays.asList( elements));
+    }
+    private static Set<String> elements(String... elements){
+        return new HashSet<>( Arrays.asList( elements));
+    }
+
+    private static ObjectLinks links(String property, String... values){
+        OWLObjectProperty p = FACTORY.getOWLObjectProperty( IRI.create( IRI_PREFIX + property));
+        Set<OWLNamedIndividual> individuals = new HashSet<>();
+        for ( String v : values)
+            individuals.add( FACTORY.getOWLNamedIndividual( IRI.create( IRI_PREFIX + v)));
+        return new ObjectLinks( p, individuals);
+    }
+}
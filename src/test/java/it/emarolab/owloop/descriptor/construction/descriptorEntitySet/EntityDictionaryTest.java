@@ -0,0 +1,145 @@
+package it.emarolab.owloop.descriptor.construction.descriptorEntitySet;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the entity sets stored as bits of an {@link EntityDictionary}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorEntitySet.EntityDictionaryTest <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class EntityDictionaryTest {
+
+    private static final OWLDataFactory FACTORY = OWLManager.getOWLDataFactory();
+
+    @Test
+    public void setSemanticsTest() {
+        EntityDictionary dictionary = new EntityDictionary();
+        Classes bits = new Classes( dictionary, Collections.emptyList());
+        Classes hashed = new Classes();
+        for ( Classes set : Arrays.asList( bits, hashed)) {
+            assertTrue( set.add( owlClass( "A")));
+            assertTrue( set.add( owlClass( "B")));
+            assertFalse( set.add( owlClass( "A"))); // already in the set
+            assertTrue( set.remove( owlClass( "B")));
+            assertFalse( set.remove( owlClass( "B")));
+            assertFalse( set.remove( owlClass( "Unknown"))); // not in the dictionary
+            assertTrue( set.contains( owlClass( "A")));
+            assertFalse( set.contains( owlClass( "B")));
+            assertEquals( 1, set.size());
+        }
+        assertEquals( hashed, bits);
+        assertEquals( bits, hashed);
+        assertEquals( hashed.hashCode(), bits.hashCode());
+
+        bits.clear();
+        assertTrue( bits.isEmpty());
+        assertFalse( bits.contains( owlClass( "A")));
+        assertTrue( bits.add( owlClass( "A"))); // after clearing
+    }
+
+    @Test
+    public void iteratorTest() {
+        Classes set = new Classes( new EntityDictionary(), classes( "A", "B", "C", "D"));
+        for ( Iterator<OWLClass> i = set.iterator(); i.hasNext(); )
+            if ( i.next().equals( owlClass( "B")))
+                i.remove();
+        assertEquals( 3, set.size());
+        assertEquals( new HashSet<>( classes( "A", "C", "D")), set);
+        assertEquals( 3, set.toArray().length);
+        assertEquals( 3, set.toArray( new OWLClass[ 0]).length);
+    }
+
+    @Test
+    public void cloneTest() {
+        Classes set = new Classes( new EntityDictionary(), classes( "A", "B"));
+        set.setSingleton( true);
+        Classes copy = (Classes) set.clone();
+        set.add( owlClass( "C"));
+        copy.remove( owlClass( "A"));
+
+        assertEquals( new HashSet<>( classes( "A", "B", "C")), set);
+        assertEquals( new HashSet<>( classes( "B")), copy);
+        assertSame( set.getDictionary(), copy.getDictionary());
+        assertTrue( copy.isSingleton());
+    }
+
+    @Test
+    public void dictionaryChangeTest() {
+        Classes set = new Classes( classes( "A", "B"));
+        set.setDictionary( new EntityDictionary());
+        assertEquals( new HashSet<>( classes( "A", "B")), set);
+        set.setDictionary( null);
+        assertNull( set.getDictionary());
+        assertEquals( new HashSet<>( classes( "A", "B")), set);
+    }
+
+    @Test
+    public void denseSynchronisationTest() {
+        synchronisationTest( new EntityDictionary());
+    }
+
+    @Test
+    public void sparseSynchronisationTest() {
+        EntityDictionary dictionary = new EntityDictionary();
+        for ( int i = 0; i < 10 * DescriptorEntitySet.OWLEntitySetBase.SPARSENESS; i++)
+            dictionary.id( owlClass( "Other" + i)); // the identifiers of the sets below are high
+        synchronisationTest( dictionary);
+    }
+
+    @Test
+    public void releaseTest() {
+        OWLReferences ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "dictionaryTest", "src/test/resources/debug/dictionaryTest.owl",
+                "http://www.semanticweb.org/emaroLab/owloop/dictionaryTest", true);
+        EntityDictionary released = EntityDictionary.of( ontology);
+        assertSame( released, EntityDictionary.of( ontology)); // shared
+        DescriptorGroundInterface.release( ontology);
+        assertNotSame( released, EntityDictionary.of( ontology));
+    }
+
+    // the synchronisation of the sets in the dictionary is the same of the synchronisation of hashed sets
+    private static void synchronisationTest(EntityDictionary dictionary){
+        List<OWLClass> local = classes( "A", "B", "C"), queried = classes( "B", "C", "D");
+        Classes bitsLocal = new Classes( dictionary, local), bitsQueried = new Classes( dictionary, queried);
+        Classes hashedLocal = new Classes( local), hashedQueried = new Classes( queried);
+
+        Axiom.EntitySet.SynchronisationIntent<OWLClass> read = bitsLocal.synchroniseFrom( bitsQueried);
+        assertEquals( hashedLocal.synchroniseFrom( hashedQueried), read);
+        assertEquals( new HashSet<>( classes( "D")), read.getToAdd());
+        assertEquals( new HashSet<>( classes( "A")), read.getToRemove());
+        assertEquals( new HashSet<>( classes( "B", "C")), read.getUnchanged());
+
+        Axiom.EntitySet.SynchronisationIntent<OWLClass> write = bitsLocal.synchroniseTo( bitsQueried);
+        assertEquals( hashedLocal.synchroniseTo( hashedQueried), write);
+        assertEquals( new HashSet<>( classes( "A")), write.getToAdd());
+        assertEquals( new HashSet<>( classes( "D")), write.getToRemove());
+    }
+
+    private static OWLClass owlClass(String name){
+        return FACTORY.getOWLClass( IRI.create( "http://www.semanticweb.org/emaroLab/owloop/dictionaryTest#" + name));
+    }
+    private static List<OWLClass> classes(String... names){
+        List<OWLClass> classes = new ArrayList<>();
+        for ( String n : names)
+            classes.add( owlClass( n));
+        return classes;
+    }
+}
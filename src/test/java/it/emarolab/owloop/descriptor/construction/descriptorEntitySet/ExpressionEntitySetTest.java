@@ -0,0 +1,156 @@
+package it.emarolab.owloop.descriptor.construction.descriptorEntitySet;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the sets of {@link ObjectLinks} and {@link DataLinks} indexed by their property.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ExpressionEntitySetTest <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ExpressionEntitySetTest {
+
+    private static final OWLDataFactory FACTORY = OWLManager.getOWLDataFactory();
+    private static final String IRI_PREFIX = "http://www.semanticweb.org/emaroLab/owloop/expressionTest#";
+
+    @Test
+    public void addTest() {
+        ObjectLinkSet set = new ObjectLinkSet();
+        assertTrue( set.add( links( "hasPart", "A")));
+        assertTrue( set.add( links( "isIn", "B")));
+        assertTrue( set.add( links( "hasPart", "C"))); // merged with the previous values
+        assertFalse( set.add( links( "hasPart", "A"))); // already in the set
+        assertEquals( 2, set.size());
+        assertEquals( individuals( "A", "C"), set.getLinks( property( "hasPart")));
+        assertEquals( individual( "B"), set.getLink( property( "isIn")));
+        assertSame( set.getExpressionEntity( property( "hasPart")).getValues(), set.getLinks( property( "hasPart")));
+
+        ObjectLinks singleton = links( "hasPart", "D");
+        singleton.getValues().setSingleton( true);
+        assertTrue( set.add( singleton)); // it replaces the previous values
+        assertEquals( individuals( "D"), set.getLinks( property( "hasPart")));
+        assertEquals( 2, set.size());
+
+        assertNull( set.getExpressionEntity( property( "Unknown")));
+        assertNull( set.getLink( property( "Unknown")));
+        assertTrue( set.getLinks( property( "Unknown")).isEmpty());
+    }
+
+    @Test
+    public void removeTest() {
+        ObjectLinkSet set = new ObjectLinkSet( Arrays.asList( links( "hasPart", "A", "C"), links( "isIn", "B")));
+        assertTrue( set.remove( links( "hasPart", "A"))); // only the given values are removed
+        assertEquals( individuals( "C"), set.getLinks( property( "hasPart")));
+        assertEquals( 2, set.size());
+
+        assertTrue( set.remove( links( "hasPart", "C"))); // the same element is removed
+        assertNull( set.getExpressionEntity( property( "hasPart")));
+        assertEquals( 1, set.size());
+
+        assertTrue( set.remove( property( "isIn"))); // removed by property
+        assertFalse( set.remove( property( "isIn")));
+        assertFalse( set.remove( links( "Unknown", "A")));
+        assertTrue( set.isEmpty());
+
+        assertTrue( set.add( links( "isIn", "D"))); // added as a new element
+        assertEquals( individuals( "D"), set.getLinks( property( "isIn")));
+    }
+
+    @Test
+    public void clearTest() {
+        ObjectLinkSet set = new ObjectLinkSet( Arrays.asList( links( "hasPart", "A"), links( "isIn", "B")));
+        set.clear();
+        assertTrue( set.isEmpty());
+        assertNull( set.getExpressionEntity( property( "hasPart")));
+        assertTrue( set.add( links( "hasPart", "C"))); // after clearing
+        assertEquals( individuals( "C"), set.getLinks( property( "hasPart")));
+        assertEquals( 1, set.size());
+    }
+
+    @Test
+    public void iteratorTest() {
+        ObjectLinkSet set = new ObjectLinkSet( Arrays.asList( links( "hasPart", "A"), links( "isIn", "B"), links( "near", "C")));
+        for ( Iterator<ObjectLinks> i = set.iterator(); i.hasNext(); )
+            if ( i.next().getExpression().equals( property( "hasPart")))
+                i.remove();
+        assertEquals( 2, set.size());
+        assertNull( set.getExpressionEntity( property( "hasPart")));
+
+        assertTrue( set.retainAll( Collections.singleton( links( "isIn", "B")))); // through the iterator
+        assertEquals( 1, set.size());
+        assertNull( set.getExpressionEntity( property( "near")));
+        assertNotNull( set.getExpressionEntity( property( "isIn")));
+
+        assertTrue( set.add( links( "near", "D"))); // not merged with the removed element
+        assertEquals( individuals( "D"), set.getLinks( property( "near")));
+        assertEquals( 2, set.size());
+    }
+
+    @Test
+    public void cloneTest() {
+        ObjectLinkSet set = new ObjectLinkSet( Arrays.asList( links( "hasPart", "A"), links( "isIn", "B")));
+        set.setSingleton( true);
+        ObjectLinkSet copy = (ObjectLinkSet) set.clone();
+        assertEquals( set, copy);
+        assertTrue( copy.isSingleton());
+
+        assertTrue( copy.remove( property( "hasPart")));
+        assertTrue( copy.add( links( "near", "C")));
+        assertNotNull( set.getExpressionEntity( property( "hasPart")));
+        assertNull( set.getExpressionEntity( property( "near")));
+        assertNull( copy.getExpressionEntity( property( "hasPart")));
+        assertNotNull( copy.getExpressionEntity( property( "near")));
+        assertEquals( 2, set.size());
+        assertNotEquals( set, copy);
+    }
+
+    @Test
+    public void equalsTest() {
+        List<ObjectLinks> elements = Arrays.asList( links( "hasPart", "A"), links( "isIn", "B"));
+        ObjectLinkSet set = new ObjectLinkSet( elements);
+        assertEquals( new HashSet<>( elements), set);
+        assertEquals( set, new HashSet<>( elements));
+        assertEquals( new HashSet<>( elements).hashCode(), set.hashCode());
+        assertEquals( set, new ObjectLinkSet( set));
+    }
+
+    @Test
+    public void dataTest() {
+        OWLDataProperty hasName = FACTORY.getOWLDataProperty( IRI.create( IRI_PREFIX + "hasName"));
+        DataLinkSet set = new DataLinkSet();
+        assertTrue( set.add( new DataLinks( hasName, Collections.singleton( FACTORY.getOWLLiteral( "Pepper")))));
+        assertTrue( set.add( new DataLinks( hasName, Collections.singleton( FACTORY.getOWLLiteral( "Nao")))));
+        assertEquals( 1, set.size());
+        assertEquals( 2, set.getLinks( hasName).size());
+        assertTrue( set.remove( hasName));
+        assertTrue( set.isEmpty());
+        assertNull( set.getExpressionEntity( hasName));
+    }
+
+    private static OWLObjectProperty property(String name){
+        return FACTORY.getOWLObjectProperty( IRI.create( IRI_PREFIX + name));
+    }
+    private static OWLNamedIndividual individual(String name){
+        return FACTORY.getOWLNamedIndividual( IRI.create( IRI_PREFIX + name));
+    }
+    private static Set<OWLNamedIndividual> individuals(String... names){
+        Set<OWLNamedIndividual> individuals = new HashSet<>();
+        for ( String n : names)
+            individuals.add( individual( n));
+        return individuals;
+    }
+    private static ObjectLinks links(String property, String... values){
+        return new ObjectLinks( property( property), individuals( values));
+    }
+}
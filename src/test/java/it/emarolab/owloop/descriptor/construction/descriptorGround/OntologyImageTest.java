@@ -0,0 +1,100 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for saving and loading ontological images.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyImageTest <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologyImageTest {
+
+    private static OWLReferences ontology;
+    private static OWLAxiom inferred; // not asserted in the ontology
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @BeforeClass // called once before all @Test-s
+    public static void setUp() {
+        ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "imageTest", "src/test/resources/debug/imageTest.owl",
+                "http://www.semanticweb.org/emaroLab/owloop/imageTest", true);
+        OWLDataFactory factory = ontology.getOWLFactory();
+        OWLClass robot = ontology.getOWLClass( "Robot"), agent = ontology.getOWLClass( "Agent");
+        OWLNamedIndividual pepper = ontology.getOWLIndividual( "Pepper");
+        OWLObjectProperty holds = ontology.getOWLObjectProperty( "holds");
+        OWLDataProperty battery = ontology.getOWLDataProperty( "hasBattery");
+
+        Set<OWLAxiom> axioms = new HashSet<>();
+        axioms.add( factory.getOWLDeclarationAxiom( robot));
+        axioms.add( factory.getOWLDeclarationAxiom( agent));
+        axioms.add( factory.getOWLDeclarationAxiom( pepper));
+        axioms.add( factory.getOWLDeclarationAxiom( holds));
+        axioms.add( factory.getOWLDeclarationAxiom( battery));
+        axioms.add( factory.getOWLSubClassOfAxiom( robot, agent)); // by identifiers
+        axioms.add( factory.getOWLClassAssertionAxiom( robot, pepper));
+        axioms.add( factory.getOWLDataPropertyAssertionAxiom( battery, pepper, factory.getOWLLiteral( 0.5)));
+        axioms.add( factory.getOWLSubClassOfAxiom( robot, factory.getOWLObjectSomeValuesFrom( holds, factory.getOWLThing()))); // by syntax
+        axioms.add( factory.getOWLSubClassOfAxiom( agent, factory.getOWLThing(),
+                Collections.singleton( factory.getRDFSComment( "annotated")))); // by syntax
+        ontology.getOWLManager().addAxioms( ontology.getOWLOntology(), axioms);
+        inferred = factory.getOWLClassAssertionAxiom( agent, pepper);
+    }
+
+    @Test
+    public void roundTripTest() throws Exception {
+        String path = folder.newFile( "roundTrip.owlb").getPath();
+        assertTrue( OntologyImage.save( ontology, path, true));
+        OWLReferences loaded = OntologyImage.load( "imageRoundTrip", path);
+
+        assertNotNull( loaded);
+        assertEquals( ontology.getOWLOntology().getAxioms(), loaded.getOWLOntology().getAxioms());
+        assertFalse( loaded.getOWLOntology().containsAxiom( inferred)); // it is not asserted
+    }
+
+    @Test
+    public void assertedTest() throws Exception {
+        String path = folder.newFile( "asserted.owlb").getPath();
+        assertTrue( OntologyImage.save( ontology, path, false));
+        OWLReferences loaded = OntologyImage.load( "imageAsserted", path);
+
+        assertNotNull( loaded);
+        assertEquals( ontology.getOWLOntology().getAxioms(), loaded.getOWLOntology().getAxioms());
+    }
+
+    @Test
+    public void snapshotTest() throws Exception {
+        String path = folder.newFile( "snapshot.owlb").getPath();
+        assertTrue( OntologyImage.save( ontology, path, true));
+        OntologySnapshot snapshot = OntologyImage.loadSnapshot( "imageSnapshot", path);
+
+        assertNotNull( snapshot);
+        try {
+            assertEquals( ontology.getOWLOntology().getAxioms(), snapshot.getLive().getOWLOntology().getAxioms());
+            assertFalse( snapshot.getLive().getOWLOntology().containsAxiom( inferred));
+            assertTrue( snapshot.getOntology().getOWLOntology().containsAxiom( inferred)); // served apart
+            assertTrue( snapshot.getOntology().getOWLOntology().getAxioms().containsAll( ontology.getOWLOntology().getAxioms()));
+        } finally {
+            snapshot.dispose();
+        }
+    }
+}
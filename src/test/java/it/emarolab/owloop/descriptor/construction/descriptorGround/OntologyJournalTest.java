@@ -0,0 +1,133 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for journaling the changes of an ontology.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyJournalTest <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologyJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void replayTest() throws Exception {
+        OWLReferences ontology = newOntology( "journalReplay");
+        String directory = folder.newFolder().getPath();
+        OntologyJournal journal = OntologyJournal.attach( ontology, directory);
+        assertNotNull( journal);
+        journal.setCompaction( 0, OntologyJournal.DEFAULT_COMPACTION_THRESHOLD);
+
+        assertion( ontology, "Robot", "Pepper", true);
+        assertion( ontology, "Robot", "Nao", true);
+        assertion( ontology, "Robot", "Nao", false);
+        assertTrue( journal.getRecords() >= 3);
+        journal.close();
+
+        OWLReferences loaded = OntologyJournal.load( "journalReplayLoaded", directory);
+        assertNotNull( loaded);
+        assertEquals( ontology.getOWLOntology().getAxioms(), loaded.getOWLOntology().getAxioms());
+        OntologyJournal.of( loaded).close();
+    }
+
+    @Test
+    public void tornRecordTest() throws Exception {
+        OWLReferences ontology = newOntology( "journalTorn");
+        String directory = folder.newFolder().getPath();
+        OntologyJournal journal = OntologyJournal.attach( ontology, directory);
+        assertNotNull( journal);
+        journal.setCompaction( 0, OntologyJournal.DEFAULT_COMPACTION_THRESHOLD);
+        assertion( ontology, "Robot", "Pepper", true);
+        journal.close();
+
+        // a record whose content has not been completely written when the process crashed
+        File[] segments = new File( directory).listFiles( (d, name) -> name.endsWith( ".log"));
+        assertNotNull( segments);
+        assertEquals( 1, segments.length);
+        try ( RandomAccessFile segment = new RandomAccessFile( segments[ 0], "rw")) {
+            int position = 8; // the segment header
+            segment.seek( position);
+            for ( int length = segment.readInt(); length > 0; length = segment.readInt()) {
+                position += 8 + ( length + 3) / 4 * 4;
+                segment.seek( position);
+            }
+            segment.seek( position);
+            segment.writeInt( (int) segment.length()); // longer than the segment
+            segment.writeInt( 1 | 4); // a committed addition
+            segment.writeInt( 0x4F574C42); // the beginning of an image
+        }
+
+        OWLReferences loaded = OntologyJournal.load( "journalTornLoaded", directory);
+        assertNotNull( loaded);
+        assertEquals( ontology.getOWLOntology().getAxioms(), loaded.getOWLOntology().getAxioms());
+        OntologyJournal.of( loaded).close();
+    }
+
+    @Test
+    public void compactionTest() throws Exception {
+        OWLReferences ontology = newOntology( "journalCompaction");
+        String directory = folder.newFolder().getPath();
+        OntologyJournal journal = OntologyJournal.attach( ontology, directory);
+        assertNotNull( journal);
+        journal.setCompaction( 0, OntologyJournal.DEFAULT_COMPACTION_THRESHOLD);
+        assertion( ontology, "Robot", "Pepper", true);
+        assertion( ontology, "Robot", "Nao", true);
+        assertTrue( journal.getJournaled() > 0);
+
+        assertTrue( journal.compact());
+        assertEquals( 1, journal.getCompactions());
+        assertEquals( 0, journal.getJournaled());
+        File[] segments = new File( directory).listFiles( (d, name) -> name.endsWith( ".log"));
+        assertNotNull( segments);
+        assertEquals( 1, segments.length); // the segment created by the compaction
+
+        assertion( ontology, "Robot", "Nao", false); // after the snapshot
+        journal.close();
+
+        OWLReferences loaded = OntologyJournal.load( "journalCompactionLoaded", directory);
+        assertNotNull( loaded);
+        assertEquals( ontology.getOWLOntology().getAxioms(), loaded.getOWLOntology().getAxioms());
+        OntologyJournal.of( loaded).close();
+    }
+
+    private static OWLReferences newOntology(String name){
+        OWLReferences ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                name, "src/test/resources/debug/" + name + ".owl",
+                "http://www.semanticweb.org/emaroLab/owloop/" + name, true);
+        OWLDataFactory factory = ontology.getOWLFactory();
+        Set<OWLAxiom> axioms = new HashSet<>();
+        axioms.add( factory.getOWLDeclarationAxiom( ontology.getOWLClass( "Robot")));
+        axioms.add( factory.getOWLSubClassOfAxiom( ontology.getOWLClass( "Robot"), ontology.getOWLClass( "Agent")));
+        ontology.getOWLManager().addAxioms( ontology.getOWLOntology(), axioms); // in the first snapshot
+        return ontology;
+    }
+
+    private static void assertion(OWLReferences ontology, String type, String individual, boolean add){
+        OWLAxiom axiom = ontology.getOWLFactory().getOWLClassAssertionAxiom(
+                ontology.getOWLClass( type), ontology.getOWLIndividual( individual));
+        if ( add)
+            ontology.getOWLManager().addAxiom( ontology.getOWLOntology(), axiom);
+        else ontology.getOWLManager().removeAxiom( ontology.getOWLOntology(), axiom);
+    }
+}
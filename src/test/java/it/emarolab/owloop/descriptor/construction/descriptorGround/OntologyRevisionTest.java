@@ -0,0 +1,77 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for skipping the reasoner synchronisations when the ontology did not change.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyRevisionTest <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologyRevisionTest {
+
+    private static OWLReferences ontology;
+
+    @BeforeClass // called once before all @Test-s
+    public static void setUp() {
+        ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "revisionTest", "src/test/resources/debug/revisionTest.owl",
+                "http://www.semanticweb.org/emaroLab/owloop/revisionTest", true);
+    }
+
+    @After // called after each @Test
+    public void tearDown() {
+        DescriptorGroundInterface.release( ontology);
+    }
+
+    @Test
+    public void skippingTest() {
+        OntologyRevision revision = OntologyRevision.of( ontology);
+        assertTrue( revision.reason()); // the first reasoning is never skipped
+        assertFalse( revision.isChanged());
+        assertFalse( revision.reason()); // nothing changed
+
+        assertion( "Robot", "Pepper");
+        assertTrue( revision.isChanged());
+        assertTrue( revision.reason());
+        assertEquals( revision.getRevision(), revision.getReasonedRevision());
+        assertFalse( revision.reason());
+
+        assertion( "Robot", "Pepper"); // already in the ontology
+        assertFalse( revision.reason());
+
+        revision.setIncremental( false);
+        assertTrue( revision.reason()); // never skipped
+    }
+
+    @Test
+    public void releaseTest() {
+        OntologyRevision released = OntologyRevision.of( ontology);
+        OntologyLock lock = OntologyLock.of( ontology);
+        DescriptorGroundInterface.release( ontology);
+
+        OntologyRevision revision = OntologyRevision.of( ontology);
+        assertNotSame( released, revision);
+        assertNotSame( lock, OntologyLock.of( ontology));
+        long count = released.getRevision();
+        assertion( "Robot", "Nao");
+        assertEquals( count, released.getRevision()); // its listener has been removed
+        assertTrue( revision.getRevision() > 0);
+    }
+
+    private static void assertion(String type, String individual){
+        ontology.getOWLManager().addAxiom( ontology.getOWLOntology(), ontology.getOWLFactory().getOWLClassAssertionAxiom(
+                ontology.getOWLClass( type), ontology.getOWLIndividual( individual)));
+    }
+}
@@ -0,0 +1,139 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ChangeCoalescing;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the asynchronous writing of descriptors.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyWriterTest <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class OntologyWriterTest {
+
+    private static OWLReferences ontology;
+    private static OntologyWriter writer;
+
+    @BeforeClass // called once before all @Test-s
+    public static void setUp() {
+        ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "writerTest", "src/test/resources/debug/writerTest.owl",
+                "http://www.semanticweb.org/emaroLab/owloop/writerTest", true);
+        writer = OntologyWriter.of( ontology);
+    }
+
+    @Test
+    public void mergingTest() throws Exception {
+        CountDownLatch busy = new CountDownLatch( 1);
+        writer.write( () -> { // keeps the writer busy while the descriptor is enqueued
+            try {
+                busy.await();
+            } catch ( InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new ArrayList<>();
+        });
+
+        FullIndividualDesc sensor = new FullIndividualDesc( "Sensor", ontology);
+        sensor.addTypeIndividual( "On");
+        CompletableFuture<List<Axiom.MappingIntent>> first = sensor.writeAxiomsAsync();
+        sensor.removeTypeIndividual( "On");
+        sensor.addTypeIndividual( "Off");
+        CompletableFuture<List<Axiom.MappingIntent>> second = sensor.writeAxiomsAsync();
+        sensor.addTypeIndividual( "Unwritten"); // after the last enqueueing
+        long eliminated = ChangeCoalescing.getEliminated();
+        busy.countDown();
+
+        assertSame( second.get( 10, TimeUnit.SECONDS), first.get( 10, TimeUnit.SECONDS)); // written once
+        assertEquals( eliminated + 1, ChangeCoalescing.getEliminated());
+        assertFalse( isAsserted( "Sensor", "On"));
+        assertTrue( isAsserted( "Sensor", "Off"));
+        assertFalse( isAsserted( "Sensor", "Unwritten"));
+    }
+
+    @Test
+    public void flushTest() {
+        List<Integer> performed = Collections.synchronizedList( new ArrayList<>());
+        for ( int i = 0; i < 100; i++) {
+            int n = i;
+            writer.write( () -> {
+                performed.add( n);
+                return new ArrayList<>();
+            });
+        }
+        writer.flush();
+        assertEquals( 0, writer.getPending());
+        assertEquals( 100, performed.size());
+        for ( int i = 0; i < 100; i++)
+            assertEquals( i, (int) performed.get( i));
+    }
+
+    @Test
+    public void failureTest() throws Exception {
+        CompletableFuture<List<Axiom.MappingIntent>> exception = writer.write( () -> {
+            throw new IllegalStateException( "failing writing");
+        });
+        CompletableFuture<List<Axiom.MappingIntent>> error = writer.write( () -> {
+            throw new Error( "failing writing");
+        });
+        CompletableFuture<List<Axiom.MappingIntent>> next = writer.write( ArrayList::new);
+
+        assertTrue( next.get( 10, TimeUnit.SECONDS).isEmpty()); // the writer is still running
+        assertFailure( exception, IllegalStateException.class);
+        assertFailure( error, Error.class);
+        writer.flush(); // it does not block
+        assertEquals( 0, writer.getPending());
+    }
+
+    @Test
+    public void copyStateTest() {
+        FullIndividualDesc robot = new FullIndividualDesc( "Robot", ontology);
+        robot.addTypeIndividual( "Agent");
+        robot.addObject( "holds", "Ball");
+        robot.addData( "hasBattery", 0.5, true);
+        DescriptorGround<?> copy = robot.copyState();
+        String copied = copy.toString();
+
+        robot.addTypeIndividual( "Machine"); // after copying
+        robot.addObject( "holds", "Cup");
+        robot.addData( "hasBattery", 0.4, true);
+        assertEquals( copied, copy.toString()); // the copy does not change
+        assertNotEquals( copied, robot.toString());
+        assertEquals( robot.getGround(), copy.getGround());
+        assertNotSame( robot.getGround(), copy.getGround());
+    }
+
+    private static boolean isAsserted(String individual, String type){
+        return ontology.getOWLOntology().containsAxiom( ontology.getOWLFactory().getOWLClassAssertionAxiom(
+                ontology.getOWLClass( type), ontology.getOWLIndividual( individual)));
+    }
+
+    private static void assertFailure(CompletableFuture<?> future, Class<? extends Throwable> cause) throws Exception {
+        try {
+            future.get( 10, TimeUnit.SECONDS);
+            fail( "the writing should fail");
+        } catch ( ExecutionException e) {
+            assertTrue( cause.isInstance( e.getCause()));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for debouncing the reasoner synchronisations.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.ReasoningSchedulerTest <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ReasoningSchedulerTest {
+
+    private static OWLReferences ontology;
+    private ReasoningScheduler scheduler;
+
+    @BeforeClass // called once before all @Test-s
+    public static void setUp() {
+        ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "schedulerTest", "src/test/resources/debug/schedulerTest.owl",
+                "http://www.semanticweb.org/emaroLab/owloop/schedulerTest", true);
+    }
+
+    @Before // called before each @Test
+    public void newScheduler() {
+        scheduler = ReasoningScheduler.of( ontology);
+    }
+
+    @After // called after each @Test
+    public void tearDown() {
+        DescriptorGroundInterface.release( ontology); // cancels the requests left by a test
+    }
+
+    @Test( timeout = 30000)
+    public void debouncingTest() throws Exception {
+        scheduler.setEnabled( true);
+        scheduler.setWindow( 500); // all the requests below are received within the window
+        int threads = 8;
+        long requests = scheduler.getRequests(), synchronisations = scheduler.getSynchronisations();
+
+        CountDownLatch start = new CountDownLatch( 1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> requesters = new ArrayList<>();
+        for ( int i = 0; i < threads; i++) {
+            Thread t = new Thread( () -> {
+                try {
+                    start.await();
+                    scheduler.reason();
+                } catch ( Throwable e) {
+                    failure.set( e);
+                }
+            });
+            t.start();
+            requesters.add( t);
+        }
+        start.countDown();
+        for ( Thread t : requesters)
+            t.join();
+
+        assertNull( failure.get());
+        assertEquals( requests + threads, scheduler.getRequests());
+        assertEquals( synchronisations + 1, scheduler.getSynchronisations()); // debounced
+        assertEquals( 0, scheduler.getQueueDepth());
+    }
+
+    @Test( timeout = 30000)
+    public void writeLockTest() {
+        scheduler.setEnabled( true);
+        scheduler.setWindow( TimeUnit.MINUTES.toMillis( 1)); // it would time out if requested
+        long requests = scheduler.getRequests();
+
+        OntologyLock.of( ontology).write( () -> scheduler.reason()); // synchronised directly
+        assertEquals( requests, scheduler.getRequests());
+    }
+
+    @Test( timeout = 30000)
+    public void readLockTest() {
+        scheduler.setEnabled( true);
+        long requests = scheduler.getRequests();
+        try {
+            OntologyLock.of( ontology).read( () -> {
+                scheduler.reason(); // it cannot take the write lock
+                return null;
+            });
+            fail( "the reasoner should not be synchronised while holding the read lock");
+        } catch ( IllegalStateException e) {
+            assertEquals( requests, scheduler.getRequests());
+        }
+    }
+
+    @Test( timeout = 30000)
+    public void interruptionTest() {
+        scheduler.setEnabled( true);
+        scheduler.setWindow( TimeUnit.MINUTES.toMillis( 1));
+        Thread.currentThread().interrupt();
+        try {
+            scheduler.reason();
+            fail( "an interrupted synchronisation should not return normally");
+        } catch ( IllegalStateException e) {
+            assertTrue( e.getCause() instanceof InterruptedException);
+        } finally {
+            assertTrue( Thread.interrupted()); // restored, and cleared for the next tests
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.InstanceClassDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.TypeIndividualDesc;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for coalescing the changes collected before being applied.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ChangeCoalescingTest <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ChangeCoalescingTest {
+
+    private static OWLReferences ontology;
+
+    @BeforeClass // called once before all @Test-s
+    public static void setUp() {
+        ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "coalescingTest", "src/test/resources/debug/coalescingTest.owl",
+                "http://www.semanticweb.org/emaroLab/owloop/coalescingTest", true);
+        ontology.getOWLManager().addAxiom( ontology.getOWLOntology(), assertion( "Robot", "Present"));
+    }
+
+    @Test
+    public void cancellationTest() {
+        OWLOntology onto = ontology.getOWLOntology();
+        OWLAxiom toggled = assertion( "Robot", "Toggled");
+        OWLAxiom repeated = assertion( "Robot", "Repeated");
+        List<OWLOntologyChange> changes = new ArrayList<>();
+        changes.add( new AddAxiom( onto, toggled));
+        changes.add( new RemoveAxiom( onto, toggled)); // cancels the addition out
+        changes.add( new AddAxiom( onto, repeated));
+        OWLOntologyChange last = new AddAxiom( onto, repeated); // the duplicate which is kept
+        changes.add( last);
+        changes.add( new AddAxiom( onto, assertion( "Robot", "Present"))); // already in the ontology
+
+        Set<OWLOntologyChange> eliminated = Collections.newSetFromMap( new IdentityHashMap<>());
+        long count = ChangeCoalescing.getEliminatedChanges();
+        List<OWLOntologyChange> coalesced = ChangeCoalescing.coalesce( changes, eliminated);
+
+        assertEquals( Collections.singletonList( last), coalesced);
+        assertSame( last, coalesced.get( 0));
+        assertEquals( 4, eliminated.size());
+        assertEquals( count + 4, ChangeCoalescing.getEliminatedChanges());
+        assertEquals( 5, changes.size()); // not modified
+    }
+
+    @Test
+    public void nothingRedundantTest() {
+        List<OWLOntologyChange> changes = new ArrayList<>();
+        changes.add( new AddAxiom( ontology.getOWLOntology(), assertion( "Robot", "Single")));
+        changes.add( new RemoveAxiom( ontology.getOWLOntology(), assertion( "Robot", "Present")));
+
+        Set<OWLOntologyChange> eliminated = Collections.newSetFromMap( new IdentityHashMap<>());
+        assertNull( ChangeCoalescing.coalesce( changes, eliminated));
+        assertTrue( eliminated.isEmpty());
+    }
+
+    @Test
+    public void collectedTest() {
+        TypeIndividualDesc pepper = new TypeIndividualDesc( "Pepper", ontology);
+        pepper.addTypeIndividual( "Robot");
+        InstanceClassDesc robot = new InstanceClassDesc( "Robot", ontology);
+        robot.addIndividual( "Pepper"); // the same axiom of the individual
+
+        List<Supplier<List<Axiom.MappingIntent>>> writings = new ArrayList<>();
+        writings.add( pepper::writeAxioms);
+        writings.add( robot::writeAxioms);
+        List<Axiom.MappingIntent> intents = CollectedWriting.collectAxioms( ontology, writings);
+
+        int eliminated = 0;
+        for ( Axiom.MappingIntent i : intents)
+            eliminated += i.getEliminatedChanges();
+        assertEquals( 1, eliminated); // added once
+        assertTrue( ontology.getOWLOntology().containsAxiom( assertion( "Robot", "Pepper")));
+    }
+
+    private static OWLAxiom assertion(String type, String individual){
+        return ontology.getOWLFactory().getOWLClassAssertionAxiom(
+                ontology.getOWLClass( type), ontology.getOWLIndividual( individual));
+    }
+}
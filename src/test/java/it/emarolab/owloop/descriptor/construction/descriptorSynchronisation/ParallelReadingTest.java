@@ -0,0 +1,107 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.TypeIndividualDesc;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for reading descriptors in parallel while the ontology is written.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ParallelReadingTest <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class ParallelReadingTest {
+
+    private static final int INDIVIDUALS = 40;
+    private static OWLReferences ontology;
+
+    @BeforeClass // called once before all @Test-s
+    public static void setUp() {
+        ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "parallelTest", "src/test/resources/debug/parallelTest.owl",
+                "http://www.semanticweb.org/emaroLab/owloop/parallelTest", true);
+        OWLDataFactory factory = ontology.getOWLFactory();
+        Set<OWLAxiom> axioms = new HashSet<>();
+        axioms.add( factory.getOWLSubClassOfAxiom( ontology.getOWLClass( "Robot"), ontology.getOWLClass( "Agent")));
+        axioms.add( factory.getOWLSubClassOfAxiom( ontology.getOWLClass( "Human"), ontology.getOWLClass( "Agent")));
+        for ( int i = 0; i < INDIVIDUALS; i++)
+            axioms.add( factory.getOWLClassAssertionAxiom( ontology.getOWLClass( i % 2 == 0 ? "Robot" : "Human"),
+                    ontology.getOWLIndividual( "Agent" + i)));
+        ontology.getOWLManager().addAxioms( ontology.getOWLOntology(), axioms);
+        ontology.synchronizeReasoner();
+    }
+
+    @After // called after each @Test
+    public void tearDown() {
+        ParallelReading.setParallel( false);
+    }
+
+    @Test
+    public void concurrentWritingTest() throws Exception {
+        List<FullIndividualDesc> sequential = read(); // not parallel
+
+        AtomicBoolean writing = new AtomicBoolean( true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = new Thread( () -> { // changes an individual that is not read
+            try {
+                TypeIndividualDesc noise = new TypeIndividualDesc( "Noise", ontology);
+                for ( int n = 0; writing.get(); n++) {
+                    noise.getTypes().clear();
+                    noise.addTypeIndividual( n % 2 == 0 ? "Robot" : "Human");
+                    noise.writeAxioms();
+                    noise.groundReason();
+                }
+            } catch ( Throwable t) {
+                failure.set( t);
+            }
+        });
+        writer.start();
+        try {
+            ParallelReading.setParallel( true);
+            for ( int round = 0; round < 10; round++) {
+                List<FullIndividualDesc> parallel = read();
+                for ( int i = 0; i < INDIVIDUALS; i++)
+                    assertEquals( sequential.get( i).getTypes(), parallel.get( i).getTypes());
+            }
+        } finally {
+            writing.set( false);
+            writer.join( TimeUnit.SECONDS.toMillis( 30));
+        }
+        assertNull( failure.get());
+        for ( FullIndividualDesc d : sequential)
+            assertTrue( d.getTypes().contains( ontology.getOWLClass( "Agent"))); // inferred
+    }
+
+    private static List<FullIndividualDesc> read(){
+        List<FullIndividualDesc> descriptors = new ArrayList<>();
+        DescriptorBatch batch = new DescriptorBatch();
+        for ( int i = 0; i < INDIVIDUALS; i++) {
+            FullIndividualDesc d = new FullIndividualDesc( "Agent" + i, ontology);
+            descriptors.add( d);
+            batch.add( d);
+        }
+        batch.readAxioms();
+        return descriptors;
+    }
+}
@@ -0,0 +1,78 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.TypeIndividualDesc;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for aggregating the intents with different recording details.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.RecordingTest <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         18/10/26 <br>
+ * </small></div>
+ */
+public class RecordingTest {
+
+    private static OWLReferences ontology;
+
+    @BeforeClass // called once before all @Test-s
+    public static void setUp() {
+        ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "recordingTest", "src/test/resources/debug/recordingTest.owl",
+                "http://www.semanticweb.org/emaroLab/owloop/recordingTest", true);
+    }
+
+    @After // called after each @Test
+    public void tearDown() {
+        Axiom.MappingIntent.setRecording( Axiom.MappingIntent.Recording.FULL);
+    }
+
+    @Test
+    public void noneTest() {
+        Axiom.MappingIntent.setRecording( Axiom.MappingIntent.Recording.NONE);
+        DescriptorBatch batch = batch( "Pepper", "Robot");
+        List<Axiom.MappingIntent> intents = batch.writeAxiomsReasonReadAxioms();
+        assertTrue( intents.isEmpty());
+        assertTrue( new FullClassDesc( "Robot", ontology).readAxioms().isEmpty());
+        try {
+            intents.add( null);
+            fail( "nothing should be aggregated");
+        } catch ( UnsupportedOperationException e) {
+            assertTrue( intents.isEmpty());
+        }
+        assertTrue( isAsserted( "Pepper", "Robot")); // written anyway
+    }
+
+    @Test
+    public void fullTest() {
+        DescriptorBatch batch = batch( "Nao", "Robot");
+        List<Axiom.MappingIntent> intents = batch.writeAxiomsReasonReadAxioms();
+        assertFalse( intents.isEmpty());
+        assertTrue( intents.add( null)); // a new list
+        assertTrue( isAsserted( "Nao", "Robot"));
+    }
+
+    private static DescriptorBatch batch(String individual, String type){
+        TypeIndividualDesc d = new TypeIndividualDesc( individual, ontology);
+        d.addTypeIndividual( type);
+        return new DescriptorBatch().add( d);
+    }
+
+    private static boolean isAsserted(String individual, String type){
+        return ontology.getOWLOntology().containsAxiom( ontology.getOWLFactory().getOWLClassAssertionAxiom(
+                ontology.getOWLClass( type), ontology.getOWLIndividual( individual)));
+    }
+}